@@ -0,0 +1,41 @@
+package com.riskview.realty;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 애플리케이션 실행(인메모리 H2, 로그는 경고 이상만)
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * @param database H2 데이터베이스 이름(벤치마크마다 다르게 지정)
+     * @param extraArgs 추가 설정(--key=value)
+     */
+    public static ConfigurableApplicationContext start(String database, String... extraArgs) {
+        // 명령행 인자로 넘겨 db.properties의 데이터베이스 설정보다 우선 적용
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.show-sql=false",
+                "--server.port=0",
+                "--realty.password.bcrypt.cost=4",
+                "--realty.mail.outbox.poll-interval=1h",
+                "--logging.level.root=WARN",
+                "--logging.level.com.riskview.realty=WARN",
+                "--logging.level.org.hibernate=WARN",
+                "--logging.level.org.springframework.jdbc=WARN",
+                "--logging.level.org.springframework.security=WARN",
+                "--logging.level.org.springframework.web=WARN"));
+        args.addAll(List.of(extraArgs));
+        return new SpringApplicationBuilder(RealtyApplication.class).run(args.toArray(String[]::new));
+    }
+}
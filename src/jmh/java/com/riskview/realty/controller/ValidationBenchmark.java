@@ -0,0 +1,102 @@
+package com.riskview.realty.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riskview.realty.support.ValidationRules;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원가입 요청 한 번에 실행되는 유효성 검사(UserController.validateField) 시간
+ * 규칙은 실제 규칙 파일(static/js/validation-rules.json)에서 읽음
+ * *Baseline은 이전 방식(요청마다 Map에서 규칙을 꺼내 형변환하고 String.matches로 정규식을 컴파일)과의 비교용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+    private UserController controller;
+    private Map<String, Object> legacyRules; // 이전 UserController가 들고 있던 규칙 맵
+
+    @Setup
+    public void setUp() throws IOException {
+        context = new AnnotationConfigApplicationContext(ValidationRules.class);
+        controller = new UserController(null, null, context.getBean(ValidationRules.class));
+        try (InputStream inputStream = getClass().getResourceAsStream("/static/js/validation-rules.json")) {
+            legacyRules = new ObjectMapper().readValue(inputStream, new TypeReference<LinkedHashMap<String, Object>>() {});
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // 회원가입 처리와 같은 순서로 세 필드 검사
+    @Benchmark
+    public void validRegistration(Blackhole blackhole) {
+        blackhole.consume(controller.validateField("email", "someone@realty.local"));
+        blackhole.consume(controller.validateField("password", "Password1234!"));
+        blackhole.consume(controller.validateField("userId", "someone01"));
+    }
+
+    @Benchmark
+    public void invalidRegistration(Blackhole blackhole) {
+        blackhole.consume(controller.validateField("email", "someone@"));
+        blackhole.consume(controller.validateField("password", "short"));
+        blackhole.consume(controller.validateField("userId", "x"));
+    }
+
+    @Benchmark
+    public void validRegistrationBaseline(Blackhole blackhole) {
+        blackhole.consume(legacyValidateField("email", "someone@realty.local"));
+        blackhole.consume(legacyValidateField("password", "Password1234!"));
+        blackhole.consume(legacyValidateField("userId", "someone01"));
+    }
+
+    @Benchmark
+    public void invalidRegistrationBaseline(Blackhole blackhole) {
+        blackhole.consume(legacyValidateField("email", "someone@"));
+        blackhole.consume(legacyValidateField("password", "short"));
+        blackhole.consume(legacyValidateField("userId", "x"));
+    }
+
+    // ValidationRules 도입 전 UserController.validateField와 같은 처리
+    @SuppressWarnings("unchecked")
+    private String legacyValidateField(String fieldName, String value) {
+        if (legacyRules == null || !legacyRules.containsKey(fieldName)) {
+            return null;
+        }
+        Map<String, Object> rule = (Map<String, Object>) legacyRules.get(fieldName);
+        if ((boolean) rule.getOrDefault("required", false) && (value == null || value.isEmpty())) {
+            return (String) rule.get("message");
+        }
+        if (rule.containsKey("minLength") && value.length() < (int) rule.get("minLength")) {
+            return (String) rule.get("message");
+        }
+        if (rule.containsKey("maxLength") && value.length() > (int) rule.get("maxLength")) {
+            return (String) rule.get("message");
+        }
+        if (rule.containsKey("pattern") && !value.matches((String) rule.get("pattern"))) {
+            return (String) rule.get("message");
+        }
+        return null;
+    }
+}
@@ -0,0 +1,59 @@
+package com.riskview.realty.domain;
+
+import com.riskview.realty.model.RolePermission;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 권한 조회(CustomUserDetails.getAuthorities) 시간
+ * 요청마다 hasRole/hasAuthority 검사에서 호출되므로 권한 목록 조회와 검색을 함께 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthoritiesBenchmark {
+
+    @Param({"user", "admin"})
+    public String role;
+
+    private CustomUserDetails details;
+
+    @Setup
+    public void setUp() {
+        boolean admin = "admin".equals(role);
+        RolePermission permission = new RolePermission();
+        permission.setRole(role);
+        permission.setCanUpload(true);
+        permission.setCanDelete(admin);
+        permission.setCanManageUsers(admin);
+        permission.setCanViewAllDocs(admin);
+        details = new CustomUserDetails(1L, "benchuser", "benchuser@realty.local", "{bcrypt}hash", "bench",
+                new RoleAuthority(permission), true, "U00000001");
+    }
+
+    @Benchmark
+    public Object getAuthorities() {
+        return details.getAuthorities();
+    }
+
+    // hasRole('ADMIN')과 같은 방식으로 권한 목록을 검색
+    @Benchmark
+    public boolean hasAdminRole() {
+        for (GrantedAuthority authority : details.getAuthorities()) {
+            if ("ROLE_ADMIN".equals(authority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,31 @@
+package com.riskview.realty.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 코드 생성(User.generateUserCode) 시간
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserCodeBenchmark {
+
+    @Param({"7", "12345678"})
+    public long codeNumber;
+
+    private final User user = new User();
+
+    @Benchmark
+    public String generateUserCode() {
+        user.generateUserCode(codeNumber);
+        return user.getUserCode();
+    }
+}
@@ -0,0 +1,90 @@
+package com.riskview.realty.service;
+
+import com.riskview.realty.BenchmarkApplication;
+import com.riskview.realty.domain.repository.RolePermissionRepository;
+import com.riskview.realty.domain.repository.UserRepository;
+import com.riskview.realty.model.User;
+import com.riskview.realty.support.UserAuthCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 사용자 조회(CustomUserDetailsService.loadUserByUsername) 시간
+ * 인메모리 데이터베이스(H2)로 애플리케이션 전체를 띄우고, 캐시에 있는 경우와 없는 경우(데이터베이스 조회)를 나누어 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoadUserBenchmark {
+
+    private static final int USERS = 1000;
+
+    private ConfigurableApplicationContext context;
+    private CustomUserDetailsService userDetailsService;
+    private UserAuthCache userAuthCache;
+    private String[] userIds;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("loaduser", "--realty.auth-cache.max-size=" + USERS);
+        userDetailsService = context.getBean(CustomUserDetailsService.class);
+        userAuthCache = context.getBean(UserAuthCache.class);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        RolePermissionRepository rolePermissionRepository = context.getBean(RolePermissionRepository.class);
+        String passwordHash = context.getBean(PasswordEncoder.class).encode("password1234");
+        List<User> users = new ArrayList<>(USERS);
+        userIds = new String[USERS];
+        for (int i = 0; i < USERS; i++) {
+            User user = new User();
+            user.setUserId("bench" + i);
+            user.generateUserCode(i + 1);
+            user.setUserNickname("bench" + i);
+            user.setEmail("bench" + i + "@realty.local");
+            user.setName("bench" + i);
+            user.setPasswordHash(passwordHash);
+            user.setRole(rolePermissionRepository.getReferenceById("user"));
+            users.add(user);
+            userIds[i] = user.getUserId();
+        }
+        userRepository.saveAll(users);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // 캐시에 있는 사용자(로그인 직후 다시 조회하는 경우)
+    @Benchmark
+    public UserDetails cached() {
+        return userDetailsService.loadUserByUsername(randomUserId());
+    }
+
+    // 캐시에 없는 사용자(데이터베이스 조회 한 번)
+    @Benchmark
+    public UserDetails uncached() {
+        String userId = randomUserId();
+        userAuthCache.invalidate(userId);
+        return userDetailsService.loadUserByUsername(userId);
+    }
+
+    private String randomUserId() {
+        return userIds[ThreadLocalRandom.current().nextInt(USERS)];
+    }
+}
@@ -0,0 +1,139 @@
+package com.riskview.realty.service;
+
+import com.riskview.realty.BenchmarkApplication;
+import com.riskview.realty.domain.UserSearchResult;
+import com.riskview.realty.domain.dto.UserSearchDTO;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 관리 화면 검색(UserSearchService.search)의 페이지 위치별 조회 시간
+ * 사용자 100만 명을 넣어 두고 1, 100, 10000번째 페이지를 조회하여 페이지 위치와 관계없이 조회 시간이 일정한지 확인
+ * 사용자 ID 앞부분 일치 검색은 일치하는 사용자가 적은 경우(u12345, 11명)와 많은 경우(u1, 약 11만 명)를 비교
+ * 앞부분 일치는 user_seq 순서를 함께 주는 인덱스가 없어 기본 키 순서로 읽으며 거르므로, 일치하는 사용자가 적을수록 느려짐
+ * (일치하는 사용자가 page번째 페이지보다 적으면 첫 페이지를 조회)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class UserSearchBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int BATCH = 10_000;
+    private static final String SELECTIVE_PREFIX = "u12345";
+    private static final String BROAD_PREFIX = "u1";
+
+    @Param({"1000000"})
+    public int users;
+
+    @Param({"1", "100", "10000"})
+    public int page;
+
+    private ConfigurableApplicationContext context;
+    private UserSearchService userSearchService;
+    private long allCursor; // 전체 검색에서 page번째 페이지 직전의 userSeq
+    private long activeCursor; // 탈퇴하지 않은 사용자 검색에서 page번째 페이지 직전의 userSeq
+    private long selectiveCursor; // 사용자 ID가 u12345로 시작하는 사용자 검색에서 page번째 페이지 직전의 userSeq
+    private long broadCursor; // 사용자 ID가 u1로 시작하는 사용자 검색에서 page번째 페이지 직전의 userSeq
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("usersearch");
+        userSearchService = context.getBean(UserSearchService.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        seed(jdbcTemplate);
+
+        long skipped = (long) (page - 1) * PAGE_SIZE;
+        allCursor = skipped;
+        activeCursor = page == 1 ? 0 : jdbcTemplate.queryForObject(
+                "SELECT user_seq FROM users WHERE is_deleted = FALSE ORDER BY user_seq LIMIT 1 OFFSET ?",
+                Long.class, skipped - 1);
+        selectiveCursor = prefixCursor(jdbcTemplate, SELECTIVE_PREFIX, skipped);
+        broadCursor = prefixCursor(jdbcTemplate, BROAD_PREFIX, skipped);
+    }
+
+    private long prefixCursor(JdbcTemplate jdbcTemplate, String prefix, long skipped) {
+        if (page == 1) {
+            return 0;
+        }
+        List<Long> cursor = jdbcTemplate.queryForList(
+                "SELECT user_seq FROM users WHERE user_id LIKE ? ORDER BY user_seq LIMIT 1 OFFSET ?",
+                Long.class, prefix + "%", skipped - 1);
+        return cursor.isEmpty() ? 0 : cursor.get(0);
+    }
+
+    // 10명 중 1명은 탈퇴, 1000명 중 1명은 관리자
+    private void seed(JdbcTemplate jdbcTemplate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 1; from <= users; from += BATCH) {
+            List<Object[]> rows = new ArrayList<>(BATCH);
+            for (int seq = from; seq < from + BATCH && seq <= users; seq++) {
+                rows.add(new Object[] {seq, String.format("U%08d", seq), "u" + seq, "n" + seq,
+                        "u" + seq + "@realty.local", "{bcrypt}hash", "user" + seq,
+                        seq % 1000 == 0 ? "admin" : "user", seq % 10 == 0, now});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO users (user_seq, user_code, user_id, user_nickname, email, "
+                    + "password_hash, name, role, is_deleted, created_at, version) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)", rows);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserSearchResult keyset() {
+        return userSearchService.search(condition(null, allCursor));
+    }
+
+    // 사용자 관리 화면 기본 조건(탈퇴하지 않은 사용자)
+    @Benchmark
+    public UserSearchResult keysetActiveOnly() {
+        return userSearchService.search(condition(false, activeCursor));
+    }
+
+    // 사용자 ID 앞부분이 일치하는 사용자가 적은 경우
+    @Benchmark
+    public UserSearchResult prefixSelective() {
+        UserSearchDTO condition = condition(null, selectiveCursor);
+        condition.setUserId(SELECTIVE_PREFIX);
+        return userSearchService.search(condition);
+    }
+
+    // 사용자 ID 앞부분이 일치하는 사용자가 많은 경우
+    @Benchmark
+    public UserSearchResult prefixBroad() {
+        UserSearchDTO condition = condition(null, broadCursor);
+        condition.setUserId(BROAD_PREFIX);
+        return userSearchService.search(condition);
+    }
+
+    private static UserSearchDTO condition(Boolean deleted, long after) {
+        UserSearchDTO condition = new UserSearchDTO();
+        condition.setDeleted(deleted);
+        condition.setAfter(after == 0 ? null : after);
+        condition.setSize(PAGE_SIZE);
+        return condition;
+    }
+}
@@ -0,0 +1,27 @@
+package com.riskview.realty.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증코드 생성(UserService.generateVerificationCode) 시간
+ * 필드를 사용하지 않는 메서드이므로 의존성 없이 생성한 UserService로 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VerificationCodeBenchmark {
+
+    private final UserService userService = new UserService();
+
+    @Benchmark
+    public String generateVerificationCode() {
+        return userService.generateVerificationCode();
+    }
+}
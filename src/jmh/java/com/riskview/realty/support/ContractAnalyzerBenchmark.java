@@ -0,0 +1,104 @@
+package com.riskview.realty.support;
+
+import com.riskview.realty.domain.ContractAnalysisResult;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계약서 분석 파이프라인(텍스트 추출 → 조항 분리 → 위험 키워드 점수 계산) 처리량
+ * 조항 문장을 무작위로 조합한 합성 계약서 묶음을 차례로 분석하며, 계약서 수(ops/s)와 함께 초당 처리 바이트(bytes) 기록
+ * 규칙은 실제 사전(analysis/risk-rules.json)에서 읽음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ContractAnalyzerBenchmark {
+
+    private static final int CORPUS_SIZE = 64;
+
+    // 위험 키워드가 없는 문장
+    private static final String[] PLAIN = {
+            "임대인은 임대차 기간 동안 목적물을 사용, 수익에 필요한 상태로 유지하여야 한다.",
+            "임차인은 차임을 매월 말일에 임대인이 지정한 계좌로 지급한다.",
+            "관리비는 실제 사용량에 따라 임차인이 부담한다.",
+            "이 계약에 정하지 않은 사항은 민법 및 주택임대차보호법에 따른다.",
+            "임차인은 임대인의 동의 없이 목적물을 전대하거나 임차권을 양도할 수 없다."
+    };
+    // 위험 키워드가 있는 문장
+    private static final String[] RISKY = {
+            "임대인은 새로운 임차인이 입주한 후 보증금을 반환한다.",
+            "본 건물에는 선순위 근저당이 설정되어 있으며 채권최고액은 별지와 같다.",
+            "임차인은 계약갱신요구권을 포기한다.",
+            "임차인이 계약을 위반한 경우 위약금으로 보증금의 10%를 지급한다.",
+            "퇴거 시 임차인은 원상복구 비용을 부담한다.",
+            "임대인은 언제든지 계약을 해지할 수 있다."
+    };
+
+    // 계약서 하나의 조항 수(작은 계약서, 큰 계약서)
+    @Param({"20", "2000"})
+    private int clauses;
+
+    private ContractAnalyzer analyzer;
+    private byte[][] corpus;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        RiskRules riskRules = new RiskRules(new DefaultResourceLoader(), "classpath:analysis/risk-rules.json");
+        riskRules.load();
+        analyzer = new ContractAnalyzer(riskRules, 4000, 100);
+
+        Random random = new Random(42);
+        corpus = new byte[CORPUS_SIZE][];
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            StringBuilder contract = new StringBuilder("부동산 임대차 계약서\n\n");
+            for (int clause = 1; clause <= clauses; clause++) {
+                contract.append("제").append(clause).append("조 (조항 ").append(clause).append(")\n");
+                int sentences = 2 + random.nextInt(6);
+                for (int s = 0; s < sentences; s++) {
+                    // 문장 열 개 중 하나 정도만 위험 키워드 포함
+                    String[] pool = random.nextInt(10) == 0 ? RISKY : PLAIN;
+                    contract.append(pool[random.nextInt(pool.length)]).append('\n');
+                }
+            }
+            corpus[i] = contract.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * 초당 처리 바이트
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Benchmark
+    public ContractAnalysisResult analyze(Bytes counter) throws IOException {
+        byte[] contract = corpus[next++ & (CORPUS_SIZE - 1)];
+        counter.bytes += contract.length;
+        return analyzer.analyze(new ByteArrayInputStream(contract));
+    }
+}
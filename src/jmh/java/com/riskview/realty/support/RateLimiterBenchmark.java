@@ -0,0 +1,56 @@
+package com.riskview.realty.support;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 횟수 제한 확인(RateLimiter.tryAcquire) 시간
+ * 로그인, 인증코드 요청마다 키 두 개(IP, 사용자)를 확인하므로 요청당 비용은 이 값의 두 배
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateLimiterBenchmark {
+
+    private static final int KEYS = 10_000;
+
+    private RateLimiter limiter;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        limiter = RateLimiter.parse("30/1m", 100_000);
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    // 같은 키에 요청이 몰리는 경우(대부분 거절)
+    @Benchmark
+    public long hotKey() {
+        return limiter.tryAcquire(keys[0]);
+    }
+
+    // 여러 클라이언트에 요청이 고르게 분산된 경우
+    @Benchmark
+    public long spreadKeys() {
+        return limiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(KEYS)]);
+    }
+
+    // 여러 요청 스레드가 같은 키를 동시에 갱신하는 경우(CAS 경합)
+    @Benchmark
+    @Threads(4)
+    public long contendedHotKey() {
+        return limiter.tryAcquire(keys[0]);
+    }
+}
@@ -0,0 +1,48 @@
+package com.riskview.realty.config;
+
+import com.riskview.realty.support.SqlStatsListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+
+/**
+ * 데이터소스 프록시 설정
+ * 모든 SQL 실행을 SqlStatsListener에 알려 요청별 SQL 수, 행 수, 실행 시간을 셈
+ */
+@Configuration
+@ConditionalOnProperty(name = "realty.sql.stats.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceProxyConfig {
+
+    /**
+     * 데이터소스 빈을 프록시로 감싸는 후처리기
+     * 다른 빈보다 먼저 만들어져야 하므로 static 메서드로 등록
+     * @param environment realty.sql.stats.count-rows(조회한 행 수 집계 여부, ResultSet까지 프록시하므로 비용이 있음)
+     */
+    @Bean
+    public static BeanPostProcessor sqlStatsDataSourcePostProcessor(Environment environment) {
+        boolean countRows = environment.getProperty("realty.sql.stats.count-rows", Boolean.class, true);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                SqlStatsListener listener = new SqlStatsListener();
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(listener);
+                if (countRows) {
+                    builder.proxyResultSet().methodListener(listener);
+                }
+                return builder.build();
+            }
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package com.riskview.realty.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스
+ * 이메일 아웃박스 디스패처 등 @Scheduled 작업을 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,28 +1,43 @@
 package com.riskview.realty.config;
 
-import com.riskview.realty.service.CustomUserDetailsService;
 import com.riskview.realty.support.CustomAuthenticationFailureHandler;
 import com.riskview.realty.support.CustomAuthenticationSuccessHandler;
+import com.riskview.realty.support.BCryptCostCalibrator;
+import com.riskview.realty.support.BoundedPasswordEncoder;
+import com.riskview.realty.support.TimedPasswordEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.session.SessionRegistry;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.security.SpringSessionBackedSessionRegistry;
+
+import java.time.Duration;
+import java.util.Map;
 
 @Configuration // Spring 설정 클래스라는 의미임
 @EnableWebSecurity // SpringSecurity 웹 보안 설정 활성화
+@EnableMethodSecurity // 컨트롤러 메서드의 @PreAuthorize 권한 체크 활성화
 public class SecurityConfig {
+    private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
 
-    // 사용자 인증 관련 서비스를 제공하는 클래스
-    private final CustomUserDetailsService customUserDetailsService;
-
-    // 보안 설정에서 사용자 인증을 처리하기 위해 생성자 주입
-    public SecurityConfig(CustomUserDetailsService customUserDetailsService) {
-        this.customUserDetailsService = customUserDetailsService;
-    }
+    // 새로 만드는 해시의 접두어({bcrypt}), 형식이나 알고리즘을 바꿀 때 새 ID를 추가
+    private static final String PASSWORD_ENCODING_ID = "bcrypt";
 
     @Autowired
     private CustomAuthenticationFailureHandler customAuthenticationFailureHandler;
@@ -32,10 +47,12 @@ public class SecurityConfig {
 
     // 로그인 여부 및 권한에 따라 URL 접근 제어
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, SessionRegistry sessionRegistry) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
-            .userDetailsService(customUserDetailsService) // 사용자 권한, 인증 관련 서비스를 제공
+            // 사용자 인증은 CustomUserDetailsService 빈으로 구성되는 전역 AuthenticationManager가 처리
+            // (여기서 userDetailsService를 다시 지정하면 인증 실패 시 전역 매니저로 한 번 더 시도하여
+            //  사용자 조회와 비밀번호 검사가 두 번씩 실행됨)
             .authorizeHttpRequests(authorize -> authorize
                 .requestMatchers("/user/login", 
                                 "/user/register", 
@@ -51,6 +68,8 @@ public class SecurityConfig {
                                 "/board/**",
                                 "/static/**")
                                 .permitAll() // 모든 사람이 접근 가능
+                // 상태 확인과 Prometheus 수집(운영에서는 내부망에서만 접근 가능한 management.server.port로 분리)
+                .requestMatchers(EndpointRequest.to(HealthEndpoint.class, PrometheusScrapeEndpoint.class)).permitAll()
                 .requestMatchers("/admin/**").hasRole("ADMIN") // ADMIN 역할만 접근 가능
                 .anyRequest().authenticated() // 나머지는 전부 로그인한 사람만 접근 가능
             )
@@ -66,20 +85,68 @@ public class SecurityConfig {
             .logout(logout -> logout
                 .logoutSuccessUrl("/user/login?logout") // 로그아웃 성공 시 이동할 URL
                 .invalidateHttpSession(true) // 세션 무효화
-                .deleteCookies("JSESSIONID") // 쿠키 삭제
+                .deleteCookies("SESSION") // 쿠키 삭제(Spring Session 세션 쿠키)
                 .permitAll())
             .sessionManagement(session -> session
                 .invalidSessionUrl("/user/login?expired") // 세션 만료 시 이동할 URL
                 .maximumSessions(1) // 동시 로그인 허용 개수
                 .maxSessionsPreventsLogin(false)
+                .sessionRegistry(sessionRegistry) // 세션 저장소 기준으로 확인하므로 다른 서버의 세션도 포함
             );
         return http.build();
     }
 
-        // 비밀번호 암호화를 위한 빈
+    // 동시 로그인 제한에 사용할 세션 레지스트리
+    // 서버 메모리 대신 공유 세션 저장소(SPRING_SESSION)에서 사용자별 세션을 조회
+    @Bean
+    public SessionRegistry sessionRegistry(FindByIndexNameSessionRepository<? extends Session> sessionRepository) {
+        return new SpringSessionBackedSessionRegistry<>(sessionRepository);
+    }
+
+    /**
+     * 비밀번호 암호화를 위한 빈
+     * 해싱은 요청 스레드가 아닌 전용 스레드 풀에서 실행되어, 로그인이 몰려도 다른 요청이 CPU를 쓸 수 있음
+     * @param hashTimer 실제 해싱을 수행하고 시간을 기록하는 PasswordEncoder
+     * @param threads 해싱 스레드 수(0이면 CPU 코어 수)
+     * @param queueCapacity 대기열 크기(0이면 스레드 수의 8배)
+     * @param maxWait 해싱 결과를 기다리는 최대 시간
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        // 비밀번호 해싱에 사용됨
-        return new BCryptPasswordEncoder();
+    @Primary
+    public BoundedPasswordEncoder passwordEncoder(TimedPasswordEncoder hashTimer,
+                                                  @Value("${realty.crypto.threads:0}") int threads,
+                                                  @Value("${realty.crypto.queue-capacity:0}") int queueCapacity,
+                                                  @Value("${realty.crypto.max-wait:5s}") Duration maxWait) {
+        if (threads <= 0) {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        if (queueCapacity <= 0) {
+            queueCapacity = threads * 8;
+        }
+        return new BoundedPasswordEncoder(hashTimer, threads, queueCapacity, maxWait);
+    }
+
+    /**
+     * 실제 해싱을 수행하는 PasswordEncoder
+     * 해시 앞에 {bcrypt} 같은 ID를 붙여 저장하고, ID가 없는 기존 해시는 기본 BCrypt로 검증
+     * cost가 설정보다 낮거나 ID가 없는 해시는 로그인 성공 시 다시 해싱됨(CustomUserDetailsService.updatePassword)
+     * @param cost 고정 cost(0이면 서버 성능에 맞춰 계산, 여러 서버가 같은 값을 쓰도록 운영에서는 고정 권장)
+     * @param targetTime 검증 한 번의 목표 시간(cost 계산 시 사용)
+     */
+    @Bean
+    public TimedPasswordEncoder passwordHashTimer(@Value("${realty.password.bcrypt.cost:0}") int cost,
+                                                @Value("${realty.password.target-time:250ms}") Duration targetTime,
+                                                @Value("${realty.password.bcrypt.min-cost:10}") int minCost,
+                                                @Value("${realty.password.bcrypt.max-cost:14}") int maxCost) {
+        if (cost <= 0) {
+            cost = BCryptCostCalibrator.calibrate(targetTime, minCost, maxCost);
+            log.info("password.calibration cost={} targetMs={}", cost, targetTime.toMillis());
+        }
+
+        Map<String, PasswordEncoder> encoders = Map.of(PASSWORD_ENCODING_ID, new BCryptPasswordEncoder(cost));
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(PASSWORD_ENCODING_ID, encoders);
+        // 접두어 없이 저장된 기존 해시 검증용
+        delegating.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return new TimedPasswordEncoder(delegating);
     }
 }
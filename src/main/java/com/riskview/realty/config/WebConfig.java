@@ -1,7 +1,10 @@
 package com.riskview.realty.config;
 
+import com.riskview.realty.support.SqlBudgetInterceptor;
+
 import org.springframework.context.annotation.Configuration;
 import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -29,4 +32,14 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addResourceHandler("/images/**")
                 .addResourceLocations("classpath:/static/images/");
     }
+
+    /**
+     * 인터셉터를 등록하는 메서드
+     * @param registry 인터셉터를 등록할 registry
+     */
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        // 컨트롤러 메서드별 SQL 예산(@SqlBudget) 확인
+        registry.addInterceptor(new SqlBudgetInterceptor());
+    }
 }
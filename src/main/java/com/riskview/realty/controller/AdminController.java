@@ -1,9 +1,40 @@
 package com.riskview.realty.controller;
 
+import com.riskview.realty.domain.UserBulkResult;
+import com.riskview.realty.domain.UserSearchResult;
+import com.riskview.realty.domain.dto.UserBulkDTO;
+import com.riskview.realty.domain.dto.UserSearchDTO;
+import com.riskview.realty.model.Document;
+import com.riskview.realty.service.DocumentService;
+import com.riskview.realty.service.RolePermissionRegistry;
+import com.riskview.realty.service.UserBulkService;
+import com.riskview.realty.service.UserExportService;
+import com.riskview.realty.service.UserSearchService;
+import com.riskview.realty.support.SqlBudget;
+import com.riskview.realty.support.SqlStatsRegistry;
+import com.riskview.realty.support.TimedPasswordEncoder;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 /**
  * 관리자 컨트롤러
@@ -12,16 +43,43 @@ import org.springframework.web.bind.annotation.RequestMapping;
 @RequestMapping("/admin")
 public class AdminController {
 
+    private static final DateTimeFormatter EXPORT_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final RolePermissionRegistry rolePermissionRegistry;
+    private final TimedPasswordEncoder passwordEncoder;
+    private final SqlStatsRegistry sqlStatsRegistry;
+    private final UserSearchService userSearchService;
+    private final UserExportService userExportService;
+    private final UserBulkService userBulkService;
+    private final DocumentService documentService;
+
+    public AdminController(RolePermissionRegistry rolePermissionRegistry, TimedPasswordEncoder passwordEncoder,
+                           SqlStatsRegistry sqlStatsRegistry, UserSearchService userSearchService,
+                           UserExportService userExportService, UserBulkService userBulkService,
+                           DocumentService documentService) {
+        this.rolePermissionRegistry = rolePermissionRegistry;
+        this.passwordEncoder = passwordEncoder;
+        this.sqlStatsRegistry = sqlStatsRegistry;
+        this.userSearchService = userSearchService;
+        this.userExportService = userExportService;
+        this.userBulkService = userBulkService;
+        this.documentService = documentService;
+    }
+
     /**
      * 관리자 페이지
      * PreAuthorize : 메서드 실행 전에 권한 체크
      * hasRole('ADMIN') : ADMIN 권한을 가진 사용자만 접근 가능
      * principal : 현재 로그인한 사용자 정보
+     * @param model 비밀번호 해시 시간 통계(로그인 처리 용량 산정용)
      * @return 관리자 페이지
      */
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')") // 
-    public String adminPage() {
+    @SqlBudget(0)
+    public String adminPage(Model model) {
+        model.addAttribute("hashMatches", passwordEncoder.getMatchesStats());
+        model.addAttribute("hashEncode", passwordEncoder.getEncodeStats());
         return "admin/admin";
     }
 
@@ -30,24 +88,123 @@ public class AdminController {
      * PreAuthorize : 메서드 실행 전에 권한 체크
      * hasRole('ADMIN') : ADMIN 권한을 가진 사용자만 접근 가능
      * principal : 현재 로그인한 사용자 정보
+     * @param condition 검색 조건(after: 이전 페이지의 마지막 userSeq)
+     * @param model 검색 결과
      * @return 사용자 관리 페이지
      */
     @GetMapping("/manage-users")
     @PreAuthorize("hasRole('ADMIN') and principal.canManageUsers")
-    public String manageUsersPage() {
+    @SqlBudget(1) // 사용자 목록 조회
+    public String manageUsersPage(@ModelAttribute("condition") UserSearchDTO condition, Model model) {
+        model.addAttribute("result", userSearchService.search(condition));
         return "admin/manage_users";
     }
+
+    /**
+     * 사용자 검색(JSON)
+     * 다음 페이지는 응답의 nextCursor를 after로 넘겨 조회
+     * @param condition 검색 조건
+     * @return 사용자 목록과 다음 페이지 기준 값
+     */
+    @GetMapping("/users")
+    @PreAuthorize("hasRole('ADMIN') and principal.canManageUsers")
+    @SqlBudget(1)
+    @ResponseBody
+    public UserSearchResult searchUsers(UserSearchDTO condition) {
+        return userSearchService.search(condition);
+    }
+
+    /**
+     * 사용자 일괄 변경(JSON)
+     * 탈퇴 처리, 탈퇴 취소, 역할 변경을 userSeq 목록이나 검색 조건으로 지정한 사용자에게 한 번에 적용
+     * @param request 변경 작업과 대상
+     * @return 대상 사용자 수, 실제로 바뀐 사용자 수, 처리 시간
+     */
+    @PostMapping("/users/bulk")
+    @PreAuthorize("hasRole('ADMIN') and principal.canManageUsers")
+    @SqlBudget(SqlBudget.UNBOUNDED) // 묶음마다 조회 + UPDATE
+    @ResponseBody
+    public UserBulkResult bulkUpdateUsers(@RequestBody UserBulkDTO request) {
+        try {
+            return userBulkService.execute(request);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자 목록 내보내기(CSV, NDJSON 파일 다운로드)
+     * 목록을 메모리에 모으지 않고 조회한 행을 바로 응답 스트림에 쓰므로 사용자 수와 관계없이 메모리 사용량이 일정함
+     * @param format 내보내기 형식(csv, ndjson)
+     * @param role 역할 이름(생략하면 전체)
+     * @param deleted 탈퇴 여부(생략하면 전체)
+     */
+    @GetMapping("/users/export")
+    @PreAuthorize("hasRole('ADMIN') and principal.canManageUsers")
+    @SqlBudget(1) // 사용자 목록 조회(커서)
+    public void exportUsers(@RequestParam(defaultValue = "csv") String format,
+                            @RequestParam(required = false) String role,
+                            @RequestParam(required = false) Boolean deleted,
+                            HttpServletResponse response) throws IOException {
+        UserExportService.Format exportFormat;
+        try {
+            exportFormat = UserExportService.Format.from(format);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+
+        String filename = "users-" + LocalDateTime.now().format(EXPORT_TIMESTAMP) + "." + exportFormat.getExtension();
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        userExportService.export(role, deleted, exportFormat, response.getOutputStream());
+    }
     
     /**
      * 모든 문서 조회 페이지
      * PreAuthorize : 메서드 실행 전에 권한 체크
      * hasRole('ADMIN') : ADMIN 권한을 가진 사용자만 접근 가능
      * principal : 현재 로그인한 사용자 정보
+     * @param before 이 documentSeq 이전 문서부터 조회(첫 페이지는 생략)
+     * @param model 문서 목록(최신순)
      * @return 모든 문서 조회 페이지
      */
     @GetMapping("/view-all-docs")
     @PreAuthorize("hasRole('ADMIN') and principal.canViewAllDocs")
-    public String viewAllDocsPage() {
+    @SqlBudget(1) // 문서 목록
+    public String viewAllDocsPage(@RequestParam(required = false) Long before, Model model) {
+        List<Document> documents = documentService.findAll(before);
+        model.addAttribute("documents", documents);
+        model.addAttribute("nextBefore", documents.isEmpty() ? null : documents.get(documents.size() - 1).getDocumentSeq());
         return "admin/view_all_docs";
     }
+
+    /**
+     * 역할 권한 다시 불러오기
+     * role_permissions 테이블을 직접 수정한 뒤 재시작 없이 반영할 때 사용
+     * @return 관리자 페이지
+     */
+    @PostMapping("/roles/refresh")
+    @PreAuthorize("hasRole('ADMIN') and principal.canManageUsers")
+    @SqlBudget(1) // role_permissions 전체 조회
+    public String refreshRoles(RedirectAttributes redirectAttributes) {
+        int count = rolePermissionRegistry.refresh();
+        redirectAttributes.addFlashAttribute("successMessage", "역할 권한 " + count + "개를 다시 불러왔습니다.");
+        return "redirect:/admin";
+    }
+
+    /**
+     * 엔드포인트별 SQL 통계(JSON)
+     * 요청당 SQL 수, 읽거나 변경한 행 수, SQL 실행 시간을 엔드포인트별로 누적한 값
+     * @return 요청당 평균 SQL 수가 많은 순으로 정렬된 통계
+     */
+    @GetMapping("/sql-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    @SqlBudget(0)
+    @ResponseBody
+    public List<SqlStatsRegistry.EndpointSqlStats> sqlStats() {
+        return sqlStatsRegistry.snapshot();
+    }
 }
@@ -0,0 +1,88 @@
+package com.riskview.realty.controller;
+
+import com.riskview.realty.domain.AnalysisJobStatus;
+import com.riskview.realty.domain.CustomUserDetails;
+import com.riskview.realty.model.AnalysisFinding;
+import com.riskview.realty.model.AnalysisJob;
+import com.riskview.realty.service.ContractAnalysisService;
+import com.riskview.realty.support.SqlBudget;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 계약서 분석 컨트롤러
+ * 분석 요청은 대기열에 넣고 바로 반환하며, 화면(contract-analysis.js)이 작업 상태를 주기적으로 조회하여 결과 표시
+ */
+@Controller
+@RequestMapping("/board/analysis")
+public class AnalysisController {
+
+    private final ContractAnalysisService contractAnalysisService;
+
+    public AnalysisController(ContractAnalysisService contractAnalysisService) {
+        this.contractAnalysisService = contractAnalysisService;
+    }
+
+    /**
+     * /board/analysis 페이지
+     * 로그인한 사용자에게는 분석 요청 화면과 최근 분석 작업 목록 표시
+     */
+    @GetMapping
+    @SqlBudget(1) // 분석 작업 목록(로그인하지 않은 경우 SQL 없음)
+    public String analysis(@AuthenticationPrincipal CustomUserDetails user, Model model) {
+        model.addAttribute("jobs", user == null ? List.of() : contractAnalysisService.findRecent(user));
+        return "board/analysis";
+    }
+
+    /**
+     * 계약서 분석 요청
+     * principal.canUpload : 역할 권한의 can_upload(계약서는 문서로 저장됨)
+     */
+    @PostMapping
+    @PreAuthorize("isAuthenticated() and principal.canUpload")
+    @SqlBudget(3) // document_blobs 저장 + 문서 저장 + 분석 작업 저장
+    public String submit(@RequestParam("file") MultipartFile file, @AuthenticationPrincipal CustomUserDetails user,
+                         RedirectAttributes redirectAttributes) throws IOException {
+        try {
+            AnalysisJob job = contractAnalysisService.submit(user, file);
+            redirectAttributes.addFlashAttribute("message", "계약서 분석을 요청했습니다.");
+            redirectAttributes.addAttribute("job", job.getJobSeq());
+        } catch (IllegalArgumentException e) {
+            redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
+        }
+        return "redirect:/board/analysis";
+    }
+
+    /**
+     * 분석 작업 상태(JSON)
+     * 본인 작업이 아니면 모든 문서 조회 권한(can_view_all_docs)이 있어야 하며, 권한이 없으면 404
+     */
+    @GetMapping("/jobs/{jobSeq}")
+    @PreAuthorize("isAuthenticated()")
+    @SqlBudget(2) // 작업 조회 + 위험 조항 조회(분석이 끝난 경우)
+    @ResponseBody
+    public AnalysisJobStatus status(@PathVariable long jobSeq, @AuthenticationPrincipal CustomUserDetails user) {
+        AnalysisJob job = contractAnalysisService.findVisible(jobSeq, user)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        List<AnalysisFinding> findings = job.getStatus() == AnalysisJob.Status.DONE
+                ? contractAnalysisService.findFindings(job)
+                : List.of();
+        return AnalysisJobStatus.of(job, findings);
+    }
+}
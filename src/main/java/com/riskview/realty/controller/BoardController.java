@@ -1,5 +1,7 @@
 package com.riskview.realty.controller;
 
+import com.riskview.realty.support.SqlBudget;
+
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -7,6 +9,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 
 @Controller
 @RequestMapping("/board")
+@SqlBudget(0) // 정적 페이지만 제공하므로 SQL 없음
 public class BoardController {
     @GetMapping("/")
     public String board(Model model) {
@@ -21,14 +24,6 @@ public class BoardController {
         return "board/about";
     }
 
-    /**
-     * /board/analysis 페이지
-     */
-    @GetMapping("/analysis")
-    public String analysis(Model model) {
-        return "board/analysis";
-    }
-
     /**
      * /board/community 페이지
      */
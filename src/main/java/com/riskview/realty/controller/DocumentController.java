@@ -0,0 +1,198 @@
+package com.riskview.realty.controller;
+
+import com.riskview.realty.domain.CustomUserDetails;
+import com.riskview.realty.model.Document;
+import com.riskview.realty.service.DocumentService;
+import com.riskview.realty.support.SqlBudget;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 문서 컨트롤러(업로드, 목록, 다운로드, 삭제)
+ */
+@Controller
+@RequestMapping("/documents")
+public class DocumentController {
+    private static final Logger log = LoggerFactory.getLogger(DocumentController.class);
+
+    // Tomcat sendfile 요청 속성(커넥터가 응답 본문을 FileChannel.transferTo로 소켓에 직접 보냄)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final DocumentService documentService;
+
+    public DocumentController(DocumentService documentService) {
+        this.documentService = documentService;
+    }
+
+    /**
+     * 내 문서 목록과 업로드 화면
+     */
+    @GetMapping
+    @SqlBudget(1) // 문서 목록
+    public String list(@AuthenticationPrincipal CustomUserDetails user, Model model) {
+        model.addAttribute("documents", documentService.findMine(user));
+        return "document/list";
+    }
+
+    /**
+     * 문서 업로드
+     * principal.canUpload : 역할 권한의 can_upload
+     */
+    @PostMapping
+    @PreAuthorize("principal.canUpload")
+    @SqlBudget(2) // document_blobs 저장(참조 수 증가) + 문서 저장
+    public String upload(@RequestParam("file") MultipartFile file, @AuthenticationPrincipal CustomUserDetails user,
+                         RedirectAttributes redirectAttributes) throws IOException {
+        try {
+            Document document = documentService.upload(user, file);
+            redirectAttributes.addFlashAttribute("message", document.getOriginalName() + " 파일을 업로드했습니다.");
+        } catch (IllegalArgumentException e) {
+            redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
+        }
+        return "redirect:/documents";
+    }
+
+    /**
+     * 문서 다운로드
+     * 단일 범위 요청(Range: bytes=...)은 206으로 일부만 보내고, ETag(내용의 SHA-256)로 재전송을 줄임
+     * 본인 문서가 아니면 모든 문서 조회 권한(can_view_all_docs)이 있어야 하며, 권한이 없으면 404
+     */
+    @GetMapping("/{documentSeq}")
+    @SqlBudget(1) // 문서 조회
+    public void download(@PathVariable long documentSeq, @AuthenticationPrincipal CustomUserDetails user,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Optional<Document> found = documentService.findReadable(documentSeq, user);
+        if (found.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        Document document = found.get();
+
+        // 내용이 같으면 ETag도 같으므로 내용이 바뀌지 않았다면 304
+        String etag = "\"" + document.getSha256() + "\"";
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+
+        long length = document.getFileSize();
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        // If-Range가 현재 ETag와 다르면 내용이 바뀐 것이므로 전체를 보냄
+        if (range != null && length > 0 && (ifRange == null || ifRange.equals(etag))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(range);
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                    if (start >= length || end < start) {
+                        throw new IllegalArgumentException("Range not satisfiable: " + range);
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            // 여러 범위 요청은 지원하지 않으므로 전체를 보냄(RFC 9110에서 허용)
+            if (ranges.size() == 1) {
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        response.setContentType(document.getContentType());
+        // 업로드된 내용을 페이지로 열지 않도록 항상 다운로드로 처리
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(document.getOriginalName(), StandardCharsets.UTF_8).build().toString());
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setContentLengthLong(end - start + 1);
+
+        sendFile(request, response, documentService.contentPath(document), start, end - start + 1);
+    }
+
+    /**
+     * 문서 삭제
+     * principal.canDelete : 역할 권한의 can_delete
+     */
+    @PostMapping("/{documentSeq}/delete")
+    @PreAuthorize("principal.canDelete")
+    @SqlBudget(4) // 문서 조회 + 문서 삭제 + 참조 수 감소 + 참조 없는 내용 삭제
+    public String delete(@PathVariable long documentSeq, @AuthenticationPrincipal CustomUserDetails user,
+                         RedirectAttributes redirectAttributes) throws IOException {
+        if (documentService.delete(documentSeq, user)) {
+            redirectAttributes.addFlashAttribute("message", "문서를 삭제했습니다.");
+        } else {
+            redirectAttributes.addFlashAttribute("errorMessage", "문서를 찾을 수 없습니다.");
+        }
+        return "redirect:/documents";
+    }
+
+    /**
+     * 파일의 일부(position부터 count바이트)를 응답 본문으로 전송
+     * Tomcat NIO 커넥터에서는 sendfile 속성만 설정하고, 커넥터가 FileChannel.transferTo로 소켓에 직접 전송(사용자 공간 복사 없음)
+     * sendfile을 쓸 수 없으면(TLS, 다른 컨테이너, 테스트) FileChannel.transferTo로 응답 스트림에 씀
+     */
+    private static void sendFile(HttpServletRequest request, HttpServletResponse response, Path path,
+                                 long position, long count) throws IOException {
+        if (count == 0) {
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, position);
+            request.setAttribute(SENDFILE_END, position + count);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    log.warn("document.download.truncated path={} position={} remaining={}", path, position, remaining);
+                    throw new EOFException("Document file is shorter than expected: " + path);
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.riskview.realty.controller;
 
+import com.riskview.realty.support.SqlBudget;
+
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
 @Controller
+@SqlBudget(0)
 public class HomeController {
     /**
      * 홈 페이지
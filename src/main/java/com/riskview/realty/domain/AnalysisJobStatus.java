@@ -0,0 +1,28 @@
+package com.riskview.realty.domain;
+
+import com.riskview.realty.model.AnalysisFinding;
+import com.riskview.realty.model.AnalysisJob;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 계약서 분석 작업 상태(분석 화면이 완료될 때까지 주기적으로 조회)
+ * @param findings 위험 조항(분석이 끝난 경우에만 채움)
+ */
+public record AnalysisJobStatus(long jobSeq, AnalysisJob.Status status, int clauseCount, int findingCount,
+                                int riskScore, String riskLevel, long extractMillis, long segmentMillis,
+                                long scoreMillis, String lastError, LocalDateTime createdAt,
+                                LocalDateTime finishedAt, List<ContractAnalysisResult.Finding> findings) {
+
+    public static AnalysisJobStatus of(AnalysisJob job, List<AnalysisFinding> findings) {
+        return new AnalysisJobStatus(job.getJobSeq(), job.getStatus(), job.getClauseCount(), job.getFindingCount(),
+                job.getRiskScore(), job.getRiskLevel(), job.getExtractMillis(), job.getSegmentMillis(),
+                job.getScoreMillis(), job.getLastError(), job.getCreatedAt(), job.getFinishedAt(),
+                findings.stream()
+                        .map(finding -> new ContractAnalysisResult.Finding(finding.getClauseNo(),
+                                finding.getClauseTitle(), finding.getRuleId(), finding.getCategory(),
+                                finding.getKeyword(), finding.getWeight(), finding.getExcerpt()))
+                        .toList());
+    }
+}
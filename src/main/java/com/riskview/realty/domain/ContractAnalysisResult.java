@@ -0,0 +1,31 @@
+package com.riskview.realty.domain;
+
+import java.util.List;
+
+/**
+ * 계약서 분석 결과
+ * @param characters 읽은 글자 수
+ * @param clauseCount 나눈 조항 수
+ * @param findingCount 찾은 위험 조항 수(findings에 담지 못한 것 포함)
+ * @param riskScore 찾은 위험 조항 가중치 합계
+ * @param riskLevel 위험도(HIGH, MEDIUM, LOW)
+ * @param findings 가중치가 높은 위험 조항(최대 realty.analysis.max-findings개, 조항 순서)
+ * @param extractNanos 텍스트 추출(바이트를 문자로 디코딩) 시간
+ * @param segmentNanos 조항 분리 시간
+ * @param scoreNanos 위험 키워드 점수 계산 시간
+ */
+public record ContractAnalysisResult(long characters, int clauseCount, int findingCount, int riskScore,
+                                     String riskLevel, List<Finding> findings, long extractNanos,
+                                     long segmentNanos, long scoreNanos) {
+
+    /**
+     * 위험 조항
+     * @param clauseNo 조항 순번(1부터)
+     * @param clauseTitle 조항 제목(첫 줄)
+     * @param keyword 조항에서 찾은 키워드
+     * @param excerpt 키워드 주변 문장
+     */
+    public record Finding(int clauseNo, String clauseTitle, String ruleId, String category, String keyword,
+                          int weight, String excerpt) {
+    }
+}
@@ -1,31 +1,34 @@
 package com.riskview.realty.domain;
 
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.io.Serial;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Objects;
 
 /**
  * 사용자 인증 정보를 저장하는 클래스
  * Getter만 구현하여 생성된 이후에 값이 변경되는 걸 방지
+ * 인증이 끝나면 비밀번호 해시를 지워(eraseCredentials) 세션 저장소에 저장되지 않도록 함
  */
-public class CustomUserDetails implements UserDetails {
+public class CustomUserDetails implements UserDetails, CredentialsContainer {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     private Long userSeq; // 사용자 고유 식별자
     private String userId; // 사용자 ID
     private String email; // 사용자 이메일
     private String passwordHash; // 사용자 비밀번호
     private String name; // 사용자 이름
-    private String role; // 사용자 권한
+    private RoleAuthority role; // 사용자 권한(같은 역할의 사용자끼리 공유)
     private boolean enabled; // 사용자 활성화 상태
-    private boolean canManageUsers; // 사용자 관리 권한
-    private boolean canViewAllDocs; // 모든 문서 조회 권한
     private String userCode; // 사용자 코드
 
     // 인터페이스를 구현하는 클래스므로 수동으로 생성자 주입
-    public CustomUserDetails(Long userSeq, String userId,String email, String passwordHash, String name, String role, boolean enabled, boolean canManageUsers, boolean canViewAllDocs, String userCode) {
+    public CustomUserDetails(Long userSeq, String userId,String email, String passwordHash, String name, RoleAuthority role, boolean enabled, String userCode) {
         this.userSeq = userSeq; // userSeq는 데이터베이스에서 자동 생성되므로 null로 초기화
         this.userId = userId;
         this.email = email;
@@ -33,8 +36,6 @@ public class CustomUserDetails implements UserDetails {
         this.name = name;
         this.role = role;
         this.enabled = enabled;
-        this.canManageUsers = canManageUsers;
-        this.canViewAllDocs = canViewAllDocs;
         this.userCode = userCode;
     }
 
@@ -52,11 +53,10 @@ public class CustomUserDetails implements UserDetails {
         return name;
     }
 
-    // 권한 반환
+    // 권한 반환(RoleAuthority가 미리 만들어 둔 목록을 그대로 사용)
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        // 권한을 ROLE_으로 시작하는 문자열로 변환(예: USER -> ROLE_USER)
-        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()));
+        return role.getAuthorities();
     }
 
     // 패스워드 반환
@@ -65,10 +65,21 @@ public class CustomUserDetails implements UserDetails {
         return passwordHash;
     }
 
-    // 사용자 이름 반환
+    // 로그인 ID 반환(세션 저장소에서 사용자별 세션을 찾는 기준이므로 중복되지 않는 값이어야 함)
     @Override
     public String getUsername() {
-        return name;
+        return userId;
+    }
+
+    // 비밀번호 해시만 바꾼 복사본(로그인 시 다시 해싱한 경우)
+    public CustomUserDetails withPasswordHash(String newPasswordHash) {
+        return new CustomUserDetails(userSeq, userId, email, newPasswordHash, name, role, enabled, userCode);
+    }
+
+    // 인증 완료 후 비밀번호 해시 제거
+    @Override
+    public void eraseCredentials() {
+        passwordHash = null;
     }
 
     public String getEmail() {
@@ -99,18 +110,39 @@ public class CustomUserDetails implements UserDetails {
         return enabled;
     }
 
+    // 문서 업로드 권한 반환
+    public boolean getCanUpload() {
+        return role.isCanUpload();
+    }
+
+    // 문서 삭제 권한 반환
+    public boolean getCanDelete() {
+        return role.isCanDelete();
+    }
+
     // 사용자 관리 권한 반환
     public boolean getCanManageUsers() {
-        return canManageUsers;
+        return role.isCanManageUsers();
     }
 
     // 모든 문서 조회 권한 반환
     public boolean getCanViewAllDocs() {
-        return canViewAllDocs;
+        return role.isCanViewAllDocs();
     }
     
     // 사용자 코드 반환
     public String getUserCode() {
         return userCode;
     }
+
+    // 같은 로그인 ID면 같은 사용자(동시 로그인 제한에서 사용)
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof CustomUserDetails other && Objects.equals(userId, other.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(userId);
+    }
 }
@@ -0,0 +1,63 @@
+package com.riskview.realty.domain;
+
+import com.riskview.realty.model.RolePermission;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 역할별 권한 정보를 담은 불변 객체
+ * RolePermissionRegistry가 역할마다 하나씩만 만들고, 같은 역할의 사용자는 모두 같은 객체를 공유
+ * 로그인 정보(CustomUserDetails)와 함께 세션 저장소에 직렬화됨
+ */
+public final class RoleAuthority implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final String role; // 역할 이름
+    private final boolean canUpload; // 문서 업로드 권한
+    private final boolean canDelete; // 문서 삭제 권한
+    private final boolean canManageUsers; // 사용자 관리 권한
+    private final boolean canViewAllDocs; // 모든 문서 조회 권한
+    private final List<GrantedAuthority> authorities; // Spring Security 권한(ROLE_ 접두어)
+
+    public RoleAuthority(RolePermission permission) {
+        this.role = permission.getRole();
+        this.canUpload = permission.isCanUpload();
+        this.canDelete = permission.isCanDelete();
+        this.canManageUsers = permission.isCanManageUsers();
+        this.canViewAllDocs = permission.isCanViewAllDocs();
+        // 권한을 ROLE_으로 시작하는 문자열로 변환(예: USER -> ROLE_USER)
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()));
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public boolean isCanUpload() {
+        return canUpload;
+    }
+
+    public boolean isCanDelete() {
+        return canDelete;
+    }
+
+    public boolean isCanManageUsers() {
+        return canManageUsers;
+    }
+
+    public boolean isCanViewAllDocs() {
+        return canViewAllDocs;
+    }
+
+    public Collection<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+}
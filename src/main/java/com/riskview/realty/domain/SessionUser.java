@@ -0,0 +1,62 @@
+package com.riskview.realty.domain;
+
+import com.riskview.realty.domain.dto.UserDTO;
+import com.riskview.realty.model.User;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 세션("user" 속성)에 저장하는 사용자 정보
+ * 세션은 데이터베이스에 직렬화되어 저장되므로 화면 표시에 필요한 값만 담고
+ * 비밀번호, 인증코드 같은 입력값은 포함하지 않음
+ */
+public final class SessionUser implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final String userCode; // 사용자 코드
+    private final String userId; // 사용자 ID
+    private final String userNickname; // 사용자 닉네임
+    private final String name; // 사용자 이름
+    private final String email; // 사용자 이메일
+
+    public SessionUser(String userCode, String userId, String userNickname, String name, String email) {
+        this.userCode = userCode;
+        this.userId = userId;
+        this.userNickname = userNickname;
+        this.name = name;
+        this.email = email;
+    }
+
+    public static SessionUser from(UserDTO userDTO) {
+        return new SessionUser(userDTO.getUserCode(), userDTO.getUserId(), userDTO.getUserNickname(),
+                userDTO.getName(), userDTO.getEmail());
+    }
+
+    public static SessionUser from(User user) {
+        return new SessionUser(user.getUserCode(), user.getUserId(), user.getUserNickname(),
+                user.getName(), user.getEmail());
+    }
+
+    public String getUserCode() {
+        return userCode;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getUserNickname() {
+        return userNickname;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+}
@@ -0,0 +1,91 @@
+package com.riskview.realty.domain;
+
+import com.riskview.realty.domain.dto.UserDTO;
+
+/**
+ * 로그인과 세션 구성에 필요한 사용자 정보만 담은 불변 객체
+ * User 엔티티 대신 이 객체를 캐시하여 로그인 시 데이터베이스 조회를 줄임
+ */
+public final class UserAuthInfo {
+
+    private final Long userSeq; // 사용자 고유 식별자
+    private final String userId; // 사용자 ID
+    private final String userCode; // 사용자 코드
+    private final String email; // 사용자 이메일
+    private final String passwordHash; // 사용자 비밀번호
+    private final String name; // 사용자 이름
+    private final String userNickname; // 사용자 닉네임
+    private final boolean deleted; // 탈퇴 여부
+    private final String role; // 사용자 역할 이름(권한은 RolePermissionRegistry에서 조회)
+
+    // JPQL 생성자 표현식(SELECT new ...)에서 사용
+    public UserAuthInfo(Long userSeq, String userId, String userCode, String email, String passwordHash,
+                        String name, String userNickname, boolean deleted, String role) {
+        this.userSeq = userSeq;
+        this.userId = userId;
+        this.userCode = userCode;
+        this.email = email;
+        this.passwordHash = passwordHash;
+        this.name = name;
+        this.userNickname = userNickname;
+        this.deleted = deleted;
+        this.role = role;
+    }
+
+    /**
+     * Spring Security에서 사용할 인증 정보로 변환
+     * @param authority 사용자 역할의 권한(RolePermissionRegistry에서 조회)
+     */
+    public CustomUserDetails toUserDetails(RoleAuthority authority) {
+        return new CustomUserDetails(userSeq, userId, email, passwordHash, name, authority, !deleted, userCode);
+    }
+
+    /**
+     * 화면과 세션에서 사용할 UserDTO로 변환(비밀번호 제외)
+     */
+    public UserDTO toUserDTO() {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setUserCode(userCode);
+        userDTO.setUserId(userId);
+        userDTO.setUserNickname(userNickname);
+        userDTO.setEmail(email);
+        userDTO.setName(name);
+        return userDTO;
+    }
+
+    public Long getUserSeq() {
+        return userSeq;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getUserCode() {
+        return userCode;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPasswordHash() {
+        return passwordHash;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getUserNickname() {
+        return userNickname;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public String getRole() {
+        return role;
+    }
+}
@@ -0,0 +1,15 @@
+package com.riskview.realty.domain;
+
+import com.riskview.realty.domain.dto.UserBulkDTO;
+
+/**
+ * 사용자 일괄 변경 결과(진행 중에는 지금까지 처리한 양)
+ * @param operation 변경 작업
+ * @param updated 값이 바뀐 사용자 수(이미 같은 상태인 사용자는 제외)
+ * @param chunks 처리한 묶음(트랜잭션) 수
+ * @param totalChunks 전체 묶음 수(chunks / totalChunks가 진행률)
+ * @param elapsedMillis 걸린 시간
+ */
+public record UserBulkResult(UserBulkDTO.Operation operation, long updated, int chunks, int totalChunks,
+                             long elapsedMillis) {
+}
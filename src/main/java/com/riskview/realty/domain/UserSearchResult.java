@@ -0,0 +1,15 @@
+package com.riskview.realty.domain;
+
+import java.util.List;
+
+/**
+ * 사용자 검색 결과 한 페이지
+ * @param users 가입 순서(userSeq)로 정렬된 사용자 목록
+ * @param nextCursor 다음 페이지를 조회할 때 넘길 기준 값(마지막 페이지이면 null)
+ */
+public record UserSearchResult(List<UserSummary> users, Long nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
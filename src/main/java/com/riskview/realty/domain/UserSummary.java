@@ -0,0 +1,70 @@
+package com.riskview.realty.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 관리 화면의 목록 한 줄에 필요한 사용자 정보만 담은 불변 객체
+ * 비밀번호 해시 등은 읽지 않으며 User 엔티티를 만들지 않고 JPQL 생성자 표현식으로 바로 생성
+ */
+public final class UserSummary {
+
+    private final Long userSeq; // 사용자 고유 식별자(다음 페이지 조회 기준)
+    private final String userCode; // 사용자 코드
+    private final String userId; // 사용자 ID
+    private final String userNickname; // 사용자 닉네임
+    private final String email; // 사용자 이메일
+    private final String name; // 사용자 이름
+    private final String role; // 사용자 역할 이름
+    private final boolean deleted; // 탈퇴 여부
+    private final LocalDateTime createdAt; // 가입 일시
+
+    // JPQL 생성자 표현식(SELECT new ...)에서 사용
+    public UserSummary(Long userSeq, String userCode, String userId, String userNickname, String email,
+                       String name, String role, boolean deleted, LocalDateTime createdAt) {
+        this.userSeq = userSeq;
+        this.userCode = userCode;
+        this.userId = userId;
+        this.userNickname = userNickname;
+        this.email = email;
+        this.name = name;
+        this.role = role;
+        this.deleted = deleted;
+        this.createdAt = createdAt;
+    }
+
+    public Long getUserSeq() {
+        return userSeq;
+    }
+
+    public String getUserCode() {
+        return userCode;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getUserNickname() {
+        return userNickname;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -39,4 +39,7 @@ public class ModifyUserDTO {
 
     // 사용자 코드 (선택사항)
     private String userCode; // 사용자 코드
+
+    // 수정 화면을 열 때의 사용자 정보 버전(다른 탭에서 먼저 수정했는지 확인)
+    private Long version;
 }
\ No newline at end of file
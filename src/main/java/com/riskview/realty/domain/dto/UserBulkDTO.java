@@ -0,0 +1,28 @@
+package com.riskview.realty.domain.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 변경 요청
+ * 대상은 userSeqs로 직접 지정하거나, 비어 있으면 filter(사용자 관리 화면의 검색 조건)로 지정
+ */
+@Getter
+@Setter
+public class UserBulkDTO {
+    private Operation operation; // 변경 작업
+    private List<Long> userSeqs; // 대상 사용자 userSeq 목록
+    private UserSearchDTO filter; // 대상 검색 조건(after, size는 사용하지 않음)
+    private String role; // CHANGE_ROLE에서 바꿀 역할 이름
+
+    /**
+     * 일괄 변경 작업
+     */
+    public enum Operation {
+        DEACTIVATE, // 탈퇴 처리
+        RESTORE, // 탈퇴 취소
+        CHANGE_ROLE // 역할 변경
+    }
+}
@@ -0,0 +1,20 @@
+package com.riskview.realty.domain.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 사용자 관리 화면의 검색 조건
+ * 문자열 조건은 앞부분 일치(prefix)로 검색하며, 비어 있으면 조건에서 제외
+ */
+@Getter
+@Setter
+public class UserSearchDTO {
+    private String userId; // 사용자 ID 앞부분
+    private String userNickname; // 사용자 닉네임 앞부분
+    private String email; // 사용자 이메일 앞부분
+    private String role; // 역할 이름
+    private Boolean deleted; // 탈퇴 여부(null이면 전체)
+    private Long after; // 이 userSeq 다음부터 조회(첫 페이지는 null)
+    private Integer size; // 페이지 크기
+}
@@ -0,0 +1,32 @@
+package com.riskview.realty.domain.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * 사용자 코드 발급용 시퀀스 생성
+ * 기존 사용자 코드는 U + user_seq 이므로 가장 큰 user_seq 다음 값부터 시작
+ * 시작 값을 조회해서 넣어야 하므로 SQL 대신 Java 마이그레이션으로 작성
+ */
+public class V5__CreateUserCodeSequence extends BaseJavaMigration {
+
+    // UserCodeAllocator.BLOCK_SIZE와 같아야 함(한 번에 예약하는 코드 수)
+    private static final int INCREMENT = 100;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            long start = 1;
+            try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(user_seq), 0) + 1 FROM users")) {
+                if (rs.next()) {
+                    start = rs.getLong(1);
+                }
+            }
+            statement.execute("CREATE SEQUENCE IF NOT EXISTS user_code_seq START WITH " + start
+                    + " INCREMENT BY " + INCREMENT);
+        }
+    }
+}
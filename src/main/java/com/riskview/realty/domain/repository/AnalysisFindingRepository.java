@@ -0,0 +1,13 @@
+package com.riskview.realty.domain.repository;
+
+import com.riskview.realty.model.AnalysisFinding;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AnalysisFindingRepository extends JpaRepository<AnalysisFinding, Long> {
+    // 작업의 위험 조항을 조항 순서대로 조회(idx_analysis_findings_job_seq)
+    List<AnalysisFinding> findByJobSeqOrderByClauseNoAscFindingSeqAsc(Long jobSeq);
+}
@@ -0,0 +1,77 @@
+package com.riskview.realty.domain.repository;
+
+import com.riskview.realty.model.AnalysisJob;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AnalysisJobRepository extends JpaRepository<AnalysisJob, Long> {
+
+    // 대기 중인 작업을 잠그면서 가져옴(다른 노드가 잠근 행은 건너뜀)
+    @Query(value = "SELECT * FROM analysis_jobs WHERE status = 'QUEUED' "
+            + "ORDER BY job_seq LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<AnalysisJob> lockQueuedBatch(@Param("limit") int limit);
+
+    // 분석 중에 노드가 죽어 오래 방치된 작업을 다시 대기 상태로 되돌림(최대 시도 횟수를 넘은 작업은 제외)
+    @Modifying
+    @Query("UPDATE AnalysisJob j SET j.status = com.riskview.realty.model.AnalysisJob.Status.QUEUED "
+            + "WHERE j.status = com.riskview.realty.model.AnalysisJob.Status.RUNNING "
+            + "AND j.claimedAt < :staleBefore AND j.attempts < :maxAttempts")
+    int releaseStaleClaims(@Param("staleBefore") LocalDateTime staleBefore, @Param("maxAttempts") int maxAttempts);
+
+    // 최대 시도 횟수를 넘도록 끝나지 않은 작업은 실패 처리
+    @Modifying
+    @Query("UPDATE AnalysisJob j SET j.status = com.riskview.realty.model.AnalysisJob.Status.FAILED, "
+            + "j.lastError = 'timed out', j.finishedAt = :now "
+            + "WHERE j.status = com.riskview.realty.model.AnalysisJob.Status.RUNNING "
+            + "AND j.claimedAt < :staleBefore AND j.attempts >= :maxAttempts")
+    int failStaleClaims(@Param("staleBefore") LocalDateTime staleBefore, @Param("maxAttempts") int maxAttempts,
+                        @Param("now") LocalDateTime now);
+
+    // 아래 세 메서드는 이 워커가 가져간 그대로(RUNNING, 같은 시도 횟수)인 작업만 바꿈
+    // 오래 방치되어 다른 워커가 다시 가져간 작업이면 0을 반환하므로 결과를 버려야 함
+    // (document_seq 등 다른 컬럼은 쓰지 않으므로 그 사이 문서가 삭제되어도 영향 없음)
+
+    // 분석 결과 기록
+    @Modifying
+    @Query("UPDATE AnalysisJob j SET j.status = com.riskview.realty.model.AnalysisJob.Status.DONE, "
+            + "j.clauseCount = :clauseCount, j.findingCount = :findingCount, j.riskScore = :riskScore, "
+            + "j.riskLevel = :riskLevel, j.extractMillis = :extractMillis, j.segmentMillis = :segmentMillis, "
+            + "j.scoreMillis = :scoreMillis, j.lastError = null, j.finishedAt = :now "
+            + "WHERE j.jobSeq = :jobSeq AND j.attempts = :attempts "
+            + "AND j.status = com.riskview.realty.model.AnalysisJob.Status.RUNNING")
+    int completeClaim(@Param("jobSeq") long jobSeq, @Param("attempts") int attempts,
+                      @Param("clauseCount") int clauseCount, @Param("findingCount") int findingCount,
+                      @Param("riskScore") int riskScore, @Param("riskLevel") String riskLevel,
+                      @Param("extractMillis") long extractMillis, @Param("segmentMillis") long segmentMillis,
+                      @Param("scoreMillis") long scoreMillis, @Param("now") LocalDateTime now);
+
+    // 실패 처리
+    @Modifying
+    @Query("UPDATE AnalysisJob j SET j.status = com.riskview.realty.model.AnalysisJob.Status.FAILED, "
+            + "j.lastError = :error, j.finishedAt = :now "
+            + "WHERE j.jobSeq = :jobSeq AND j.attempts = :attempts "
+            + "AND j.status = com.riskview.realty.model.AnalysisJob.Status.RUNNING")
+    int failClaim(@Param("jobSeq") long jobSeq, @Param("attempts") int attempts, @Param("error") String error,
+                  @Param("now") LocalDateTime now);
+
+    // 다시 시도하도록 대기 상태로 되돌림
+    @Modifying
+    @Query("UPDATE AnalysisJob j SET j.status = com.riskview.realty.model.AnalysisJob.Status.QUEUED, "
+            + "j.lastError = :error "
+            + "WHERE j.jobSeq = :jobSeq AND j.attempts = :attempts "
+            + "AND j.status = com.riskview.realty.model.AnalysisJob.Status.RUNNING")
+    int requeueClaim(@Param("jobSeq") long jobSeq, @Param("attempts") int attempts, @Param("error") String error);
+
+    // 사용자의 분석 작업을 최신순으로 조회(idx_analysis_jobs_owner_seq)
+    List<AnalysisJob> findByOwnerSeqOrderByJobSeqDesc(Long ownerSeq, Limit limit);
+
+    long countByStatus(AnalysisJob.Status status); // 상태별 작업 수
+}
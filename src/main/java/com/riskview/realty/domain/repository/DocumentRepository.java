@@ -0,0 +1,17 @@
+package com.riskview.realty.domain.repository;
+
+import com.riskview.realty.model.Document;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DocumentRepository extends JpaRepository<Document, Long> {
+    // 사용자의 문서를 최신순으로 조회(idx_documents_owner_seq)
+    List<Document> findByOwnerSeqOrderByDocumentSeqDesc(Long ownerSeq, Limit limit);
+
+    // before보다 이전 문서를 최신순으로 조회(전체 문서 화면의 다음 페이지)
+    List<Document> findByDocumentSeqLessThanOrderByDocumentSeqDesc(Long before, Limit limit);
+}
@@ -0,0 +1,35 @@
+package com.riskview.realty.domain.repository;
+
+import com.riskview.realty.model.EmailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    // 발송 시각이 된 메일을 잠그면서 가져옴(다른 노드가 잠근 행은 건너뜀)
+    // ORDER BY를 두지 않고 (status, next_attempt_at) 인덱스 순서(발송 시각이 오래된 순)대로 LIMIT개만 읽음
+    // 인덱스와 다른 순서로 정렬하면 정렬 전에 발송 대상 전체를 읽으며 모두 잠가 다른 노드가 가져갈 행이 없어짐
+    @Query(value = "SELECT * FROM email_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now "
+            + "LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<EmailOutbox> lockDueBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 발송 중에 노드가 죽어 오래 방치된 메일을 다시 발송 대기 상태로 되돌림
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = com.riskview.realty.model.EmailOutbox.Status.PENDING "
+            + "WHERE e.status = com.riskview.realty.model.EmailOutbox.Status.SENDING AND e.claimedAt < :staleBefore")
+    int releaseStaleClaims(@Param("staleBefore") LocalDateTime staleBefore);
+
+    // 보관 기간이 지난 발송 완료 메일 삭제
+    @Modifying
+    @Query("DELETE FROM EmailOutbox e WHERE e.status = com.riskview.realty.model.EmailOutbox.Status.SENT AND e.sentAt < :sentBefore")
+    int deleteSentBefore(@Param("sentBefore") LocalDateTime sentBefore);
+
+    long countByStatus(EmailOutbox.Status status); // 상태별 메일 수
+}
@@ -1,17 +1,50 @@
 package com.riskview.realty.domain.repository;
 
+import com.riskview.realty.domain.UserAuthInfo;
 import com.riskview.realty.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 /* 사용자 ID를 기준으로 User 객체에서 조회 */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserSearchRepository {
     // Optional 객체를 사용해 NullPointException 방지
     Optional<User> findByUserId(String userId); // 사용자 ID로 사용자 조회
     Optional<User> findByEmail(String email); // 사용자 이메일로 사용자 조회
     Optional<User> findByUserCode(String userCode); // 사용자 코드로 사용자 조회
-    
-}
\ No newline at end of file
+    boolean existsByEmail(String email); // 이메일 중복 확인(유니크 인덱스만 읽음)
+    boolean existsByUserCode(String userCode); // 사용자 코드 존재 확인
+
+    // 로그인에 필요한 사용자 정보를 조회(엔티티를 만들지 않고, 권한은 RolePermissionRegistry에서 조회하므로 조인하지 않음)
+    @Query("SELECT new com.riskview.realty.domain.UserAuthInfo(u.userSeq, u.userId, u.userCode, u.email, u.passwordHash, "
+            + "u.name, u.userNickname, u.isDeleted, u.roleId) "
+            + "FROM User u WHERE u.userId = :userId")
+    Optional<UserAuthInfo> findAuthInfoByUserId(@Param("userId") String userId);
+
+    // 수정 화면에 넣을 사용자 정보 버전만 조회
+    @Query("SELECT u.version FROM User u WHERE u.userId = :userId")
+    Optional<Long> findVersionByUserId(@Param("userId") String userId);
+
+    // 비밀번호 해시만 변경(로그인 시 다시 해싱한 경우, 엔티티를 읽지 않고 UPDATE 한 번)
+    // 로그인 검증에 쓴 해시가 그대로일 때만 변경하여 그사이 바뀐 비밀번호를 예전 비밀번호로 되돌리지 않음
+    @Modifying
+    @Query("UPDATE User u SET u.passwordHash = :newHash, u.version = u.version + 1 "
+            + "WHERE u.userId = :userId AND u.passwordHash = :oldHash")
+    int updatePasswordHash(@Param("userId") String userId, @Param("oldHash") String oldHash,
+                           @Param("newHash") String newHash);
+
+    // 가장 큰 userSeq(일괄 변경에서 처리할 범위의 끝)
+    @Query("SELECT MAX(u.userSeq) FROM User u")
+    Optional<Long> findMaxUserSeq();
+
+    // 탈퇴 처리(엔티티를 읽지 않고 UPDATE 한 번, 이미 탈퇴한 사용자는 변경하지 않음)
+    @Modifying
+    @Query("UPDATE User u SET u.isDeleted = true, u.version = u.version + 1 "
+            + "WHERE u.userCode = :userCode AND u.userId = :userId AND u.isDeleted = false")
+    int softDelete(@Param("userCode") String userCode, @Param("userId") String userId);
+}
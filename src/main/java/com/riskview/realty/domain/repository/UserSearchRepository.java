@@ -0,0 +1,60 @@
+package com.riskview.realty.domain.repository;
+
+import com.riskview.realty.domain.UserSummary;
+import com.riskview.realty.domain.dto.UserBulkDTO;
+
+import java.util.List;
+
+/**
+ * 조건이 선택적인 사용자 검색과 일괄 변경(UserRepository에 조합되는 사용자 정의 조회)
+ */
+public interface UserSearchRepository {
+
+    /**
+     * userSeq가 after보다 큰 사용자를 userSeq 순서로 최대 limit명 조회(키셋 페이지네이션)
+     * OFFSET을 쓰지 않으므로 몇 번째 페이지든 인덱스에서 바로 시작 위치를 찾음
+     * @param userIdPrefix 사용자 ID 앞부분(null이면 조건 제외)
+     * @param nicknamePrefix 닉네임 앞부분(null이면 조건 제외)
+     * @param emailPrefix 이메일 앞부분(null이면 조건 제외)
+     * @param role 역할 이름(null이면 조건 제외)
+     * @param deleted 탈퇴 여부(null이면 조건 제외)
+     * @param after 이전 페이지의 마지막 userSeq(첫 페이지는 0)
+     * @param limit 최대 조회 수
+     * @return 사용자 목록
+     */
+    List<UserSummary> searchSummaries(String userIdPrefix, String nicknamePrefix, String emailPrefix,
+                                      String role, Boolean deleted, long after, int limit);
+
+    /**
+     * 검색 조건에 맞고 userSeq가 after보다 크고 upTo 이하인 사용자를 UPDATE 한 번으로 변경(일괄 변경의 묶음 하나)
+     * 이미 바꿀 값과 같은 사용자는 변경하지 않으며, 변경한 사용자는 version을 1 올림
+     * @param operation 변경 작업
+     * @param newRole CHANGE_ROLE에서 바꿀 역할 이름
+     * @param after 범위 시작(포함하지 않음)
+     * @param upTo 범위 끝(포함)
+     * @return 변경된 사용자 수
+     */
+    int bulkUpdate(UserBulkDTO.Operation operation, String newRole, String userIdPrefix, String nicknamePrefix,
+                   String emailPrefix, String role, Boolean deleted, long after, long upTo);
+
+    /**
+     * userSeq 목록의 사용자를 UPDATE 한 번으로 변경(일괄 변경의 묶음 하나)
+     * @param operation 변경 작업
+     * @param newRole CHANGE_ROLE에서 바꿀 역할 이름
+     * @param userSeqs 오름차순으로 정렬된 userSeq 목록
+     * @return 변경된 사용자 수
+     */
+    int bulkUpdateByIds(UserBulkDTO.Operation operation, String newRole, List<Long> userSeqs);
+
+    /**
+     * bulkUpdate가 변경할 사용자의 ID(같은 트랜잭션에서 bulkUpdate보다 먼저 호출)
+     */
+    List<String> findBulkTargetUserIds(UserBulkDTO.Operation operation, String newRole, String userIdPrefix,
+                                       String nicknamePrefix, String emailPrefix, String role, Boolean deleted,
+                                       long after, long upTo);
+
+    /**
+     * bulkUpdateByIds가 변경할 사용자의 ID(같은 트랜잭션에서 bulkUpdateByIds보다 먼저 호출)
+     */
+    List<String> findBulkTargetUserIdsByIds(UserBulkDTO.Operation operation, String newRole, List<Long> userSeqs);
+}
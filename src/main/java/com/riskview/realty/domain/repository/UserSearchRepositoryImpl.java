@@ -0,0 +1,188 @@
+package com.riskview.realty.domain.repository;
+
+import com.riskview.realty.domain.UserSummary;
+import com.riskview.realty.domain.dto.UserBulkDTO;
+import com.riskview.realty.model.RolePermission;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * UserSearchRepository 구현
+ * 주어진 조건만 WHERE 절에 넣어 JPQL을 만들고, 사용할 인덱스는 조건에 따라 정해짐
+ * - 조건 없음: 기본 키(user_seq)
+ * - 탈퇴 여부: idx_users_deleted_seq, 역할(+탈퇴 여부): idx_users_role_deleted_seq
+ * - 앞부분 일치: 페이지 순서까지 맞는 인덱스 없음(한계)
+ *   문자열 범위와 user_seq 순서를 함께 만족하는 인덱스는 만들 수 없음(복합 인덱스도 앞 열이 범위 조건이면 뒤 열 순서를 쓰지 못함)
+ *   그래서 기본 키 순서로 읽으며 거르거나(LIMIT에서 멈출 수 있음) user_id 등의 유니크 인덱스 범위를 모두 읽고 정렬해야 하며,
+ *   H2는 앞의 방식을 고름: 일치하는 사용자가 많으면 빠르지만(사용자 100만 명, "u1" 약 11만 명 일치: 0.1ms대)
+ *   적으면 표 대부분을 읽음("u12345" 11명 일치: 90ms 안팎, UserSearchBenchmark.prefixSelective, prefixBroad)
+ * 일괄 변경(bulkUpdate)도 같은 조건에 userSeq 범위를 더해 UPDATE 한 번으로 실행
+ */
+class UserSearchRepositoryImpl implements UserSearchRepository {
+
+    private static final char LIKE_ESCAPE = '!';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserSummary> searchSummaries(String userIdPrefix, String nicknamePrefix, String emailPrefix,
+                                             String role, Boolean deleted, long after, int limit) {
+        StringBuilder jpql = new StringBuilder(
+                "SELECT new com.riskview.realty.domain.UserSummary(u.userSeq, u.userCode, u.userId, u.userNickname, "
+                        + "u.email, u.name, u.roleId, u.isDeleted, u.createdAt) "
+                        + "FROM User u WHERE u.userSeq > :after");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("after", after);
+        addConditions(jpql, parameters, userIdPrefix, nicknamePrefix, emailPrefix, role, deleted);
+        jpql.append(" ORDER BY u.userSeq");
+
+        TypedQuery<UserSummary> query = entityManager.createQuery(jpql.toString(), UserSummary.class)
+                .setMaxResults(limit);
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    @Override
+    public int bulkUpdate(UserBulkDTO.Operation operation, String newRole, String userIdPrefix, String nicknamePrefix,
+                          String emailPrefix, String role, Boolean deleted, long after, long upTo) {
+        StringBuilder jpql = new StringBuilder("UPDATE User u ");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        addChange(jpql, parameters, operation, newRole);
+        addRange(jpql, parameters, operation, newRole, after, upTo);
+        addConditions(jpql, parameters, userIdPrefix, nicknamePrefix, emailPrefix, role, deleted);
+        return executeUpdate(jpql, parameters);
+    }
+
+    @Override
+    public int bulkUpdateByIds(UserBulkDTO.Operation operation, String newRole, List<Long> userSeqs) {
+        StringBuilder jpql = new StringBuilder("UPDATE User u ");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        addChange(jpql, parameters, operation, newRole);
+        addIds(jpql, parameters, operation, newRole, userSeqs);
+        return executeUpdate(jpql, parameters);
+    }
+
+    @Override
+    public List<String> findBulkTargetUserIds(UserBulkDTO.Operation operation, String newRole, String userIdPrefix,
+                                              String nicknamePrefix, String emailPrefix, String role, Boolean deleted,
+                                              long after, long upTo) {
+        StringBuilder jpql = new StringBuilder("SELECT u.userId FROM User u");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        addRange(jpql, parameters, operation, newRole, after, upTo);
+        addConditions(jpql, parameters, userIdPrefix, nicknamePrefix, emailPrefix, role, deleted);
+        return selectUserIds(jpql, parameters);
+    }
+
+    @Override
+    public List<String> findBulkTargetUserIdsByIds(UserBulkDTO.Operation operation, String newRole,
+                                                   List<Long> userSeqs) {
+        StringBuilder jpql = new StringBuilder("SELECT u.userId FROM User u");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        addIds(jpql, parameters, operation, newRole, userSeqs);
+        return selectUserIds(jpql, parameters);
+    }
+
+    // SET 절
+    private void addChange(StringBuilder jpql, Map<String, Object> parameters,
+                           UserBulkDTO.Operation operation, String newRole) {
+        switch (operation) {
+            case DEACTIVATE -> jpql.append("SET u.isDeleted = true, u.version = u.version + 1");
+            case RESTORE -> jpql.append("SET u.isDeleted = false, u.version = u.version + 1");
+            case CHANGE_ROLE -> {
+                // 외래 키 값만 필요하므로 조회 없이 참조만 설정
+                jpql.append("SET u.role = :newRole, u.version = u.version + 1");
+                parameters.put("newRole", entityManager.getReference(RolePermission.class, newRole));
+            }
+        }
+    }
+
+    // 이미 바꿀 값과 같은 사용자를 제외하는 WHERE 절 시작 부분
+    private static void addTarget(StringBuilder jpql, Map<String, Object> parameters,
+                                  UserBulkDTO.Operation operation, String newRole) {
+        switch (operation) {
+            case DEACTIVATE -> jpql.append(" WHERE u.isDeleted = false");
+            case RESTORE -> jpql.append(" WHERE u.isDeleted = true");
+            case CHANGE_ROLE -> {
+                jpql.append(" WHERE u.roleId <> :newRoleId");
+                parameters.put("newRoleId", newRole);
+            }
+        }
+    }
+
+    private static void addRange(StringBuilder jpql, Map<String, Object> parameters,
+                                 UserBulkDTO.Operation operation, String newRole, long after, long upTo) {
+        addTarget(jpql, parameters, operation, newRole);
+        jpql.append(" AND u.userSeq > :after AND u.userSeq <= :upTo");
+        parameters.put("after", after);
+        parameters.put("upTo", upTo);
+    }
+
+    private static void addIds(StringBuilder jpql, Map<String, Object> parameters,
+                               UserBulkDTO.Operation operation, String newRole, List<Long> userSeqs) {
+        addTarget(jpql, parameters, operation, newRole);
+        // 탈퇴 여부 인덱스(idx_users_deleted_seq)를 사용하더라도 목록의 범위만 읽도록 userSeq 범위를 함께 지정
+        jpql.append(" AND u.userSeq BETWEEN :first AND :last AND u.userSeq IN :userSeqs");
+        parameters.put("first", userSeqs.get(0));
+        parameters.put("last", userSeqs.get(userSeqs.size() - 1));
+        parameters.put("userSeqs", userSeqs);
+    }
+
+    private List<String> selectUserIds(StringBuilder jpql, Map<String, Object> parameters) {
+        TypedQuery<String> query = entityManager.createQuery(jpql.toString(), String.class);
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    private int executeUpdate(StringBuilder jpql, Map<String, Object> parameters) {
+        Query query = entityManager.createQuery(jpql.toString());
+        parameters.forEach(query::setParameter);
+        return query.executeUpdate();
+    }
+
+    // 주어진 검색 조건만 AND로 추가
+    private static void addConditions(StringBuilder jpql, Map<String, Object> parameters, String userIdPrefix,
+                                      String nicknamePrefix, String emailPrefix, String role, Boolean deleted) {
+        addPrefix(jpql, parameters, "u.userId", "userId", userIdPrefix);
+        addPrefix(jpql, parameters, "u.userNickname", "userNickname", nicknamePrefix);
+        addPrefix(jpql, parameters, "u.email", "email", emailPrefix);
+        if (role != null) {
+            jpql.append(" AND u.roleId = :role");
+            parameters.put("role", role);
+        }
+        if (deleted != null) {
+            jpql.append(" AND u.isDeleted = :deleted");
+            parameters.put("deleted", deleted);
+        }
+    }
+
+    // 앞부분 일치 조건(LIKE 'prefix%')을 추가하며, 입력값의 %, _는 문자 그대로 검색
+    private static void addPrefix(StringBuilder jpql, Map<String, Object> parameters,
+                                  String path, String name, String prefix) {
+        if (prefix == null) {
+            return;
+        }
+        jpql.append(" AND ").append(path).append(" LIKE :").append(name)
+                .append(" ESCAPE '").append(LIKE_ESCAPE).append('\'');
+        parameters.put(name, escapeLike(prefix) + '%');
+    }
+
+    static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
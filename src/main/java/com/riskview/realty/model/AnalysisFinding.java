@@ -0,0 +1,44 @@
+package com.riskview.realty.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 계약서 분석으로 찾은 위험 조항
+ */
+@Entity
+@Table(name = "analysis_findings")
+@Getter
+@Setter
+public class AnalysisFinding {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "finding_seq")
+    private Long findingSeq;
+
+    @Column(name = "job_seq", nullable = false)
+    private Long jobSeq;
+
+    @Column(name = "clause_no", nullable = false)
+    private int clauseNo; // 조항 순번(1부터)
+
+    @Column(name = "clause_title", nullable = false, length = 100)
+    private String clauseTitle; // 조항 제목(첫 줄)
+
+    @Column(name = "rule_id", nullable = false, length = 50)
+    private String ruleId;
+
+    @Column(nullable = false, length = 50)
+    private String category;
+
+    @Column(nullable = false, length = 100)
+    private String keyword; // 조항에서 찾은 키워드
+
+    @Column(nullable = false)
+    private int weight;
+
+    @Column(nullable = false, length = 500)
+    private String excerpt; // 키워드 주변 문장
+}
@@ -0,0 +1,94 @@
+package com.riskview.realty.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계약서 분석 작업
+ * 요청 스레드는 작업을 QUEUED로 저장만 하고, ContractAnalysisWorker가 가져가서 분석한 뒤 결과를 기록
+ */
+@Entity
+@Table(name = "analysis_jobs")
+@Getter
+@Setter
+public class AnalysisJob {
+
+    /**
+     * 작업 상태
+     */
+    public enum Status {
+        QUEUED, // 분석 대기
+        RUNNING, // 워커가 가져가서 분석 중
+        DONE, // 분석 완료
+        FAILED // 분석 실패(지원하지 않는 형식, 문서 삭제, 최대 시도 횟수 초과)
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_seq")
+    private Long jobSeq;
+
+    // 분석을 요청한 사용자(users.user_seq)
+    @Column(name = "owner_seq", nullable = false)
+    private Long ownerSeq;
+
+    // 분석할 문서(documents.document_seq), 문서가 삭제되면 null
+    @Column(name = "document_seq")
+    private Long documentSeq;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR) // MariaDB의 ENUM 타입 대신 VARCHAR 컬럼 사용(마이그레이션 스크립트와 일치)
+    @Column(nullable = false, length = 10)
+    private Status status = Status.QUEUED;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "clause_count", nullable = false)
+    private int clauseCount; // 나눈 조항 수
+
+    @Column(name = "finding_count", nullable = false)
+    private int findingCount; // 찾은 위험 조항 수(저장하지 않은 것 포함)
+
+    @Column(name = "risk_score", nullable = false)
+    private int riskScore; // 찾은 위험 조항 가중치 합계
+
+    @Column(name = "risk_level", length = 10)
+    private String riskLevel; // 위험도(규칙 사전의 levels 기준)
+
+    // 단계별 처리 시간(텍스트 추출, 조항 분리, 위험 키워드 점수 계산)
+    @Column(name = "extract_millis", nullable = false)
+    private long extractMillis;
+
+    @Column(name = "segment_millis", nullable = false)
+    private long segmentMillis;
+
+    @Column(name = "score_millis", nullable = false)
+    private long scoreMillis;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 분석이 끝났는지(더 이상 상태가 바뀌지 않는지)
+     */
+    public boolean isFinished() {
+        return status == Status.DONE || status == Status.FAILED;
+    }
+}
@@ -0,0 +1,45 @@
+package com.riskview.realty.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자가 업로드한 문서
+ * 파일 내용은 DocumentBlobStore에 SHA-256 값으로 저장되며, 같은 내용의 문서는 같은 파일을 참조
+ */
+@Entity
+@Table(name = "documents")
+@Getter
+@Setter
+public class Document {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "document_seq")
+    private Long documentSeq;
+
+    // 업로드한 사용자(users.user_seq)
+    @Column(name = "owner_seq", nullable = false)
+    private Long ownerSeq;
+
+    @Column(name = "original_name", nullable = false)
+    private String originalName;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    // 파일 내용의 SHA-256(16진수 소문자)
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,79 @@
+package com.riskview.realty.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송할 이메일을 저장하는 아웃박스 클래스
+ * 메일을 발생시킨 작업과 같은 트랜잭션에서 저장되고, 백그라운드 디스패처가 발송 처리
+ */
+@Entity
+@Table(name = "email_outbox")
+@Getter
+@Setter
+public class EmailOutbox {
+
+    /**
+     * 발송 상태
+     */
+    public enum Status {
+        PENDING, // 발송 대기
+        SENDING, // 디스패처가 가져가서 발송 중
+        SENT, // 발송 완료
+        FAILED, // 최대 시도 횟수 초과
+        UNKNOWN // 결과를 기다리다 시간 초과(발송되었을 수 있으므로 다시 보내지 않음)
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_seq")
+    private Long outboxSeq;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR) // MariaDB의 ENUM 타입 대신 VARCHAR 컬럼 사용(마이그레이션 스크립트와 일치)
+    @Column(nullable = false, length = 10)
+    private Status status = Status.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    protected EmailOutbox() {
+    }
+
+    public EmailOutbox(String recipient, String subject, String body) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Setter;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
@@ -17,6 +18,7 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @DynamicInsert
+@DynamicUpdate // 변경된 컬럼만 UPDATE
 public class User {
 
     @Id
@@ -28,15 +30,21 @@ public class User {
      * 사용자 고유 코드 (U + 8자리 숫자)
      */
     @Column(name = "user_code", unique = true, nullable = false, length = 20)
-    private String userCode="U00000000"; // 기본값으로 임시 코드 설정
+    private String userCode;
 
     /**
      * 사용자 고유 코드 생성
+     * 저장 전에 UserCodeAllocator에서 발급받은 번호로 코드를 정하므로 INSERT 한 번으로 저장됨
+     * @param codeNumber 발급받은 사용자 코드 번호
      */
-    public void generateUserCode() {
-        if (userCode != null && userSeq != null) {
-            userCode = "U" + String.format("%08d", userSeq);
+    public void generateUserCode(long codeNumber) {
+        // String.format보다 가벼운 0 채우기
+        String digits = Long.toString(codeNumber);
+        StringBuilder code = new StringBuilder(9).append('U');
+        for (int i = digits.length(); i < 8; i++) {
+            code.append('0');
         }
+        userCode = code.append(digits).toString();
     }
 
     @Column(name = "user_id", nullable = false, unique = true, length = 20)
@@ -54,10 +62,17 @@ public class User {
     @Column(nullable = false, length = 100)
     private String name;
 
-    @ManyToOne
+    // 권한 정보는 RolePermissionRegistry에서 조회하므로 사용자 조회 시 함께 읽지 않음
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "role")
     private RolePermission role;
 
+    /**
+     * 역할 이름(role 컬럼을 조인 없이 읽기 위한 읽기 전용 매핑)
+     */
+    @Column(name = "role", insertable = false, updatable = false)
+    private String roleId;
+
     @Column(name = "preferred_language", length = 20)
     private String preferredLanguage="ko";
 
@@ -68,4 +83,11 @@ public class User {
     @Column(name = "is_deleted")
     @ColumnDefault("false")
     private boolean isDeleted;
+
+    /**
+     * 낙관적 잠금 버전(수정할 때마다 1씩 증가)
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
 }
\ No newline at end of file
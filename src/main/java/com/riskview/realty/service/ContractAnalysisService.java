@@ -0,0 +1,94 @@
+package com.riskview.realty.service;
+
+import com.riskview.realty.domain.CustomUserDetails;
+import com.riskview.realty.domain.repository.AnalysisFindingRepository;
+import com.riskview.realty.domain.repository.AnalysisJobRepository;
+import com.riskview.realty.model.AnalysisFinding;
+import com.riskview.realty.model.AnalysisJob;
+import com.riskview.realty.model.Document;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 계약서 분석 요청과 결과 조회
+ * 요청 스레드는 문서를 저장하고 작업을 대기열(analysis_jobs)에 넣기만 하며, 분석은 ContractAnalysisWorker가 처리
+ */
+@Service
+public class ContractAnalysisService {
+    private static final Logger log = LoggerFactory.getLogger(ContractAnalysisService.class);
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private AnalysisJobRepository analysisJobRepository;
+
+    @Autowired
+    private AnalysisFindingRepository analysisFindingRepository;
+
+    @Autowired
+    private ContractAnalysisWorker contractAnalysisWorker;
+
+    @Value("${realty.analysis.list-size:20}")
+    private int listSize; // 분석 작업 목록 크기
+
+    /**
+     * 계약서 분석 요청
+     * 업로드한 파일은 문서로 저장되고(내 문서에서도 보임), 분석 작업은 대기 상태로 저장
+     * @param owner 요청한 사용자
+     * @param file 계약서 파일(텍스트)
+     * @return 저장된 분석 작업
+     * @throws IllegalArgumentException 빈 파일
+     */
+    public AnalysisJob submit(CustomUserDetails owner, MultipartFile file) throws IOException {
+        Document document = documentService.upload(owner, file);
+
+        AnalysisJob job = new AnalysisJob();
+        job.setOwnerSeq(owner.getUserSeq());
+        job.setDocumentSeq(document.getDocumentSeq());
+        AnalysisJob saved = analysisJobRepository.save(job);
+        log.info("analysis.queued jobSeq={} owner={} documentSeq={}", saved.getJobSeq(), owner.getUserId(),
+                document.getDocumentSeq());
+
+        // 커밋된 뒤이므로 워커가 바로 가져갈 수 있음
+        contractAnalysisWorker.wakeUp();
+        return saved;
+    }
+
+    /**
+     * 사용자의 분석 작업 목록(최신순)
+     */
+    @Transactional(readOnly = true)
+    public List<AnalysisJob> findRecent(CustomUserDetails owner) {
+        return analysisJobRepository.findByOwnerSeqOrderByJobSeqDesc(owner.getUserSeq(), Limit.of(listSize));
+    }
+
+    /**
+     * 사용자가 볼 수 있는 분석 작업(본인 작업이거나 모든 문서 조회 권한이 있는 경우)
+     * 권한이 없으면 작업이 있는지도 알 수 없도록 비어 있는 결과 반환
+     */
+    @Transactional(readOnly = true)
+    public Optional<AnalysisJob> findVisible(long jobSeq, CustomUserDetails user) {
+        return analysisJobRepository.findById(jobSeq)
+                .filter(job -> job.getOwnerSeq().equals(user.getUserSeq()) || user.getCanViewAllDocs());
+    }
+
+    /**
+     * 분석 작업의 위험 조항(조항 순서)
+     */
+    @Transactional(readOnly = true)
+    public List<AnalysisFinding> findFindings(AnalysisJob job) {
+        return analysisFindingRepository.findByJobSeqOrderByClauseNoAscFindingSeqAsc(job.getJobSeq());
+    }
+}
@@ -0,0 +1,316 @@
+package com.riskview.realty.service;
+
+import com.riskview.realty.domain.ContractAnalysisResult;
+import com.riskview.realty.domain.repository.AnalysisFindingRepository;
+import com.riskview.realty.domain.repository.AnalysisJobRepository;
+import com.riskview.realty.domain.repository.DocumentRepository;
+import com.riskview.realty.model.AnalysisFinding;
+import com.riskview.realty.model.AnalysisJob;
+import com.riskview.realty.model.Document;
+import com.riskview.realty.support.ContractAnalyzer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 계약서 분석 워커
+ * analysis_jobs에서 대기 중인 작업을 쉬고 있는 워커 수만큼만 가져가서(SKIP LOCKED) 분석하므로
+ * 요청이 몰려도 서버마다 최대 workers개만 동시에 분석하고 나머지는 데이터베이스에서 대기
+ * 작업을 가져가는 일은 analysis-dispatch 스레드 하나가 주기적으로, 또는 새 작업이 들어오거나 분석이 끝났을 때 바로 실행
+ */
+@Service
+public class ContractAnalysisWorker implements MeterBinder {
+    private static final Logger log = LoggerFactory.getLogger(ContractAnalysisWorker.class);
+
+    @Autowired
+    private AnalysisJobRepository analysisJobRepository;
+
+    @Autowired
+    private AnalysisFindingRepository analysisFindingRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private ContractAnalyzer contractAnalyzer;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${realty.analysis.workers:2}")
+    private int workers; // 동시에 분석하는 작업 수(서버당)
+
+    @Value("${realty.analysis.poll-interval:2s}")
+    private Duration pollInterval; // 대기 중인 작업 확인 주기(다른 서버에서 들어온 작업, 재시도)
+
+    @Value("${realty.analysis.stale-after:10m}")
+    private Duration staleAfter; // 이 시간 동안 끝나지 않은 분석 중 작업은 서버가 죽은 것으로 보고 다시 대기
+
+    @Value("${realty.analysis.max-attempts:3}")
+    private int maxAttempts; // 작업당 최대 분석 시도 횟수
+
+    private final AtomicInteger busy = new AtomicInteger(); // 분석 중인 작업 수
+    private ThreadPoolExecutor workerPool;
+    private ScheduledExecutorService dispatcher;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        // 가져간 작업 수가 workers를 넘지 않으므로 대기열에는 쌓이지 않음
+        workerPool = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread thread = new Thread(r, "analysis-worker-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        dispatcher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "analysis-dispatch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        dispatcher.scheduleWithFixedDelay(this::poll, pollInterval.toMillis(), pollInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        long maintenanceMillis = Math.max(staleAfter.toMillis() / 2, 1000);
+        dispatcher.scheduleWithFixedDelay(this::releaseStaleJobs, maintenanceMillis, maintenanceMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        dispatcher.shutdownNow();
+        workerPool.shutdown();
+        // 끝나지 않은 작업은 stale-after가 지나면 다른 서버(또는 재시작한 서버)가 다시 가져감
+        if (!workerPool.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("Analysis workers stopped with {} jobs running", busy.get());
+        }
+    }
+
+    /**
+     * 대기 중인 작업을 바로 가져가도록 요청(작업을 저장한 트랜잭션이 커밋된 뒤 호출)
+     */
+    public void wakeUp() {
+        if (!running) {
+            return;
+        }
+        try {
+            dispatcher.execute(this::poll);
+        } catch (RejectedExecutionException e) {
+            log.debug("Analysis dispatcher is shutting down");
+        }
+    }
+
+    // 쉬고 있는 워커 수만큼 작업을 가져가 분석 시작(analysis-dispatch 스레드에서만 실행)
+    private void poll() {
+        try {
+            int free;
+            while (running && (free = workers - busy.get()) > 0) {
+                List<AnalysisJob> claimed = claim(free);
+                for (AnalysisJob job : claimed) {
+                    busy.incrementAndGet();
+                    workerPool.execute(() -> process(job));
+                }
+                if (claimed.size() < free) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            // 예외가 나가면 주기 실행이 멈추므로 기록만 하고 다음 주기에 다시 시도
+            log.error("Failed to claim analysis jobs", e);
+        }
+    }
+
+    // 대기 중인 작업을 잠그고 RUNNING 상태로 바꾼 뒤 바로 커밋(잠금은 짧게 유지)
+    private List<AnalysisJob> claim(int limit) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<AnalysisJob> jobs = analysisJobRepository.lockQueuedBatch(limit);
+            for (AnalysisJob job : jobs) {
+                job.setStatus(AnalysisJob.Status.RUNNING);
+                job.setClaimedAt(now);
+                job.setAttempts(job.getAttempts() + 1);
+            }
+            return jobs;
+        });
+    }
+
+    private void process(AnalysisJob job) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failed";
+        try {
+            outcome = analyze(job);
+        } catch (RuntimeException e) {
+            log.error("Analysis job {} failed", job.getJobSeq(), e);
+        } finally {
+            busy.decrementAndGet();
+            sample.stop(meterRegistry.timer("realty.analysis.job", "outcome", outcome));
+            wakeUp();
+        }
+    }
+
+    // 문서를 스트림으로 읽어 분석하고 결과 기록, 결과(done, failed, retry, stale) 반환
+    private String analyze(AnalysisJob job) {
+        Optional<Document> document = Optional.ofNullable(job.getDocumentSeq()).flatMap(documentRepository::findById);
+        if (document.isEmpty()) {
+            return fail(job, "문서가 삭제되었습니다.") ? "failed" : "stale";
+        }
+
+        ContractAnalysisResult result;
+        try (InputStream input = Files.newInputStream(documentService.contentPath(document.get()))) {
+            result = contractAnalyzer.analyze(input);
+        } catch (IllegalArgumentException e) {
+            // 지원하지 않는 형식은 다시 시도해도 같으므로 바로 실패 처리
+            return fail(job, e.getMessage()) ? "failed" : "stale";
+        } catch (IOException | RuntimeException e) {
+            log.warn("Analysis job {} attempt {} failed: {}", job.getJobSeq(), job.getAttempts(), e.getMessage());
+            if (job.getAttempts() >= maxAttempts) {
+                return fail(job, String.valueOf(e.getMessage())) ? "failed" : "stale";
+            }
+            Integer updated = transactionTemplate.execute(status -> analysisJobRepository.requeueClaim(
+                    job.getJobSeq(), job.getAttempts(), truncate(String.valueOf(e.getMessage()))));
+            return updated != null && updated == 1 ? "retry" : "stale";
+        }
+
+        recordStage("extract", result.extractNanos());
+        recordStage("segment", result.segmentNanos());
+        recordStage("score", result.scoreNanos());
+        if (!complete(job, result)) {
+            return "stale";
+        }
+        log.info("analysis.done jobSeq={} characters={} clauses={} findings={} score={} level={} "
+                        + "extractMs={} segmentMs={} scoreMs={}", job.getJobSeq(), result.characters(),
+                result.clauseCount(), result.findingCount(), result.riskScore(), result.riskLevel(),
+                TimeUnit.NANOSECONDS.toMillis(result.extractNanos()),
+                TimeUnit.NANOSECONDS.toMillis(result.segmentNanos()),
+                TimeUnit.NANOSECONDS.toMillis(result.scoreNanos()));
+        return "done";
+    }
+
+    /**
+     * 작업 상태와 위험 조항을 한 트랜잭션으로 저장
+     * 이 워커가 가져간 뒤 다른 워커가 다시 가져간 작업이면(시도 횟수나 상태가 바뀜) 아무것도 저장하지 않음
+     * @param job 가져갈 때의 작업(attempts는 이 워커의 시도 번호)
+     * @return 저장했으면 true
+     */
+    boolean complete(AnalysisJob job, ContractAnalysisResult result) {
+        List<AnalysisFinding> findings = new ArrayList<>(result.findings().size());
+        for (ContractAnalysisResult.Finding found : result.findings()) {
+            AnalysisFinding finding = new AnalysisFinding();
+            finding.setJobSeq(job.getJobSeq());
+            finding.setClauseNo(found.clauseNo());
+            finding.setClauseTitle(found.clauseTitle());
+            finding.setRuleId(found.ruleId());
+            finding.setCategory(found.category());
+            finding.setKeyword(found.keyword());
+            finding.setWeight(found.weight());
+            finding.setExcerpt(found.excerpt());
+            findings.add(finding);
+        }
+        Boolean completed = transactionTemplate.execute(status -> {
+            int updated = analysisJobRepository.completeClaim(job.getJobSeq(), job.getAttempts(),
+                    result.clauseCount(), result.findingCount(), result.riskScore(), result.riskLevel(),
+                    TimeUnit.NANOSECONDS.toMillis(result.extractNanos()),
+                    TimeUnit.NANOSECONDS.toMillis(result.segmentNanos()),
+                    TimeUnit.NANOSECONDS.toMillis(result.scoreNanos()), LocalDateTime.now());
+            if (updated != 1) {
+                return false;
+            }
+            analysisFindingRepository.saveAll(findings);
+            return true;
+        });
+        if (!Boolean.TRUE.equals(completed)) {
+            log.warn("analysis.stale jobSeq={} attempt={} result dropped", job.getJobSeq(), job.getAttempts());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 실패 처리(complete와 같이 이 워커가 가져간 그대로인 작업만 바꿈)
+     * @return 실패로 기록했으면 true
+     */
+    boolean fail(AnalysisJob job, String error) {
+        Integer updated = transactionTemplate.execute(status -> analysisJobRepository.failClaim(job.getJobSeq(),
+                job.getAttempts(), truncate(error), LocalDateTime.now()));
+        if (updated == null || updated != 1) {
+            log.warn("analysis.stale jobSeq={} attempt={} failure dropped", job.getJobSeq(), job.getAttempts());
+            return false;
+        }
+        log.warn("analysis.failed jobSeq={} attempts={} error={}", job.getJobSeq(), job.getAttempts(), error);
+        return true;
+    }
+
+    // 오래 방치된 분석 중 작업을 다시 대기 상태로 되돌리거나 최대 시도 횟수를 넘었으면 실패 처리
+    private void releaseStaleJobs() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime staleBefore = now.minus(staleAfter);
+            Integer released = transactionTemplate.execute(status ->
+                    analysisJobRepository.releaseStaleClaims(staleBefore, maxAttempts));
+            Integer failed = transactionTemplate.execute(status ->
+                    analysisJobRepository.failStaleClaims(staleBefore, maxAttempts, now));
+            if (released != null && released > 0 || failed != null && failed > 0) {
+                log.warn("Released {} and failed {} stale analysis jobs", released, failed);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to release stale analysis jobs", e);
+        }
+    }
+
+    private void recordStage(String stage, long nanos) {
+        meterRegistry.timer("realty.analysis.stage", "stage", stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static String truncate(String error) {
+        return error.length() > 500 ? error.substring(0, 500) : error;
+    }
+
+    /**
+     * 분석 대기 중인 작업 수(모든 서버 합계, 메트릭 수집 시점마다 조회)와 이 서버에서 분석 중인 작업 수
+     */
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("realty.analysis.queued", analysisJobRepository,
+                        repository -> repository.countByStatus(AnalysisJob.Status.QUEUED))
+                .description("분석 대기 중인 계약서 분석 작업 수")
+                .register(registry);
+        Gauge.builder("realty.analysis.busy", busy, AtomicInteger::get)
+                .description("이 서버에서 분석 중인 작업 수")
+                .register(registry);
+    }
+}
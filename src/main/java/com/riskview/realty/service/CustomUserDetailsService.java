@@ -1,43 +1,88 @@
 package com.riskview.realty.service;
 
-import com.riskview.realty.model.User;
-
 import org.springframework.beans.factory.annotation.Autowired;
 import com.riskview.realty.domain.CustomUserDetails;
+import com.riskview.realty.domain.UserAuthInfo;
 import com.riskview.realty.domain.repository.UserRepository;
+import com.riskview.realty.support.LoginAttemptContext;
+import com.riskview.realty.support.UserAuthCache;
 
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 // 데이터베이스에서 사용자 정보를 조회하여 SpringSecurity에서 사용할 수 있게끔 반환하는 클래스 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+    private static final Logger log = LoggerFactory.getLogger(CustomUserDetailsService.class);
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserAuthCache userAuthCache;
+
+    @Autowired
+    private RolePermissionRegistry rolePermissionRegistry;
+
+    /**
+     * 로그인 시 사용자 조회
+     * 조회 결과를 LoginAttemptContext에 기록하여 로그인 핸들러가 다시 조회하지 않게 함
+     * 탈퇴한 사용자는 비활성화된 UserDetails로 반환하여
+     * 비밀번호 검사 전에 DisabledException으로 실패 처리됨
+     */
     @Override
+    @Timed("realty.auth.load-user")
     public UserDetails loadUserByUsername(String userId) throws UsernameNotFoundException {
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new UsernameNotFoundException("login.error.user.notfound"));
+        UserAuthInfo user = findAuthInfo(userId).orElse(null);
+        LoginAttemptContext.record(user);
 
-        if (user.isDeleted()) {
-            throw new UsernameNotFoundException("login.error.user.deleted");
+        if (user == null) {
+            throw new UsernameNotFoundException("login.error.user.notfound");
         }
 
-        return new CustomUserDetails(
-                user.getUserSeq(),
-                user.getUserId(),
-                user.getEmail(),
-                user.getPasswordHash(),
-                user.getName(),
-                user.getRole().getRole(),
-                true,
-                user.getRole().isCanManageUsers(),
-                user.getRole().isCanViewAllDocs(),
-                user.getUserCode()
-        );
+        // 같은 역할의 사용자는 레지스트리의 권한 객체를 공유
+        return user.toUserDetails(rolePermissionRegistry.get(user.getRole()));
+    }
+
+    /**
+     * 로그인 성공 후 오래된 형식이나 낮은 cost의 해시를 새 해시로 교체
+     * 비밀번호 원문은 로그인할 때만 알 수 있으므로 Spring Security가 로그인 성공 시 호출함
+     * @param user 로그인한 사용자
+     * @param newPassword 새로 만든 해시({bcrypt} 접두어 포함)
+     * @return 새 해시가 적용된 사용자 정보
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        CustomUserDetails details = (CustomUserDetails) user;
+        int updated = userRepository.updatePasswordHash(details.getUserId(), details.getPassword(), newPassword);
+        // 캐시에 남은 예전 해시 제거
+        userAuthCache.invalidate(details.getUserId());
+        if (updated == 0) {
+            // 로그인 검증 후 다른 요청이 비밀번호를 바꿈(예전 비밀번호로 만든 새 해시는 버림)
+            log.info("login.rehash.skipped userId={}", details.getUserId());
+            return details;
+        }
+        log.info("login.rehash userId={}", details.getUserId());
+        return details.withPasswordHash(newPassword);
+    }
+
+    /**
+     * 로그인용 사용자 정보 조회(캐시에 없을 때만 데이터베이스 조회)
+     * 탈퇴한 사용자도 반환하므로 호출하는 쪽에서 isDeleted를 확인해야 함
+     * @param userId 사용자 ID
+     * @return 사용자 정보
+     */
+    public Optional<UserAuthInfo> findAuthInfo(String userId) {
+        return userAuthCache.get(userId, userRepository::findAuthInfoByUserId);
     }
-}
\ No newline at end of file
+}
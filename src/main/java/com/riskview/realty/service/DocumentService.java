@@ -0,0 +1,175 @@
+package com.riskview.realty.service;
+
+import com.riskview.realty.domain.CustomUserDetails;
+import com.riskview.realty.domain.repository.DocumentRepository;
+import com.riskview.realty.model.Document;
+import com.riskview.realty.support.DocumentBlobStore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 문서 업로드, 조회, 삭제
+ * 업로드 파일은 메모리에 올리지 않고 디스크의 임시 파일에서 해시를 계산한 뒤 저장소로 이동
+ * 권한은 역할 권한(RolePermission)의 can_upload, can_delete, can_view_all_docs를 따름
+ */
+@Service
+public class DocumentService {
+    private static final Logger log = LoggerFactory.getLogger(DocumentService.class);
+
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final int MAX_CONTENT_TYPE_LENGTH = 100;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private DocumentBlobStore blobStore;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${realty.documents.list-size:50}")
+    private int listSize; // 문서 목록 한 페이지 크기
+
+    /**
+     * 문서 업로드
+     * 멀티파트 파일은 이미 디스크 임시 파일(spring.servlet.multipart.file-size-threshold=0)이므로
+     * transferTo(File)로 같은 파일 시스템의 저장소 임시 디렉터리로 이름만 바꾼 뒤(Part.write) 한 번 읽어 SHA-256을 계산
+     * (transferTo(Path)는 내용을 다시 복사하므로 사용하지 않음)
+     * @param owner 업로드한 사용자
+     * @param file 업로드 파일
+     * @return 저장된 문서
+     * @throws IllegalArgumentException 빈 파일
+     */
+    public Document upload(CustomUserDetails owner, MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("빈 파일은 업로드할 수 없습니다.");
+        }
+
+        Path temp = blobStore.newTempFile();
+        try {
+            file.transferTo(temp.toFile());
+            long size = Files.size(temp);
+            String sha256 = DocumentBlobStore.sha256(temp);
+
+            Document document = new Document();
+            document.setOwnerSeq(owner.getUserSeq());
+            document.setOriginalName(originalName(file.getOriginalFilename()));
+            document.setContentType(contentType(file.getContentType()));
+            document.setSha256(sha256);
+            document.setFileSize(size);
+
+            Document saved = transactionTemplate.execute(status -> {
+                boolean stored;
+                try {
+                    stored = blobStore.store(sha256, size, temp);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                log.info("document.upload owner={} sha256={} size={} deduplicated={}", owner.getUserId(), sha256,
+                        size, !stored);
+                return documentRepository.save(document);
+            });
+            return saved;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            // 이미 있는 내용이거나 저장에 실패한 경우 남은 임시 파일 삭제
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 사용자의 문서 목록(최신순)
+     */
+    @Transactional(readOnly = true)
+    public List<Document> findMine(CustomUserDetails owner) {
+        return documentRepository.findByOwnerSeqOrderByDocumentSeqDesc(owner.getUserSeq(), Limit.of(listSize));
+    }
+
+    /**
+     * 전체 문서 목록(최신순)
+     * @param before 이 documentSeq 이전 문서부터 조회(첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public List<Document> findAll(Long before) {
+        return documentRepository.findByDocumentSeqLessThanOrderByDocumentSeqDesc(
+                before == null ? Long.MAX_VALUE : before, Limit.of(listSize));
+    }
+
+    /**
+     * 사용자가 읽을 수 있는 문서 조회(본인 문서이거나 모든 문서 조회 권한이 있는 경우)
+     * 권한이 없으면 문서가 있는지도 알 수 없도록 비어 있는 결과 반환
+     */
+    @Transactional(readOnly = true)
+    public Optional<Document> findReadable(long documentSeq, CustomUserDetails user) {
+        return documentRepository.findById(documentSeq).filter(document -> canAccess(document, user));
+    }
+
+    /**
+     * 문서 내용 파일 경로
+     */
+    public Path contentPath(Document document) {
+        return blobStore.path(document.getSha256());
+    }
+
+    /**
+     * 문서 삭제(can_delete 권한은 호출한 쪽에서 확인)
+     * 같은 내용을 참조하는 문서가 더 이상 없으면 파일도 삭제
+     * @return 삭제했으면 true, 없거나 접근할 수 없는 문서이면 false
+     */
+    @Transactional
+    public boolean delete(long documentSeq, CustomUserDetails user) throws IOException {
+        Optional<Document> found = documentRepository.findById(documentSeq).filter(document -> canAccess(document, user));
+        if (found.isEmpty()) {
+            return false;
+        }
+        Document document = found.get();
+        documentRepository.delete(document);
+        // document_blobs 행을 지우기 전에 외래 키로 참조하는 문서 행을 먼저 삭제
+        documentRepository.flush();
+        blobStore.release(document.getSha256());
+        log.info("document.delete user={} documentSeq={} sha256={}", user.getUserId(), documentSeq,
+                document.getSha256());
+        return true;
+    }
+
+    private static boolean canAccess(Document document, CustomUserDetails user) {
+        return document.getOwnerSeq().equals(user.getUserSeq()) || user.getCanViewAllDocs();
+    }
+
+    // 브라우저가 보낸 경로(C:\...\a.pdf)는 제외하고 파일 이름만 사용
+    private static String originalName(String name) {
+        String filename = StringUtils.getFilename(StringUtils.cleanPath(name == null ? "" : name.replace('\\', '/')));
+        if (!StringUtils.hasText(filename)) {
+            return "document";
+        }
+        return filename.length() > MAX_NAME_LENGTH ? filename.substring(filename.length() - MAX_NAME_LENGTH) : filename;
+    }
+
+    private static String contentType(String contentType) {
+        try {
+            String type = MediaType.parseMediaType(contentType).toString();
+            return type.length() > MAX_CONTENT_TYPE_LENGTH ? MediaType.APPLICATION_OCTET_STREAM_VALUE : type;
+        } catch (IllegalArgumentException e) { // InvalidMediaTypeException 포함
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+    }
+}
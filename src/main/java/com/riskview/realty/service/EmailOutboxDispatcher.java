@@ -0,0 +1,202 @@
+package com.riskview.realty.service;
+
+import com.riskview.realty.domain.repository.EmailOutboxRepository;
+import com.riskview.realty.model.EmailOutbox;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 이메일 아웃박스 디스패처
+ * 발송 대기 중인 메일을 배치 단위로 가져가 EmailService로 발송하고 결과를 기록
+ * SKIP LOCKED로 가져가므로 여러 노드에서 동시에 실행되어도 같은 메일을 중복 발송하지 않음
+ * 결과를 기다리다 시간이 초과된 메일은 이미 발송되었을 수 있으므로 다시 보내지 않고 UNKNOWN으로 기록하며,
+ * 늦게라도 결과가 오면 그 결과로 갱신(결과가 오기 전에 서버가 종료되면 UNKNOWN으로 남음)
+ */
+@Service
+public class EmailOutboxDispatcher implements MeterBinder {
+    private static final Logger log = LoggerFactory.getLogger(EmailOutboxDispatcher.class);
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${realty.mail.outbox.batch-size:50}")
+    private int batchSize; // 한 번에 가져갈 최대 메일 수
+
+    @Value("${realty.mail.outbox.max-attempts:5}")
+    private int maxAttempts; // 아웃박스 단위 최대 발송 시도 횟수
+
+    @Value("${realty.mail.outbox.retry-backoff:30s}")
+    private Duration retryBackoff; // 첫 재시도 대기 시간(시도마다 2배씩 증가)
+
+    @Value("${realty.mail.outbox.send-timeout:2m}")
+    private Duration sendTimeout; // 배치 발송 결과를 기다리는 최대 시간
+
+    @Value("${realty.mail.outbox.retention:7d}")
+    private Duration retention; // 발송 완료 메일 보관 기간
+
+    /**
+     * 발송 대기 중인 메일을 가져가 발송
+     * 가져온 메일이 배치 크기만큼 가득 차 있으면 대기 없이 다음 배치를 이어서 처리
+     */
+    @Scheduled(fixedDelayString = "${realty.mail.outbox.poll-interval:1s}")
+    public void dispatch() {
+        List<EmailOutbox> claimed;
+        do {
+            claimed = claimBatch();
+            if (!claimed.isEmpty()) {
+                deliver(claimed);
+            }
+        } while (claimed.size() == batchSize);
+    }
+
+    /**
+     * 오래 방치된 발송 중 메일을 되돌리고 보관 기간이 지난 메일 삭제
+     */
+    @Scheduled(fixedDelayString = "${realty.mail.outbox.maintenance-interval:5m}")
+    public void maintain() {
+        LocalDateTime now = LocalDateTime.now();
+        Integer released = transactionTemplate.execute(status ->
+                emailOutboxRepository.releaseStaleClaims(now.minus(sendTimeout.multipliedBy(2))));
+        Integer purged = transactionTemplate.execute(status ->
+                emailOutboxRepository.deleteSentBefore(now.minus(retention)));
+        if (released != null && released > 0) {
+            log.warn("Released {} stale outbox claims", released);
+        }
+        log.debug("Purged {} sent outbox rows", purged);
+    }
+
+    // 발송 시각이 된 메일을 잠그고 SENDING 상태로 바꾼 뒤 바로 커밋(잠금은 짧게 유지)
+    private List<EmailOutbox> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<EmailOutbox> batch = emailOutboxRepository.lockDueBatch(now, batchSize);
+            for (EmailOutbox outbox : batch) {
+                outbox.setStatus(EmailOutbox.Status.SENDING);
+                outbox.setClaimedAt(now);
+            }
+            return batch;
+        });
+    }
+
+    // 배치를 발송 큐에 넣고 결과를 기다린 뒤 상태를 한 번에 기록
+    private void deliver(List<EmailOutbox> batch) {
+        List<CompletableFuture<Void>> results = new ArrayList<>(batch.size());
+        for (EmailOutbox outbox : batch) {
+            results.add(emailService.sendEmail(outbox.getRecipient(), outbox.getSubject(), outbox.getBody()));
+        }
+
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        int sent = 0;
+        List<Integer> unknown = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            EmailOutbox outbox = batch.get(i);
+            outbox.setAttempts(outbox.getAttempts() + 1);
+            try {
+                results.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                markSent(outbox);
+                sent++;
+            } catch (ExecutionException e) {
+                markFailed(outbox, String.valueOf(e.getCause().getMessage()));
+            } catch (TimeoutException e) {
+                markUnknown(outbox, "send timed out after " + sendTimeout);
+                unknown.add(i);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                markUnknown(outbox, "interrupted");
+                unknown.add(i);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> emailOutboxRepository.saveAll(batch));
+        log.info("Outbox dispatch finished: {} sent, {} unknown, {} failed", sent, unknown.size(),
+                batch.size() - sent - unknown.size());
+
+        // UNKNOWN 상태가 저장된 뒤에 늦게 온 결과를 기록
+        for (int i : unknown) {
+            Long outboxSeq = batch.get(i).getOutboxSeq();
+            results.get(i).whenComplete((ignored, failure) -> recordLateResult(outboxSeq, failure));
+        }
+    }
+
+    // 시간 초과 후 도착한 결과로 UNKNOWN 상태의 메일 갱신(실패했으면 발송되지 않은 것이므로 다시 발송 대기)
+    private void recordLateResult(Long outboxSeq, Throwable failure) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> emailOutboxRepository.findById(outboxSeq)
+                    .filter(outbox -> outbox.getStatus() == EmailOutbox.Status.UNKNOWN)
+                    .ifPresent(outbox -> {
+                        if (failure == null) {
+                            markSent(outbox);
+                        } else {
+                            markFailed(outbox, String.valueOf(failure.getMessage()));
+                        }
+                    }));
+        } catch (RuntimeException e) {
+            log.warn("Could not record late result of outbox email {}: {}", outboxSeq, e.getMessage());
+        }
+    }
+
+    private void markSent(EmailOutbox outbox) {
+        outbox.setStatus(EmailOutbox.Status.SENT);
+        outbox.setSentAt(LocalDateTime.now());
+        outbox.setLastError(null);
+    }
+
+    // 발송 여부를 알 수 없으므로 재발송하지 않음
+    private void markUnknown(EmailOutbox outbox, String error) {
+        outbox.setStatus(EmailOutbox.Status.UNKNOWN);
+        outbox.setLastError(error);
+        log.warn("Outbox email {} to {} has unknown delivery state: {}", outbox.getOutboxSeq(), outbox.getRecipient(), error);
+    }
+
+    // 최대 시도 횟수 이내면 지수 백오프 후 다시 발송 대기, 아니면 실패 처리
+    private void markFailed(EmailOutbox outbox, String error) {
+        outbox.setLastError(error.length() > 500 ? error.substring(0, 500) : error);
+        if (outbox.getAttempts() >= maxAttempts) {
+            outbox.setStatus(EmailOutbox.Status.FAILED);
+            log.error("Giving up on outbox email {} to {}: {}", outbox.getOutboxSeq(), outbox.getRecipient(), error);
+            return;
+        }
+        outbox.setStatus(EmailOutbox.Status.PENDING);
+        outbox.setNextAttemptAt(LocalDateTime.now().plus(retryBackoff.multipliedBy(1L << (outbox.getAttempts() - 1))));
+    }
+
+    /**
+     * 아웃박스에서 발송을 기다리는 메일 수(모든 서버 합계, 메트릭 수집 시점마다 조회)
+     */
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("realty.mail.outbox.pending", emailOutboxRepository,
+                        repository -> repository.countByStatus(EmailOutbox.Status.PENDING))
+                .description("발송 대기 중인 아웃박스 메일 수")
+                .register(registry);
+        Gauge.builder("realty.mail.outbox.unknown", emailOutboxRepository,
+                        repository -> repository.countByStatus(EmailOutbox.Status.UNKNOWN))
+                .description("발송 결과를 알 수 없는 아웃박스 메일 수(확인 필요)")
+                .register(registry);
+    }
+}
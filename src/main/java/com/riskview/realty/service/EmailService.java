@@ -1,13 +1,44 @@
 package com.riskview.realty.service;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.mail.internet.MimeMessage;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이메일 발송 서비스
+ * 호출한 스레드는 큐에 메일을 넣기만 하고 바로 반환되며,
+ * 실제 SMTP 전송은 워커 스레드가 배치 단위로 하나의 연결을 재사용하여 처리
+ */
 @Service
 public class EmailService {
     // EmailService 클래스 로깅을 위한 Logger
@@ -17,22 +48,245 @@ public class EmailService {
     // 이메일 발송을 위한 JavaMailSender 객체
     private JavaMailSender mailSender;
 
-    // 이메일을 전송하는 메서드
-    public void sendEmail(String to, String subject, String text) {
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${spring.mail.username:}")
+    private String from; // 발신자 이메일
+
+    @Value("${realty.mail.queue-capacity:1000}")
+    private int queueCapacity; // 발송 대기 큐의 최대 크기
+
+    @Value("${realty.mail.workers:2}")
+    private int workerCount; // 발송 워커 스레드 수
+
+    @Value("${realty.mail.batch-size:20}")
+    private int batchSize; // 한 번의 SMTP 연결로 보낼 최대 메일 수
+
+    @Value("${realty.mail.max-attempts:3}")
+    private int maxAttempts; // 최대 발송 시도 횟수
+
+    @Value("${realty.mail.retry-backoff:2s}")
+    private Duration retryBackoff; // 첫 재시도 대기 시간(시도마다 2배씩 증가)
+
+    private BlockingQueue<OutboundEmail> queue;
+    private List<Thread> workers;
+    private ScheduledExecutorService retryScheduler;
+    private final Set<OutboundEmail> waitingRetry = ConcurrentHashMap.newKeySet(); // 재시도 대기 중인 메일
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "mail-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+
+        Gauge.builder("realty.mail.queue.depth", queue, BlockingQueue::size)
+                .description("발송 대기 중인 메일 수")
+                .register(meterRegistry);
+
+        workers = new ArrayList<>(workerCount);
+        ThreadFactory threadFactory = workerThreadFactory();
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = threadFactory.newThread(this::drainQueue);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * 발송 워커 스레드 생성 방식
+     * 가상 스레드 모드(virtual 프로필)라도 Jakarta Mail의 SMTPTransport는 synchronized 안에서 소켓 I/O를 하므로
+     * JDK 21~23에서는 캐리어 스레드를 붙잡음(pinning), 이 문제가 해결된 JDK 24(JEP 491)부터만 가상 스레드 사용
+     */
+    private ThreadFactory workerThreadFactory() {
+        if (Threading.VIRTUAL.isActive(environment) && Runtime.version().feature() >= 24) {
+            return new VirtualThreadTaskExecutor("mail-sender-").getVirtualThreadFactory();
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, "mail-sender-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        retryScheduler.shutdownNow();
+        retryScheduler.awaitTermination(5, TimeUnit.SECONDS);
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        // 보내지 못한 메일은 핸들을 실패로 완료하여 기다리는 쪽(아웃박스 등)이 멈추지 않도록 함
+        List<OutboundEmail> unsent = new ArrayList<>(waitingRetry);
+        waitingRetry.clear();
+        queue.drainTo(unsent);
+        if (!unsent.isEmpty()) {
+            logger.warn("Mail queue stopped with {} unsent messages", unsent.size());
+            unsent.forEach(this::rejectOnStop);
+        }
+    }
+
+    private void rejectOnStop(OutboundEmail email) {
+        email.result.completeExceptionally(new MailSendException("Mail service stopped"));
+    }
+
+    /**
+     * 이메일을 발송 큐에 넣는 메서드
+     * 큐가 가득 찬 경우 기다리지 않고 실패한 핸들을 반환
+     * @param to 수신자 이메일
+     * @param subject 이메일 제목
+     * @param text 이메일 내용(HTML)
+     * @return 발송 완료 시 완료되는 핸들
+     */
+    public CompletableFuture<Void> sendEmail(String to, String subject, String text) {
+        OutboundEmail email = new OutboundEmail(to, subject, text);
+        // 큐에 넣은 시점부터 발송(재시도 포함)이 끝날 때까지의 시간
+        Timer.Sample sample = Timer.start(meterRegistry);
+        if (!running || !queue.offer(email)) {
+            logger.warn("Mail queue is full, rejecting email to {}", to);
+            sample.stop(meterRegistry.timer("realty.mail.send", "outcome", "rejected"));
+            email.result.completeExceptionally(new MailSendException("Mail queue is full"));
+            return email.result;
+        }
+        // 큐에 넣는 사이에 stop()이 큐를 비웠으면 남은 메일을 꺼내 실패 처리
+        if (!running && queue.remove(email)) {
+            rejectOnStop(email);
+        }
+        email.result.whenComplete((ignored, failure) -> sample.stop(
+                meterRegistry.timer("realty.mail.send", "outcome", failure == null ? "sent" : "failed")));
+        return email.result;
+    }
+
+    /**
+     * 현재 발송 대기 중인 메일 수
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    // 워커 스레드: 큐에서 메일을 꺼내 배치로 전송
+    private void drainQueue() {
+        List<OutboundEmail> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(queue.take()); // 첫 메일은 도착할 때까지 대기
+                queue.drainTo(batch, batchSize - 1); // 나머지는 대기 없이 모아서 처리
+                sendBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 배치를 하나의 SMTP 연결로 전송하고 실패한 메일만 재시도
+    private void sendBatch(List<OutboundEmail> batch) {
+        Map<MimeMessage, OutboundEmail> messages = new IdentityHashMap<>();
+        for (OutboundEmail email : batch) {
+            try {
+                messages.put(createMessage(email), email);
+            } catch (Exception e) {
+                // 메시지 생성 실패는 재시도해도 동일하므로 바로 실패 처리
+                logger.error("Error building email to {}: {}", email.to, e.getMessage());
+                email.result.completeExceptionally(e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
         try {
-            MimeMessage message = mailSender.createMimeMessage(); // MimeMessage 객체 생성(HTML 형식의 이메일을 전송하기 위해)
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8"); // true: multipart 메시지 사용(첨부 파일 포함 가능)
-
-            helper.setTo(to); // 수신자 이메일
-            helper.setFrom("${spring.mail.username}"); // 발신자 이메일
-            helper.setSubject(subject); // 이메일 제목
-            helper.setText(text, true); // 이메일 내용 (true: HTML 형식)
-            mailSender.send(message); // 이메일 전송
-            
-            logger.info("Email sent successfully to {}", to); // 이메일 전송 성공 로깅
-            
+            // JavaMailSenderImpl은 여러 메시지를 한 번의 Transport 연결로 전송
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            messages.values().forEach(this::onSent);
+        } catch (MailSendException e) {
+            Map<Object, Exception> failed = e.getFailedMessages();
+            if (failed.isEmpty()) {
+                // 연결 자체가 실패한 경우 배치 전체가 실패
+                messages.values().forEach(email -> onFailure(email, e));
+                return;
+            }
+            messages.forEach((message, email) -> {
+                Exception cause = failed.get(message);
+                if (cause == null) {
+                    onSent(email);
+                } else {
+                    onFailure(email, cause);
+                }
+            });
         } catch (Exception e) {
-            logger.error("Error sending email to {}: {}", to, e.getMessage()); // 이메일 전송 실패 로깅
+            messages.values().forEach(email -> onFailure(email, e));
+        }
+    }
+
+    // MimeMessage 객체 생성(HTML 형식의 이메일을 전송하기 위해)
+    private MimeMessage createMessage(OutboundEmail email) throws Exception {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8"); // true: multipart 메시지 사용(첨부 파일 포함 가능)
+
+        helper.setTo(email.to); // 수신자 이메일
+        if (!from.isEmpty()) {
+            helper.setFrom(from); // 발신자 이메일
+        }
+        helper.setSubject(email.subject); // 이메일 제목
+        helper.setText(email.text, true); // 이메일 내용 (true: HTML 형식)
+        return message;
+    }
+
+    private void onSent(OutboundEmail email) {
+        logger.info("Email sent successfully to {}", email.to); // 이메일 전송 성공 로깅
+        email.result.complete(null);
+    }
+
+    private void onFailure(OutboundEmail email, Exception cause) {
+        if (email.attempt >= maxAttempts || !running) {
+            logger.error("Error sending email to {} after {} attempts: {}", email.to, email.attempt, cause.getMessage()); // 이메일 전송 실패 로깅
+            email.result.completeExceptionally(cause);
+            return;
+        }
+
+        // 지수 백오프 후 큐에 다시 넣음
+        long delay = retryBackoff.toMillis() << (email.attempt - 1);
+        email.attempt++;
+        logger.warn("Retrying email to {} in {}ms (attempt {}): {}", email.to, delay, email.attempt, cause.getMessage());
+        waitingRetry.add(email);
+        retryScheduler.schedule(() -> {
+            if (waitingRetry.remove(email) && !queue.offer(email)) {
+                email.result.completeExceptionally(new MailSendException("Mail queue is full"));
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 발송 대기 중인 이메일
+     */
+    private static final class OutboundEmail {
+        private final String to;
+        private final String subject;
+        private final String text;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private int attempt = 1; // 워커 스레드 하나만 접근하므로 동기화 불필요
+
+        private OutboundEmail(String to, String subject, String text) {
+            this.to = to;
+            this.subject = subject;
+            this.text = text;
         }
     }
 }
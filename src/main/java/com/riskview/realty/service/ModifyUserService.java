@@ -1,74 +1,124 @@
 package com.riskview.realty.service;
 
+import com.riskview.realty.domain.SessionUser;
+import com.riskview.realty.domain.UserAuthInfo;
 import com.riskview.realty.domain.dto.ModifyUserDTO;
 import com.riskview.realty.domain.dto.UserDTO;
 import com.riskview.realty.model.User;
 import com.riskview.realty.domain.repository.UserRepository;
+import com.riskview.realty.support.UserAuthCache;
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.HttpSession;
 import java.util.NoSuchElementException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class ModifyUserService {
+    private static final Logger log = LoggerFactory.getLogger(ModifyUserService.class);
+
     @Autowired
     private UserRepository userRepository;
     
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UserAuthCache userAuthCache;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     /**
      * 사용자 정보 수정
      * @param modifyUserDTO 수정할 사용자 정보
      * @throws NoSuchElementException 사용자를 찾을 수 없을 때 발생
      * @throws InvalidPasswordException 현재 비밀번호가 일치하지 않을 때 발생
      * @throws PasswordMismatchException 새 비밀번호가 일치하지 않을 때 발생
+     * @throws StaleUpdateException 화면을 연 뒤 다른 곳에서 먼저 수정했거나 버전 없이 요청했을 때 발생
      */
-    @Transactional
+    @Timed("realty.user.modify")
     public void modifyUserInfo(ModifyUserDTO modifyUserDTO, HttpSession session) {
-        // 비밀번호 검증
-        if (!validateCurrentPassword(modifyUserDTO.getUserId(), modifyUserDTO.getCurrentPassword())) {
-            throw new InvalidPasswordException("현재 비밀번호가 일치하지 않습니다.");
+        // 버전 없이 보낸 요청은 다른 곳의 수정을 덮어쓸 수 있으므로 거절
+        Long version = modifyUserDTO.getVersion();
+        if (version == null) {
+            throw new StaleUpdateException("회원정보 버전이 없습니다. 새로고침 후 다시 시도해주세요.");
         }
 
-        // 사용자 조회
-        User existingUser = userRepository.findByUserId(modifyUserDTO.getUserId())
+        // 비밀번호 검증에 쓸 해시 조회(로그인 직후에는 캐시에 있으므로 데이터베이스를 조회하지 않음)
+        UserAuthInfo authInfo = customUserDetailsService.findAuthInfo(modifyUserDTO.getUserId())
             .orElseThrow(() -> new NoSuchElementException("해당 사용자를 찾을 수 없습니다: " + modifyUserDTO.getUserId()));
+        String verifiedHash = authInfo.getPasswordHash();
+
+        // 해싱은 대기열에서 오래 기다릴 수 있으므로 트랜잭션(데이터베이스 연결)을 열기 전에 실행
+        // 비밀번호 검증(BCrypt 비교는 여기서 한 번만 실행)
+        if (!passwordEncoder.matches(modifyUserDTO.getCurrentPassword(), verifiedHash)) {
+            throw new InvalidPasswordException("현재 비밀번호가 일치하지 않습니다.");
+        }
 
         // 비밀번호 변경 (새 비밀번호가 입력된 경우에만)
+        String newPasswordHash = null;
         if (modifyUserDTO.getNewPassword() != null && !modifyUserDTO.getNewPassword().isEmpty()) {
             if (!modifyUserDTO.getNewPassword().equals(modifyUserDTO.getConfirmNewPassword())) {
                 throw new PasswordMismatchException("새 비밀번호가 일치하지 않습니다.");
             }
             // 새 비밀번호가 현재 비밀번호와 다른지 확인
-            if (passwordEncoder.matches(modifyUserDTO.getNewPassword(), existingUser.getPasswordHash())) {
+            // 현재 비밀번호는 위에서 해시와 일치함을 확인했으므로 해시 비교 대신 입력값끼리 비교
+            if (modifyUserDTO.getNewPassword().equals(modifyUserDTO.getCurrentPassword())) {
                 throw new IllegalArgumentException("새 비밀번호는 현재 비밀번호와 달라야 합니다.");
             }
-            existingUser.setPasswordHash(passwordEncoder.encode(modifyUserDTO.getNewPassword()));
+            newPasswordHash = passwordEncoder.encode(modifyUserDTO.getNewPassword());
         }
+        String passwordHash = newPasswordHash;
+
+        User updatedUser = transactionTemplate.execute(status -> {
+            // 사용자 조회(수정할 엔티티)
+            User existingUser = userRepository.findByUserId(modifyUserDTO.getUserId())
+                .orElseThrow(() -> new NoSuchElementException("해당 사용자를 찾을 수 없습니다: " + modifyUserDTO.getUserId()));
+
+            // 화면을 연 뒤 다른 탭이나 기기에서 먼저 수정했으면 덮어쓰지 않음
+            if (version != existingUser.getVersion()) {
+                throw new StaleUpdateException("다른 곳에서 회원정보가 먼저 수정되었습니다. 새로고침 후 다시 시도해주세요.");
+            }
+            // 검증에 쓴 해시(캐시)가 다른 서버에서 바뀐 비밀번호의 예전 해시였으면 캐시를 비우고 다시 시도하게 함
+            if (!verifiedHash.equals(existingUser.getPasswordHash())) {
+                userAuthCache.invalidate(existingUser.getUserId());
+                throw new StaleUpdateException("다른 곳에서 회원정보가 먼저 수정되었습니다. 새로고침 후 다시 시도해주세요.");
+            }
 
-        // 기본 정보 업데이트
-        existingUser.setName(modifyUserDTO.getName());
-        existingUser.setUserNickname(modifyUserDTO.getUserNickname());
-        existingUser.setEmail(modifyUserDTO.getEmail());
-        
-        // 변경사항 저장
-        userRepository.save(existingUser);
+            if (passwordHash != null) {
+                existingUser.setPasswordHash(passwordHash);
+            }
+            // 기본 정보 업데이트(값이 바뀐 컬럼만 UPDATE에 포함됨)
+            existingUser.setName(modifyUserDTO.getName());
+            existingUser.setUserNickname(modifyUserDTO.getUserNickname());
+            existingUser.setEmail(modifyUserDTO.getEmail());
+
+            // 변경사항 저장(변경 감지로 UPDATE, 조회 이후 다른 트랜잭션이 먼저 수정했으면 버전이 달라 실패)
+            try {
+                userRepository.flush();
+            } catch (ObjectOptimisticLockingFailureException e) {
+                throw new StaleUpdateException("다른 곳에서 회원정보가 먼저 수정되었습니다. 새로고침 후 다시 시도해주세요.");
+            }
+            return existingUser;
+        });
+        // 캐시된 로그인 정보 제거(비밀번호, 이름 등이 바뀌었으므로)
+        userAuthCache.invalidate(updatedUser.getUserId());
 
         // 세션에 저장된 사용자 정보 업데이트
-        UserDTO userDTO = (UserDTO) session.getAttribute("user");
-        if (userDTO != null) {
-            // 기존 userDTO 객체의 속성만 업데이트
-            userDTO.setUserId(existingUser.getUserId());
-            userDTO.setUserNickname(existingUser.getUserNickname());
-            userDTO.setName(existingUser.getName());
-            userDTO.setEmail(existingUser.getEmail());
-
-            session.setAttribute("user", userDTO);
+        if (session.getAttribute("user") != null) {
+            // 세션 저장소에 다시 저장되도록 새 객체로 교체
+            session.setAttribute("user", SessionUser.from(updatedUser));
             session.setAttribute("successMessage", "회원정보가 수정되었습니다.");
-            System.out.println("회원정보가 수정되었습니다.");
+            log.info("modify.success userId={}", updatedUser.getUserId());
         } else {
             throw new IllegalStateException("세션에 저장된 사용자 정보가 없습니다.");
         }
@@ -94,16 +144,14 @@ public class ModifyUserService {
     }
     
     /**
-     * 현재 비밀번호 검증
+     * 수정 화면에 넣을 사용자 정보 버전 조회
      * @param userId 사용자 ID
-     * @param currentPassword 현재 비밀번호
-     * @return 비밀번호가 일치하는지 여부
+     * @return 현재 버전
+     * @throws NoSuchElementException 사용자를 찾을 수 없을 때 발생
      */
-    private boolean validateCurrentPassword(String userId, String currentPassword) {
-        User user = userRepository.findByUserId(userId)
+    public long getVersion(String userId) {
+        return userRepository.findVersionByUserId(userId)
             .orElseThrow(() -> new NoSuchElementException("다음 사용자 ID의 사용자를 찾을 수 없습니다: " + userId));
-        
-        return passwordEncoder.matches(currentPassword, user.getPasswordHash());
     }
 
     /**
@@ -112,7 +160,6 @@ public class ModifyUserService {
     public static class InvalidPasswordException extends RuntimeException {
         public InvalidPasswordException(String message) {
             super(message);
-            System.out.println("현재 비밀번호가 일치하지 않습니다.");
         }
     }
 
@@ -122,7 +169,15 @@ public class ModifyUserService {
     public static class PasswordMismatchException extends RuntimeException {
         public PasswordMismatchException(String message) {
             super(message);
-            System.out.println("새 비밀번호가 일치하지 않습니다.");
+        }
+    }
+
+    /**
+     * 화면을 연 뒤 다른 곳에서 먼저 수정되었을 때 발생하는 예외
+     */
+    public static class StaleUpdateException extends RuntimeException {
+        public StaleUpdateException(String message) {
+            super(message);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.riskview.realty.service;
+
+import com.riskview.realty.domain.RoleAuthority;
+import com.riskview.realty.domain.repository.RolePermissionRepository;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 역할별 권한을 메모리에 보관하는 레지스트리
+ * role_permissions 테이블은 거의 바뀌지 않으므로 시작 시 한 번 읽어두고,
+ * 주기적으로 또는 관리자 요청 시 새로 읽어 통째로 교체
+ */
+@Service
+public class RolePermissionRegistry {
+    private static final Logger log = LoggerFactory.getLogger(RolePermissionRegistry.class);
+
+    @Autowired
+    private RolePermissionRepository rolePermissionRepository;
+
+    @Value("${realty.roles.miss-refresh-interval:10s}")
+    private Duration missRefreshInterval; // 없는 역할 조회 때문에 다시 읽는 최소 간격
+
+    // 교체만 하고 수정하지 않는 불변 맵이므로 volatile 읽기만으로 안전
+    private volatile Map<String, RoleAuthority> roles = Map.of();
+
+    // 없는 역할 조회로 마지막에 다시 읽은 시각(System.nanoTime)
+    private final AtomicLong lastMissRefresh = new AtomicLong(System.nanoTime() - Duration.ofDays(1).toNanos());
+
+    /**
+     * 데이터베이스에서 역할 권한을 다시 읽어 레지스트리를 교체
+     * @return 읽어온 역할 수
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${realty.roles.refresh-interval:10m}", initialDelayString = "${realty.roles.refresh-interval:10m}")
+    public int refresh() {
+        Map<String, RoleAuthority> loaded = rolePermissionRepository.findAll().stream()
+                .map(RoleAuthority::new)
+                .collect(Collectors.toUnmodifiableMap(RoleAuthority::getRole, Function.identity()));
+        roles = loaded;
+        log.info("Loaded {} role permissions: {}", loaded.size(), loaded.keySet());
+        return loaded.size();
+    }
+
+    /**
+     * 역할 이름으로 권한 조회
+     * 레지스트리에 없으면 새로 추가된 역할일 수 있으므로 한 번 다시 읽어서 확인
+     * 단, 없는 역할이 반복해서 조회되어도 데이터베이스를 매번 읽지 않도록 다시 읽기는 missRefreshInterval에 한 번만 함
+     * @param role 역할 이름
+     * @return 역할 권한
+     * @throws IllegalStateException 존재하지 않는 역할일 때 발생
+     */
+    public RoleAuthority get(String role) {
+        RoleAuthority authority = roles.get(role);
+        if (authority == null && role != null && tryStartMissRefresh()) {
+            refresh();
+            authority = roles.get(role);
+        }
+        if (authority == null) {
+            throw new IllegalStateException("Unknown role: " + role);
+        }
+        return authority;
+    }
+
+    // 마지막으로 다시 읽은 뒤 간격이 지났으면 이번 호출이 다시 읽도록 예약(동시에 여러 호출이 와도 하나만 성공)
+    private boolean tryStartMissRefresh() {
+        long now = System.nanoTime();
+        long last = lastMissRefresh.get();
+        return now - last >= missRefreshInterval.toNanos() && lastMissRefresh.compareAndSet(last, now);
+    }
+}
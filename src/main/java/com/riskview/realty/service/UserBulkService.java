@@ -0,0 +1,217 @@
+package com.riskview.realty.service;
+
+import com.riskview.realty.domain.UserBulkResult;
+import com.riskview.realty.domain.dto.UserBulkDTO;
+import com.riskview.realty.domain.dto.UserSearchDTO;
+import com.riskview.realty.domain.repository.UserRepository;
+import com.riskview.realty.support.UserAuthCache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * 관리자용 사용자 일괄 변경(탈퇴 처리, 탈퇴 취소, 역할 변경)
+ * 사용자마다 엔티티를 읽고 저장하지 않고, 묶음(chunk-size)마다 UPDATE 한 번으로 처리
+ * - userSeq 목록: 정렬하여 chunk-size개씩
+ * - 검색 조건: userSeq를 chunk-size 간격의 범위로 나누어 범위마다 조건을 붙인 UPDATE
+ * 묶음마다 트랜잭션을 나누어 잠금을 짧게 유지하며, 중간에 실패하면 이전 묶음까지는 반영된 상태로 남음
+ * 탈퇴 처리와 역할 변경은 묶음이 커밋될 때마다 대상 사용자의 세션(SPRING_SESSION)을 삭제하여
+ * 이미 로그인한 사용자도 다음 요청부터 바뀐 상태가 적용되도록 함
+ */
+@Service
+public class UserBulkService {
+    private static final Logger log = LoggerFactory.getLogger(UserBulkService.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RolePermissionRegistry rolePermissionRegistry;
+
+    @Autowired
+    private UserAuthCache userAuthCache;
+
+    @Autowired
+    private FindByIndexNameSessionRepository<? extends Session> sessionRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Value("${realty.admin.bulk.chunk-size:1000}")
+    private int chunkSize; // 한 트랜잭션에서 변경할 사용자 수(검색 조건이면 userSeq 범위의 크기)
+
+    public UserBulkResult execute(UserBulkDTO request) {
+        return execute(request, progress -> { });
+    }
+
+    /**
+     * 일괄 변경 실행
+     * @param request 변경 작업과 대상
+     * @param progress 묶음 하나를 커밋할 때마다 지금까지의 결과를 받는 함수
+     * @return 전체 결과
+     * @throws IllegalArgumentException 작업이나 대상이 올바르지 않을 때
+     */
+    public UserBulkResult execute(UserBulkDTO request, Consumer<UserBulkResult> progress) {
+        UserBulkDTO.Operation operation = request.getOperation();
+        if (operation == null) {
+            throw new IllegalArgumentException("Operation is required");
+        }
+        String newRole = null;
+        if (operation == UserBulkDTO.Operation.CHANGE_ROLE) {
+            newRole = UserSearchService.trimToNull(request.getRole());
+            if (newRole == null) {
+                throw new IllegalArgumentException("Role is required");
+            }
+            try {
+                rolePermissionRegistry.get(newRole);
+            } catch (IllegalStateException e) {
+                throw new IllegalArgumentException(e.getMessage());
+            }
+        }
+
+        Progress state = new Progress(operation, progress);
+        if (request.getUserSeqs() != null && !request.getUserSeqs().isEmpty()) {
+            updateByIds(operation, newRole, request.getUserSeqs(), state);
+        } else {
+            updateByFilter(operation, newRole, request.getFilter(), state);
+        }
+
+        UserBulkResult result = state.snapshot();
+        log.info("user.bulk.done operation={} updated={} chunks={} elapsedMs={}", operation,
+                result.updated(), result.chunks(), result.elapsedMillis());
+        return result;
+    }
+
+    // 정렬하여 나누므로 여러 작업이 동시에 실행되어도 같은 순서로 잠금
+    private void updateByIds(UserBulkDTO.Operation operation, String newRole, List<Long> userSeqs, Progress state) {
+        List<Long> ids = userSeqs.stream().filter(Objects::nonNull).distinct().sorted().toList();
+        state.totalChunks = (ids.size() + chunkSize - 1) / chunkSize;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            Chunk done = transactionTemplate.execute(status -> {
+                List<String> targets = endsSessions(operation)
+                        ? userRepository.findBulkTargetUserIdsByIds(operation, newRole, chunk) : List.of();
+                int count = userRepository.bulkUpdateByIds(operation, newRole, chunk);
+                userAuthCache.invalidateIf(info -> Collections.binarySearch(chunk, info.getUserSeq()) >= 0);
+                return new Chunk(count, targets);
+            });
+            deleteSessions(done.userIds());
+            state.chunkDone(done.updated());
+        }
+    }
+
+    private void updateByFilter(UserBulkDTO.Operation operation, String newRole, UserSearchDTO filter,
+                                Progress state) {
+        String userId = filter == null ? null : UserSearchService.trimToNull(filter.getUserId());
+        String userNickname = filter == null ? null : UserSearchService.trimToNull(filter.getUserNickname());
+        String email = filter == null ? null : UserSearchService.trimToNull(filter.getEmail());
+        String role = filter == null ? null : UserSearchService.trimToNull(filter.getRole());
+        Boolean deleted = filter == null ? null : filter.getDeleted();
+        // 실수로 전체 사용자를 바꾸지 않도록 조건 없는 요청은 거절
+        if (userId == null && userNickname == null && email == null && role == null && deleted == null) {
+            throw new IllegalArgumentException("Target users are required (userSeqs or filter)");
+        }
+
+        // 시작 시점의 마지막 사용자까지만 처리(처리 중에 가입한 사용자는 제외)
+        long last = userRepository.findMaxUserSeq().orElse(0L);
+        state.totalChunks = (int) ((last + chunkSize - 1) / chunkSize);
+        for (long after = 0; after < last; after += chunkSize) {
+            long from = after;
+            long upTo = Math.min(after + chunkSize, last);
+            Chunk done = transactionTemplate.execute(status -> {
+                List<String> targets = endsSessions(operation) ? userRepository.findBulkTargetUserIds(operation,
+                        newRole, userId, userNickname, email, role, deleted, from, upTo) : List.of();
+                int count = userRepository.bulkUpdate(operation, newRole, userId, userNickname, email, role, deleted,
+                        from, upTo);
+                if (count > 0) {
+                    userAuthCache.invalidateIf(info -> info.getUserSeq() > from && info.getUserSeq() <= upTo);
+                }
+                return new Chunk(count, targets);
+            });
+            deleteSessions(done.userIds());
+            state.chunkDone(done.updated());
+        }
+    }
+
+    // 세션의 SecurityContext에는 변경 전 권한과 상태가 남아 있으므로 탈퇴 처리와 역할 변경은 세션 삭제
+    private static boolean endsSessions(UserBulkDTO.Operation operation) {
+        return operation != UserBulkDTO.Operation.RESTORE;
+    }
+
+    /**
+     * 사용자들의 세션 삭제(묶음이 커밋된 뒤 호출)
+     * 묶음의 사용자 대부분은 로그인 중이 아니므로 세션이 있는 사용자만 먼저 한 번에 골라낸 뒤 사용자별로 삭제
+     * @param userIds 사용자 ID(세션의 PRINCIPAL_NAME) 목록
+     */
+    private void deleteSessions(List<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<String> signedIn = namedParameterJdbcTemplate.queryForList(
+                "SELECT DISTINCT PRINCIPAL_NAME FROM SPRING_SESSION WHERE PRINCIPAL_NAME IN (:userIds)",
+                Map.of("userIds", userIds), String.class);
+        int deleted = 0;
+        for (String userId : signedIn) {
+            for (String sessionId : sessionRepository.findByPrincipalName(userId).keySet()) {
+                sessionRepository.deleteById(sessionId);
+                deleted++;
+            }
+        }
+        if (deleted > 0) {
+            log.info("user.bulk.sessions deleted={} users={}", deleted, signedIn.size());
+        }
+    }
+
+    /**
+     * 묶음 하나의 결과
+     * @param updated 변경된 사용자 수
+     * @param userIds 세션을 삭제할 사용자 ID
+     */
+    private record Chunk(int updated, List<String> userIds) {
+    }
+
+    // 진행 상황 누적(묶음은 순서대로 하나씩 처리하므로 동기화 불필요)
+    private static final class Progress {
+        private final UserBulkDTO.Operation operation;
+        private final Consumer<UserBulkResult> listener;
+        private final long startedAt = System.nanoTime();
+        private int totalChunks;
+        private long updated;
+        private int chunks;
+
+        private Progress(UserBulkDTO.Operation operation, Consumer<UserBulkResult> listener) {
+            this.operation = operation;
+            this.listener = listener;
+        }
+
+        private void chunkDone(int chunkUpdated) {
+            updated += chunkUpdated;
+            chunks++;
+            UserBulkResult snapshot = snapshot();
+            log.debug("user.bulk.progress operation={} updated={} chunks={}/{}", operation,
+                    snapshot.updated(), snapshot.chunks(), snapshot.totalChunks());
+            listener.accept(snapshot);
+        }
+
+        private UserBulkResult snapshot() {
+            return new UserBulkResult(operation, updated, chunks, totalChunks,
+                    (System.nanoTime() - startedAt) / 1_000_000);
+        }
+    }
+}
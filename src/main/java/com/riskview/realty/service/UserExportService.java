@@ -0,0 +1,249 @@
+package com.riskview.realty.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 목록 내보내기(CSV, NDJSON)
+ * 전체 목록을 메모리에 올리지 않고 JDBC 커서(forward-only, fetch size)로 읽은 행을 바로 응답 스트림에 씀
+ * 사용자 수와 관계없이 메모리 사용량은 fetch size만큼의 행과 출력 버퍼로 일정함
+ */
+@Service
+public class UserExportService {
+    private static final Logger log = LoggerFactory.getLogger(UserExportService.class);
+
+    private static final String SELECT_USERS = "SELECT user_seq, user_code, user_id, user_nickname, email, name, role, "
+            + "is_deleted, created_at FROM users";
+    private static final String[] COLUMNS = {"userSeq", "userCode", "userId", "userNickname", "email", "name",
+            "role", "deleted", "createdAt"};
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${realty.admin.export.fetch-size:1000}")
+    private int fetchSize; // 데이터베이스에서 한 번에 가져올 행 수
+
+    /**
+     * 내보내기 형식
+     */
+    public enum Format {
+        CSV("text/csv;charset=UTF-8", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * 요청 파라미터(csv, ndjson)로 형식 찾기(대소문자 구분 없음)
+         * @throws IllegalArgumentException 지원하지 않는 형식
+         */
+        public static Format from(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value == null ? "" : value.trim())) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported export format: " + value);
+        }
+    }
+
+    /**
+     * 조건에 맞는 사용자를 가입 순서로 내보냄(비밀번호 해시는 포함하지 않음)
+     * @param role 역할 이름(null이면 전체)
+     * @param deleted 탈퇴 여부(null이면 전체)
+     * @param format 내보내기 형식
+     * @param out 출력 스트림(호출한 쪽에서 닫음)
+     * @return 내보낸 사용자 수
+     */
+    public long export(String role, Boolean deleted, Format format, OutputStream out) throws IOException {
+        StringBuilder sql = new StringBuilder(SELECT_USERS);
+        List<Object> parameters = new ArrayList<>(2);
+        if (role != null && !role.isBlank()) {
+            sql.append(parameters.isEmpty() ? " WHERE" : " AND").append(" role = ?");
+            parameters.add(role.trim());
+        }
+        if (deleted != null) {
+            sql.append(parameters.isEmpty() ? " WHERE" : " AND").append(" is_deleted = ?");
+            parameters.add(deleted);
+        }
+        // 기본 키 순서이므로 정렬 없이 인덱스 순서대로 읽음
+        sql.append(" ORDER BY user_seq");
+
+        long start = System.nanoTime();
+        RowWriter writer = format == Format.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out);
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql.toString(),
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                for (int i = 0; i < parameters.size(); i++) {
+                    statement.setObject(i + 1, parameters.get(i));
+                }
+                return statement;
+            }, resultSet -> {
+                try {
+                    writer.write(resultSet);
+                } catch (IOException e) {
+                    // 클라이언트가 연결을 끊으면 조회도 중단
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.finish();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        log.info("user.export format={} role={} deleted={} rows={} elapsedMs={}", format, role, deleted,
+                writer.rows(), (System.nanoTime() - start) / 1_000_000);
+        return writer.rows();
+    }
+
+    private abstract static class RowWriter {
+        private long rows;
+
+        final void write(ResultSet resultSet) throws SQLException, IOException {
+            writeRow(resultSet.getLong(1), resultSet.getString(2), resultSet.getString(3), resultSet.getString(4),
+                    resultSet.getString(5), resultSet.getString(6), resultSet.getString(7),
+                    resultSet.getBoolean(8), resultSet.getTimestamp(9));
+            rows++;
+        }
+
+        final long rows() {
+            return rows;
+        }
+
+        abstract void writeRow(long userSeq, String userCode, String userId, String userNickname, String email,
+                               String name, String role, boolean deleted, Timestamp createdAt) throws IOException;
+
+        abstract void finish() throws IOException;
+    }
+
+    /**
+     * CSV(RFC 4180)
+     * 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM을 붙이고, 수식으로 해석될 수 있는 값(=, +, -, @로 시작)은 앞에 '를 붙임
+     */
+    private static final class CsvRowWriter extends RowWriter {
+        private final Writer writer;
+
+        private CsvRowWriter(OutputStream out) throws IOException {
+            writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            writer.write('﻿');
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        void writeRow(long userSeq, String userCode, String userId, String userNickname, String email,
+                      String name, String role, boolean deleted, Timestamp createdAt) throws IOException {
+            writer.write(Long.toString(userSeq));
+            writeField(userCode);
+            writeField(userId);
+            writeField(userNickname);
+            writeField(email);
+            writeField(name);
+            writeField(role);
+            writer.write(deleted ? ",true" : ",false");
+            writeField(createdAt == null ? null : createdAt.toLocalDateTime().toString());
+            writer.write("\r\n");
+        }
+
+        private void writeField(String value) throws IOException {
+            writer.write(',');
+            if (value == null || value.isEmpty()) {
+                return;
+            }
+            char first = value.charAt(0);
+            boolean formula = first == '=' || first == '+' || first == '-' || first == '@';
+            boolean quote = formula || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            if (formula) {
+                writer.write('\'');
+            }
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        void finish() throws IOException {
+            writer.flush();
+        }
+    }
+
+    /**
+     * NDJSON(한 줄에 JSON 객체 하나)
+     */
+    private static final class NdjsonRowWriter extends RowWriter {
+        private final JsonGenerator generator;
+
+        private NdjsonRowWriter(OutputStream out) throws IOException {
+            generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8);
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            // 객체 사이 구분자를 줄바꿈으로
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        void writeRow(long userSeq, String userCode, String userId, String userNickname, String email,
+                      String name, String role, boolean deleted, Timestamp createdAt) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField(COLUMNS[0], userSeq);
+            generator.writeStringField(COLUMNS[1], userCode);
+            generator.writeStringField(COLUMNS[2], userId);
+            generator.writeStringField(COLUMNS[3], userNickname);
+            generator.writeStringField(COLUMNS[4], email);
+            generator.writeStringField(COLUMNS[5], name);
+            generator.writeStringField(COLUMNS[6], role);
+            generator.writeBooleanField(COLUMNS[7], deleted);
+            generator.writeStringField(COLUMNS[8], createdAt == null ? null : createdAt.toLocalDateTime().toString());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.riskview.realty.service;
+
+import com.riskview.realty.domain.UserSearchResult;
+import com.riskview.realty.domain.UserSummary;
+import com.riskview.realty.domain.dto.UserSearchDTO;
+import com.riskview.realty.domain.repository.UserRepository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 사용자 관리 화면의 사용자 검색
+ * 페이지 번호(OFFSET) 대신 이전 페이지의 마지막 userSeq부터 이어서 읽으므로 뒤쪽 페이지도 첫 페이지와 같은 비용으로 조회
+ */
+@Service
+public class UserSearchService {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${realty.admin.user-search.default-size:50}")
+    private int defaultSize; // 기본 페이지 크기
+
+    @Value("${realty.admin.user-search.max-size:200}")
+    private int maxSize; // 최대 페이지 크기
+
+    /**
+     * 조건에 맞는 사용자를 가입 순서로 한 페이지 조회(SQL 한 번)
+     * @param condition 검색 조건
+     * @return 사용자 목록과 다음 페이지 기준 값
+     */
+    @Transactional(readOnly = true)
+    public UserSearchResult search(UserSearchDTO condition) {
+        int size = condition.getSize() == null ? defaultSize : Math.max(1, Math.min(condition.getSize(), maxSize));
+        long after = condition.getAfter() == null ? 0 : condition.getAfter();
+
+        // 다음 페이지가 있는지 알기 위해 한 명 더 조회
+        List<UserSummary> users = userRepository.searchSummaries(
+                trimToNull(condition.getUserId()),
+                trimToNull(condition.getUserNickname()),
+                trimToNull(condition.getEmail()),
+                trimToNull(condition.getRole()),
+                condition.getDeleted(),
+                after,
+                size + 1);
+
+        if (users.size() <= size) {
+            return new UserSearchResult(users, null);
+        }
+        List<UserSummary> page = users.subList(0, size);
+        return new UserSearchResult(List.copyOf(page), page.get(size - 1).getUserSeq());
+    }
+
+    static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
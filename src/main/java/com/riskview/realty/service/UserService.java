@@ -1,21 +1,28 @@
 package com.riskview.realty.service;
 
+import com.riskview.realty.domain.UserAuthInfo;
 import com.riskview.realty.domain.dto.UserDTO;
+import com.riskview.realty.domain.repository.EmailOutboxRepository;
 import com.riskview.realty.domain.repository.RolePermissionRepository;
 import com.riskview.realty.domain.repository.UserRepository;
-import com.riskview.realty.model.RolePermission;
+import com.riskview.realty.model.EmailOutbox;
 import com.riskview.realty.model.User;
+import com.riskview.realty.support.UserAuthCache;
+import com.riskview.realty.support.UserCodeAllocator;
+import com.riskview.realty.support.VerificationCodeStore;
 
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import jakarta.servlet.http.HttpSession;
 import java.security.SecureRandom;
+import java.time.Duration;
 
 @Service
 public class UserService {
@@ -27,67 +34,97 @@ public class UserService {
     @Autowired
     private RolePermissionRepository rolePermissionRepository;
 
+    @Autowired
+    private RolePermissionRegistry rolePermissionRegistry;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
     @Autowired
-    private EmailService emailService;
+    private EmailOutboxRepository emailOutboxRepository;
 
-    @Value("${server.servlet.session.timeout}")
-    private String sessionTimeout; // 세션 타임아웃 값을 주입받음
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private UserAuthCache userAuthCache;
+
+    @Autowired
+    private UserCodeAllocator userCodeAllocator;
+
+    @Autowired
+    private VerificationCodeStore verificationCodeStore;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${realty.verification.ttl:10m}")
+    private Duration verificationCodeTtl; // 인증코드 유효 시간
 
     /**
      * 회원가입
      * @param userDTO UserDTO 객체
      * @param verificationCode 인증코드
-     * @param session 사용자 세션
      * @return 저장된 사용자 정보
      */
-    public User registerUser(UserDTO userDTO, String verificationCode, HttpSession session) {
-        // 세션에서 인증코드를 가져옴
-        String sessionVerificationCode = (String) session.getAttribute("verificationCode");
-        // 세션에 저장된 인증코드와 입력된 인증코드가 일치하지 않으면 예외 발생
-        if (sessionVerificationCode == null || !sessionVerificationCode.trim().equals(verificationCode.trim())) {
-            throw new IllegalArgumentException("인증 코드가 올바르지 않습니다.");
+    @Timed("realty.user.register")
+    public User registerUser(UserDTO userDTO, String verificationCode) {
+        // 틀린 코드로 늘어난 시도 횟수가 가입 트랜잭션과 함께 롤백되지 않도록 트랜잭션 밖에서 먼저 확인
+        // (jdbc 저장소는 가입 트랜잭션에 참여하므로 안에서만 확인하면 최대 시도 횟수 제한이 동작하지 않음)
+        VerificationCodeStore.Result checked = verificationCodeStore.verify(userDTO.getEmail(), verificationCode);
+        if (checked != VerificationCodeStore.Result.VALID) {
+            throw new IllegalArgumentException(verificationFailureMessage(checked));
         }
 
-        /* 세션에 저장된 인증코드와 입력된 인증코드가 일치하면 사용자 정보 저장 */
-        User user = new User(); // User 객체 생성
-        user.setUserId(userDTO.getUserId()); // 사용자 ID 정보 저장
-        user.setUserNickname(userDTO.getUserNickname()); // 사용자 닉네임 정보 저장
-        user.setEmail(userDTO.getEmail()); // 사용자 이메일 정보 저장
-        user.setName(userDTO.getName()); // 사용자 이름 정보 저장
-        user.setPasswordHash(passwordEncoder.encode(userDTO.getPassword())); // 사용자 비밀번호 정보 저장(해싱처리)
-
-        // 기본 "user" 역할 조회 및 설정
-        RolePermission userRole = rolePermissionRepository.findById("user")
-                .orElseThrow(() -> new RuntimeException("Error: Default role not found."));
-        user.setRole(userRole);
-
-        // 세션에서 인증코드 제거(회원가입이 완료되었으므로)
-        session.removeAttribute("verificationCode");
-
-        // 데이터베이스에 사용자 정보 저장
-        User savedUser = userRepository.save(user);
-        // 데이터베이스 저장 후 user_code 생성
-        savedUser.generateUserCode();
-        return userRepository.save(savedUser);
+        // 해싱이 거절되어도(PasswordHashingBusyException) 인증코드를 다시 쓸 수 있도록 인증코드 사용 처리 전에 해싱
+        // 해싱은 대기열에서 오래 기다릴 수 있으므로 트랜잭션(데이터베이스 연결)을 열기 전에 실행
+        String passwordHash = passwordEncoder.encode(userDTO.getPassword());
+
+        return transactionTemplate.execute(status -> {
+            // 가입하려는 이메일로 발송된 인증코드와 비교하고, 일치하면 인증코드를 사용 처리(한 번만 사용 가능)
+            VerificationCodeStore.Result result = verificationCodeStore.consume(userDTO.getEmail(), verificationCode);
+            if (result != VerificationCodeStore.Result.VALID) {
+                throw new IllegalArgumentException(verificationFailureMessage(result));
+            }
+
+            /* 인증코드가 일치하면 사용자 정보 저장 */
+            User user = new User(); // User 객체 생성
+            user.setUserId(userDTO.getUserId()); // 사용자 ID 정보 저장
+            user.setUserNickname(userDTO.getUserNickname()); // 사용자 닉네임 정보 저장
+            user.setEmail(userDTO.getEmail()); // 사용자 이메일 정보 저장
+            user.setName(userDTO.getName()); // 사용자 이름 정보 저장
+            user.setPasswordHash(passwordHash); // 사용자 비밀번호 정보 저장(해싱처리)
+
+            // 기본 "user" 역할 확인(레지스트리에서 확인하므로 조회 쿼리 없음) 및 설정
+            try {
+                rolePermissionRegistry.get("user");
+            } catch (IllegalStateException e) {
+                throw new RuntimeException("Error: Default role not found.");
+            }
+            // 외래 키 값만 필요하므로 조회 없이 참조만 설정
+            user.setRole(rolePermissionRepository.getReferenceById("user"));
+
+            // 저장 전에 user_code를 발급받아 INSERT 한 번으로 저장
+            user.generateUserCode(userCodeAllocator.next());
+            return userRepository.save(user);
+        });
     }
 
     /**
      * 인증코드 전송
+     * 메일은 아웃박스에 저장되고 EmailOutboxDispatcher가 백그라운드에서 발송
      * @param email 사용자 이메일
-     * @param session 사용자 세션
      */
-    public void sendVerificationCode(String email, HttpSession session) {
+    @Transactional
+    @Timed("realty.user.verification.send")
+    public void sendVerificationCode(String email) {
         // 인증코드 생성 메서드 호출
         String verificationCode = generateVerificationCode();
-        // 인증 코드와 인증 코드를 수신할 이메일을 세션에 저장
-        session.setAttribute("verificationCode", verificationCode);
-        session.setAttribute("verificationCodeEmail", email);
+        // 인증 코드를 이메일별로 저장(세션에 저장하지 않으므로 어느 서버에서든 확인 가능)
+        verificationCodeStore.save(email, verificationCode, verificationCodeTtl);
 
         String subject = "Realty 회원가입 인증 코드"; // 이메일 제목
-        String timeoutMinutes = sessionTimeout.replaceAll("[^0-9]", ""); // 숫자만 추출
+        long timeoutMinutes = verificationCodeTtl.toMinutes(); // 유효 시간(분)
         // 이메일 내용
         String message = String.format("""
             <div style="font-family: Arial, sans-serif; line-height: 1.6;">
@@ -102,15 +139,35 @@ public class UserService {
             </div>
             """, verificationCode, timeoutMinutes); // %s에 해당하는 변수들을 순서대로 전달
 
-        // 이메일 전송
-        emailService.sendEmail(email, subject, message);
+        // 이메일 아웃박스에 저장(커밋 후 디스패처가 발송)
+        emailOutboxRepository.save(new EmailOutbox(email, subject, message));
+    }
+
+    /**
+     * 인증코드 확인(회원가입 전 화면에서 확인할 때 사용, 인증코드는 사용 처리하지 않음)
+     * @param email 인증코드를 받은 이메일
+     * @param code 사용자가 입력한 인증코드
+     * @return 확인 결과
+     */
+    public VerificationCodeStore.Result verifyCode(String email, String code) {
+        return verificationCodeStore.verify(email, code);
+    }
+
+    // 인증코드 확인 실패 사유별 메시지
+    private static String verificationFailureMessage(VerificationCodeStore.Result result) {
+        return switch (result) {
+            case EXPIRED -> "인증 코드가 만료되었습니다. 인증 코드를 다시 요청해주세요.";
+            case TOO_MANY_ATTEMPTS -> "인증 시도 횟수를 초과했습니다. 인증 코드를 다시 요청해주세요.";
+            default -> "인증 코드가 올바르지 않습니다.";
+        };
     }
 
     /**
      * 인증코드 생성 로직(난수)
+     * 벤치마크(src/jmh)에서 호출하므로 패키지 범위로 공개
      * @return 생성된 인증코드
      */
-    private String generateVerificationCode() {
+    String generateVerificationCode() {
         SecureRandom random = new SecureRandom();
         int length = 6; // 인증코드의 길이는 6
         String characters = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789"; // 인증코드는 대문자와 숫자로 구성
@@ -130,43 +187,31 @@ public class UserService {
 
     /**
      * 회원탈퇴
-     * @param userDTO UserDTO 객체
+     * 사용자 정보를 읽지 않고 UPDATE 한 번으로 탈퇴 처리하며, 실패한 경우에만 원인을 확인하기 위해 한 번 더 조회
+     * @param userDTO UserDTO 객체(userCode, userId)
      */
     @Transactional
     public void deleteAccount(UserDTO userDTO) {
         log.info("Starting account deletion process for user code: {}", userDTO.getUserCode());
-        
-        try {
-            // 1. 사용자 정보 조회
-            User user = userRepository.findByUserCode(userDTO.getUserCode())
-                    .orElseThrow(() -> {
-                        throw new RuntimeException("User not found with code: " + userDTO.getUserCode());
-                    });
-            
-            // 2. 소프트 삭제 처리
-            if (!user.isDeleted()) {
-                user.setDeleted(true);
-            } else {
+
+        // 1. 소프트 삭제 처리(사용자 코드와 ID가 모두 일치하는 탈퇴하지 않은 사용자만)
+        int updated = userRepository.softDelete(userDTO.getUserCode(), userDTO.getUserId());
+        if (updated == 0) {
+            if (userRepository.existsByUserCode(userDTO.getUserCode())) {
                 throw new IllegalStateException("User is already deleted");
             }
-            
-            // 3. 변경사항 저장
-            userRepository.save(user);
-        } catch (Exception e) {
-            throw e;
+            throw new RuntimeException("User not found with code: " + userDTO.getUserCode());
         }
+
+        // 2. 캐시된 로그인 정보 제거
+        userAuthCache.invalidate(userDTO.getUserId());
     }
 
     public UserDTO findByUserId(String userId) {
-        User user = userRepository.findByUserId(userId)
+        // 로그인 직후에는 캐시에 있으므로 데이터베이스를 조회하지 않음
+        return customUserDetailsService.findAuthInfo(userId)
+                .map(UserAuthInfo::toUserDTO)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
-        UserDTO userDTO = new UserDTO();
-        userDTO.setUserCode(user.getUserCode());
-        userDTO.setUserId(user.getUserId());
-        userDTO.setUserNickname(user.getUserNickname());
-        userDTO.setEmail(user.getEmail());
-        userDTO.setName(user.getName());
-        return userDTO;
     }
 
     public UserDTO findByUserCode(String userCode) {
@@ -0,0 +1,47 @@
+package com.riskview.realty.support;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+
+/**
+ * 현재 서버에서 BCrypt 검증 한 번이 목표 시간에 가장 가깝게 걸리는 cost를 계산
+ * cost가 1 오를 때마다 시간이 두 배가 되므로, 최소 cost에서 한 번만 측정하고 나머지는 계산으로 구함
+ */
+public final class BCryptCostCalibrator {
+
+    private static final String SAMPLE = "calibration-sample-password";
+
+    private BCryptCostCalibrator() {
+    }
+
+    /**
+     * @param target 검증 한 번의 목표 시간
+     * @param minCost 최소 cost(측정 기준)
+     * @param maxCost 최대 cost
+     * @return 목표 시간을 넘지 않는 가장 큰 cost(최소 cost 이상)
+     */
+    public static int calibrate(Duration target, int minCost, int maxCost) {
+        // JIT 컴파일 전 첫 실행은 느리므로 가벼운 cost로 먼저 실행
+        BCrypt.hashpw(SAMPLE, BCrypt.gensalt(4));
+
+        long measured = measure(minCost);
+        int cost = minCost;
+        long estimated = measured;
+        while (cost < maxCost && estimated * 2 <= target.toNanos()) {
+            estimated *= 2;
+            cost++;
+        }
+        return cost;
+    }
+
+    /**
+     * 주어진 cost로 해싱 한 번에 걸리는 시간(ns)
+     */
+    public static long measure(int cost) {
+        String salt = BCrypt.gensalt(cost);
+        long start = System.nanoTime();
+        BCrypt.hashpw(SAMPLE, salt);
+        return System.nanoTime() - start;
+    }
+}
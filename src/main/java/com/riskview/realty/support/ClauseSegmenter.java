@@ -0,0 +1,149 @@
+package com.riskview.realty.support;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.regex.Pattern;
+
+/**
+ * 계약서 텍스트를 조항 단위로 나누는 클래스
+ * Reader에서 필요한 만큼만 읽어 조항을 하나씩 반환하므로 문서 크기와 관계없이 조항 하나(maxClauseLength)만큼의 메모리만 사용
+ * "제N조", "특약" 등으로 시작하는 줄에서 새 조항을 시작하고, 조항이 maxClauseLength보다 길어지면 줄 단위로 잘라 이어지는 조항으로 반환
+ */
+public final class ClauseSegmenter {
+
+    // 조항 제목 줄(제1조, 제 12 조, [특약사항], 특약 사항 등)
+    private static final Pattern HEADING = Pattern.compile("^\\s*[\\[(<【]?\\s*(제\\s*\\d+\\s*조|특\\s*약)");
+    private static final int MAX_TITLE_LENGTH = 100;
+
+    private final Reader reader;
+    private final int maxClauseLength;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+
+    private final StringBuilder line = new StringBuilder();
+    private final StringBuilder text = new StringBuilder();
+    private boolean pendingLine; // line에 아직 조항에 넣지 않은 줄이 있음
+    private boolean hasContent; // text에 공백이 아닌 글자가 있음
+    private String title;
+    private int number;
+
+    /**
+     * @param reader 계약서 텍스트(닫지 않음)
+     * @param maxClauseLength 조항 최대 길이(글자 수)
+     */
+    public ClauseSegmenter(Reader reader, int maxClauseLength) {
+        if (maxClauseLength < 2) {
+            throw new IllegalArgumentException("maxClauseLength must be at least 2");
+        }
+        this.reader = reader;
+        this.maxClauseLength = maxClauseLength;
+    }
+
+    /**
+     * 다음 조항
+     * @return 조항, 더 이상 없으면 null
+     */
+    public Clause next() throws IOException {
+        while (true) {
+            if (!pendingLine && !readLine()) {
+                return hasContent ? emit(false) : null;
+            }
+            pendingLine = false;
+            boolean heading = HEADING.matcher(line).lookingAt();
+            if (hasContent && (heading || text.length() + line.length() + 1 > maxClauseLength)) {
+                // 현재 줄은 다음 조항의 첫 줄로 남겨 둠
+                pendingLine = true;
+                return emit(!heading);
+            }
+            boolean blank = isBlank(line);
+            if (blank && !hasContent) {
+                continue; // 조항 앞의 빈 줄은 버림
+            }
+            if (!blank && title == null || heading) {
+                title = title(line);
+            }
+            text.append(line).append('\n');
+            hasContent |= !blank;
+        }
+    }
+
+    // 현재 조항을 반환하고 비움(continued이면 다음 조항도 같은 제목 사용)
+    private Clause emit(boolean continued) {
+        Clause clause = new Clause(++number, title == null ? "" : title, text.toString().strip());
+        text.setLength(0);
+        hasContent = false;
+        if (!continued) {
+            title = null;
+        }
+        return clause;
+    }
+
+    // 한 줄 읽기(줄바꿈 제외), 줄이 maxClauseLength - 1보다 길면 거기서 잘라 나머지는 다음 줄로 읽음
+    private boolean readLine() throws IOException {
+        line.setLength(0);
+        int maxLineLength = maxClauseLength - 1;
+        while (true) {
+            if (position == limit) {
+                if (endOfInput || !fill()) {
+                    return line.length() > 0;
+                }
+            }
+            int start = position;
+            while (position < limit && buffer[position] != '\n' && line.length() + position - start < maxLineLength) {
+                position++;
+            }
+            line.append(buffer, start, position - start);
+            if (position < limit && buffer[position] == '\n') {
+                position++;
+                stripCarriageReturn();
+                return true;
+            }
+            if (line.length() >= maxLineLength) {
+                return true;
+            }
+        }
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer);
+        if (read == -1) {
+            endOfInput = true;
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    private void stripCarriageReturn() {
+        int last = line.length() - 1;
+        if (last >= 0 && line.charAt(last) == '\r') {
+            line.setLength(last);
+        }
+    }
+
+    private static boolean isBlank(CharSequence line) {
+        for (int i = 0; i < line.length(); i++) {
+            if (!Character.isWhitespace(line.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String title(CharSequence line) {
+        String title = line.toString().strip();
+        return title.length() > MAX_TITLE_LENGTH ? title.substring(0, MAX_TITLE_LENGTH) : title;
+    }
+
+    /**
+     * 조항
+     * @param number 순번(1부터)
+     * @param title 제목(조항 첫 줄, 길이 제한으로 잘린 조항은 원래 조항의 제목)
+     * @param text 본문(제목 줄 포함)
+     */
+    public record Clause(int number, String title, String text) {
+    }
+}
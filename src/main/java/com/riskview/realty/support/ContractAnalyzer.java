@@ -0,0 +1,261 @@
+package com.riskview.realty.support;
+
+import com.riskview.realty.domain.ContractAnalysisResult;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 계약서 분석 파이프라인(텍스트 추출 → 조항 분리 → 위험 키워드 점수 계산)
+ * 세 단계는 스트림으로 연결되어 조항을 하나씩 처리하므로 문서 크기와 관계없이
+ * 읽기 버퍼, 조항 하나, 상위 위험 조항(maxFindings개)만큼의 메모리만 사용
+ * 단계별 시간은 결과에 담아 반환하고 기록은 호출한 쪽(ContractAnalysisWorker, 벤치마크)에서 함
+ */
+@Component
+public class ContractAnalyzer {
+
+    // 문자 인코딩 판별에 사용할 앞부분 크기
+    private static final int SNIFF_SIZE = 64 * 1024;
+    private static final int EXCERPT_CONTEXT = 60; // 키워드 앞뒤로 보여줄 글자 수
+    private static final int MAX_EXCERPT_LENGTH = 200;
+    // 국내 계약서 텍스트 파일에 많이 쓰이는 인코딩(UTF-8이 아니면 CP949로 읽음)
+    private static final Charset CP949 = Charset.forName("x-windows-949");
+
+    // 가중치가 낮은 것부터 버리고, 같으면 뒤쪽 조항부터 버림
+    private static final Comparator<ContractAnalysisResult.Finding> EVICTION_ORDER =
+            Comparator.comparingInt(ContractAnalysisResult.Finding::weight)
+                    .thenComparing(Comparator.comparingInt(ContractAnalysisResult.Finding::clauseNo).reversed());
+
+    private final RiskRules riskRules;
+    private final int maxClauseLength;
+    private final int maxFindings;
+
+    public ContractAnalyzer(RiskRules riskRules,
+                            @Value("${realty.analysis.max-clause-length:4000}") int maxClauseLength,
+                            @Value("${realty.analysis.max-findings:100}") int maxFindings) {
+        this.riskRules = riskRules;
+        this.maxClauseLength = maxClauseLength;
+        this.maxFindings = maxFindings;
+    }
+
+    /**
+     * 계약서 분석
+     * @param input 계약서 파일 내용(닫지 않음)
+     * @return 분석 결과
+     * @throws IllegalArgumentException 텍스트가 아닌 파일(PDF, DOCX 등)
+     */
+    public ContractAnalysisResult analyze(InputStream input) throws IOException {
+        RiskRules.Dictionary dictionary = riskRules.current();
+        TimedReader reader = new TimedReader(openText(input));
+        ClauseSegmenter segmenter = new ClauseSegmenter(reader, maxClauseLength);
+        Scorer scorer = new Scorer(dictionary);
+        PriorityQueue<ContractAnalysisResult.Finding> top = new PriorityQueue<>(EVICTION_ORDER);
+
+        long segmentNanos = 0;
+        long scoreNanos = 0;
+        int clauseCount = 0;
+        int findingCount = 0;
+        int riskScore = 0;
+        List<ContractAnalysisResult.Finding> clauseFindings = new ArrayList<>();
+        while (true) {
+            long start = System.nanoTime();
+            ClauseSegmenter.Clause clause = segmenter.next();
+            long segmented = System.nanoTime();
+            segmentNanos += segmented - start;
+            if (clause == null) {
+                break;
+            }
+            clauseCount++;
+
+            clauseFindings.clear();
+            scorer.score(clause, clauseFindings);
+            for (ContractAnalysisResult.Finding finding : clauseFindings) {
+                findingCount++;
+                riskScore += finding.weight();
+                top.offer(finding);
+                if (top.size() > maxFindings) {
+                    top.poll();
+                }
+            }
+            scoreNanos += System.nanoTime() - segmented;
+        }
+
+        List<ContractAnalysisResult.Finding> findings = new ArrayList<>(top);
+        findings.sort(Comparator.comparingInt(ContractAnalysisResult.Finding::clauseNo)
+                .thenComparing(Comparator.comparingInt(ContractAnalysisResult.Finding::weight).reversed())
+                .thenComparing(ContractAnalysisResult.Finding::ruleId));
+        // 조항 분리 시간에는 Reader에서 읽는(디코딩) 시간이 포함되므로 빼서 텍스트 추출 시간으로 기록
+        return new ContractAnalysisResult(reader.characters, clauseCount, findingCount, riskScore,
+                dictionary.level(riskScore), List.copyOf(findings), reader.nanos, segmentNanos - reader.nanos,
+                scoreNanos);
+    }
+
+    /**
+     * 텍스트 추출
+     * 텍스트 파일만 지원하며, BOM이 있으면 BOM의 인코딩, 앞부분이 올바른 UTF-8이면 UTF-8, 아니면 CP949로 읽음
+     * (PDF, DOCX 등은 별도 변환 라이브러리가 필요하므로 거절)
+     */
+    static Reader openText(InputStream input) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(input, SNIFF_SIZE);
+        buffered.mark(SNIFF_SIZE);
+        byte[] head = buffered.readNBytes(SNIFF_SIZE);
+        buffered.reset();
+
+        if (startsWith(head, 0xEF, 0xBB, 0xBF)) {
+            buffered.skipNBytes(3);
+            return decoder(buffered, StandardCharsets.UTF_8);
+        }
+        if (startsWith(head, 0xFF, 0xFE)) {
+            buffered.skipNBytes(2);
+            return decoder(buffered, StandardCharsets.UTF_16LE);
+        }
+        if (startsWith(head, 0xFE, 0xFF)) {
+            buffered.skipNBytes(2);
+            return decoder(buffered, StandardCharsets.UTF_16BE);
+        }
+        for (byte b : head) {
+            if (b == 0) {
+                throw new IllegalArgumentException("텍스트 형식의 계약서만 분석할 수 있습니다.");
+            }
+        }
+        if (startsWith(head, '%', 'P', 'D', 'F') || startsWith(head, 'P', 'K', 0x03, 0x04)) {
+            throw new IllegalArgumentException("텍스트 형식의 계약서만 분석할 수 있습니다.");
+        }
+        return decoder(buffered, isUtf8(head, head.length == SNIFF_SIZE) ? StandardCharsets.UTF_8 : CP949);
+    }
+
+    private static Reader decoder(InputStream input, Charset charset) {
+        return new InputStreamReader(input, charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE));
+    }
+
+    // truncated이면 잘린 마지막 글자는 오류로 보지 않음(UTF-8은 바이트 수보다 글자 수가 많지 않으므로 출력 버퍼는 넘치지 않음)
+    private static boolean isUtf8(byte[] head, boolean truncated) {
+        CoderResult result = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT)
+                .decode(ByteBuffer.wrap(head), CharBuffer.allocate(head.length), !truncated);
+        return !result.isError();
+    }
+
+    private static boolean startsWith(byte[] bytes, int... prefix) {
+        if (bytes.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if ((bytes[i] & 0xFF) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 조항 하나의 위험 키워드 검사
+     * 조항을 공백 없는 소문자로 바꾼 뒤 규칙마다 첫 번째로 찾은 키워드 하나만 기록(같은 규칙은 조항당 한 번만 점수 추가)
+     * 정규화에 쓰는 버퍼는 조항마다 다시 사용
+     */
+    private static final class Scorer {
+        private final RiskRules.Dictionary dictionary;
+        private final StringBuilder normalized = new StringBuilder();
+        private int[] offsets = new int[0]; // 정규화된 글자의 원문 위치
+
+        private Scorer(RiskRules.Dictionary dictionary) {
+            this.dictionary = dictionary;
+        }
+
+        void score(ClauseSegmenter.Clause clause, List<ContractAnalysisResult.Finding> findings) {
+            String text = clause.text();
+            normalize(text);
+            for (RiskRules.Rule rule : dictionary.rules()) {
+                List<String> keywords = rule.normalizedKeywords();
+                for (int k = 0; k < keywords.size(); k++) {
+                    String keyword = keywords.get(k);
+                    int found = normalized.indexOf(keyword);
+                    if (found >= 0) {
+                        findings.add(new ContractAnalysisResult.Finding(clause.number(), clause.title(), rule.id(),
+                                rule.category(), rule.keywords().get(k), rule.weight(),
+                                excerpt(text, offsets[found], offsets[found + keyword.length() - 1] + 1)));
+                        break;
+                    }
+                }
+            }
+        }
+
+        private void normalize(String text) {
+            normalized.setLength(0);
+            if (offsets.length < text.length()) {
+                offsets = new int[text.length()];
+            }
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (!Character.isWhitespace(c)) {
+                    offsets[normalized.length()] = i;
+                    normalized.append(Character.toLowerCase(c));
+                }
+            }
+        }
+
+        // 키워드 앞뒤 문장(공백은 하나로 합침)
+        private static String excerpt(String text, int start, int end) {
+            int from = Math.max(0, start - EXCERPT_CONTEXT);
+            int to = Math.min(text.length(), end + EXCERPT_CONTEXT);
+            StringBuilder excerpt = new StringBuilder(Math.min(to - from, MAX_EXCERPT_LENGTH));
+            boolean space = false;
+            for (int i = from; i < to && excerpt.length() < MAX_EXCERPT_LENGTH; i++) {
+                char c = text.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    space = excerpt.length() > 0;
+                    continue;
+                }
+                if (space) {
+                    excerpt.append(' ');
+                    space = false;
+                }
+                excerpt.append(c);
+            }
+            return excerpt.toString();
+        }
+    }
+
+    /**
+     * 읽은 글자 수와 읽기(디코딩)에 걸린 시간을 기록하는 Reader
+     */
+    private static final class TimedReader extends FilterReader {
+        private long characters;
+        private long nanos;
+
+        private TimedReader(Reader reader) {
+            super(reader);
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            long start = System.nanoTime();
+            int read = super.read(buffer, offset, length);
+            nanos += System.nanoTime() - start;
+            if (read > 0) {
+                characters += read;
+            }
+            return read;
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.riskview.realty.support;
 
-import com.riskview.realty.domain.repository.UserRepository;
-import com.riskview.realty.model.User;
+import com.riskview.realty.domain.UserAuthInfo;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource; // comments above each line of code // MessageSource를 임포트합니다.
 import org.springframework.context.i18n.LocaleContextHolder; // comments above each line of code // 현재 로케일을 가져오기 위해 임포트합니다.
@@ -24,12 +26,13 @@ import java.util.Optional;
 // 로그인 실패를 처리하는 커스텀 핸들러
 @Component
 public class CustomAuthenticationFailureHandler implements AuthenticationFailureHandler {
+    private static final Logger log = LoggerFactory.getLogger(CustomAuthenticationFailureHandler.class);
 
     @Autowired
-    private UserRepository userRepository;
+    private MessageSource messageSource;
 
     @Autowired
-    private MessageSource messageSource;
+    private MeterRegistry meterRegistry;
 
     /**
      * 로그인 실패 시 호출되는 메서드
@@ -42,31 +45,28 @@ public class CustomAuthenticationFailureHandler implements AuthenticationFailure
     @Override
     public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
                                         AuthenticationException exception) throws IOException, ServletException {
-        System.out.println("[DEBUG] onAuthenticationFailure 호출됨");
-        System.out.println("[DEBUG] 예외 클래스: " + exception.getClass().getName());
-        System.out.println("[DEBUG] 예외 메시지: " + exception.getMessage());
-
         /**
          * 로그인 실패 시 기본 오류 메시지 설정
          */
         // 기본 오류 메시지
-        String errorMessageKey = messageSource.getMessage("login.error.general", null, LocaleContextHolder.getLocale());
+        String errorMessageKey = "login.error.general";
         // 사용자 요청에서 넘어온 userId 파라미터를 가져옴
         String userId = request.getParameter("userId");
 
         /**
-         * 사용자 삭제 여부를 데이터베이스에서 확인
-         * is_deleted=1인 사용자 분기 처리 (UsernameNotFoundException 전에 확인)
+         * 사용자 삭제 여부를 CustomUserDetailsService가 조회해 둔 정보로 확인(데이터베이스를 다시 조회하지 않음)
+         * is_deleted=1인 사용자는 비활성화 상태로 반환되어 DisabledException이 발생함
          */
-        if (userId != null) {
-            System.out.println("[DEBUG] userId로 사용자 정보 조회");
-            Optional<User> userOpt = userRepository.findByUserId(userId);
+        // 비밀번호 해싱 대기열이 가득 차서 검사하지 못했을 때
+        if (exception instanceof PasswordHashingBusyException) {
+            errorMessageKey = "login.error.busy";
+        } else if (userId != null) {
+            Optional<UserAuthInfo> userOpt = LoginAttemptContext.current();
             // 사용자 정보가 존재할 때
             if (userOpt.isPresent() && userOpt.get().isDeleted()) {
-                System.out.println("[DEBUG] 사용자가 삭제됨");
                 errorMessageKey = "login.error.user.deleted";
-            // Spring Security가 사용자 ID를 찾지 못했을 때 (데이터베이스에 없는 사용자)
-            } else if (exception instanceof UsernameNotFoundException) {
+            // 사용자 ID를 찾지 못했을 때 (Spring Security는 이 경우를 BadCredentialsException으로 감춤)
+            } else if (exception instanceof UsernameNotFoundException || LoginAttemptContext.isNotFound()) {
                 errorMessageKey = "login.error.user.notfound";
             // 비밀번호가 일치하지 않을 때
             } else if (exception instanceof BadCredentialsException) {
@@ -78,6 +78,11 @@ public class CustomAuthenticationFailureHandler implements AuthenticationFailure
             }
         }
 
+        log.info("login.failure userId={} reason={} exception={}", userId, errorMessageKey, exception.getClass().getSimpleName());
+        // 실패 사유별 횟수(reason은 메시지 키에서 login.error. 접두어를 뺀 값)
+        meterRegistry.counter("realty.login.failure", "reason", errorMessageKey.substring("login.error.".length()))
+                .increment();
+
         /**
          * 오류 메시지 다국어 지원 및 URL 인코딩 처리
          */
@@ -1,12 +1,17 @@
 package com.riskview.realty.support;
 
 import com.riskview.realty.domain.CustomUserDetails;
+import com.riskview.realty.domain.SessionUser;
+import com.riskview.realty.domain.UserAuthInfo;
 import com.riskview.realty.domain.dto.UserDTO;
 import com.riskview.realty.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.core.Authentication;
@@ -17,11 +22,15 @@ import java.io.IOException;
 
 @Component
 public class CustomAuthenticationSuccessHandler implements AuthenticationSuccessHandler {
+    private static final Logger log = LoggerFactory.getLogger(CustomAuthenticationSuccessHandler.class);
 
     @Autowired
     @Lazy
     private UserService userService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, 
                                      HttpServletResponse response, 
@@ -32,12 +41,15 @@ public class CustomAuthenticationSuccessHandler implements AuthenticationSuccess
             CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
             String userId = userDetails.getUserId();
             
-            // UserDTO 객체 생성 및 세션에 저장
-            UserDTO userDTO = userService.findByUserId(userId);
+            // 세션 사용자 정보 생성 및 세션에 저장(로그인 중 조회한 정보를 재사용)
+            UserDTO userDTO = LoginAttemptContext.current()
+                    .map(UserAuthInfo::toUserDTO)
+                    .orElseGet(() -> userService.findByUserId(userId));
             HttpSession session = request.getSession();
-            session.setAttribute("user", userDTO);
+            session.setAttribute("user", SessionUser.from(userDTO));
             
-            System.out.println("로그인 성공: 사용자 " + userId + "의 세션 정보가 저장되었습니다.");
+            log.info("login.success userId={}", userId);
+            meterRegistry.counter("realty.login.success").increment();
         }
         
         // 기본 성공 URL로 리다이렉트
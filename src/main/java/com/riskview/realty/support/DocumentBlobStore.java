@@ -0,0 +1,162 @@
+package com.riskview.realty.support;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * 문서 파일 저장소(내용 주소 방식)
+ * 파일은 {storage-dir}/blobs/ab/cd/{sha256}에 한 번만 저장하고, document_blobs.ref_count로 참조하는 문서 수를 관리
+ * store, release는 호출한 쪽의 트랜잭션 안에서 실행되어야 하며, document_blobs 행 잠금으로
+ * 같은 내용의 업로드와 삭제가 동시에 일어나도 파일이 잘못 지워지지 않도록 함
+ * release로 지울 파일은 트랜잭션이 커밋된 뒤에 삭제
+ */
+@Component
+public class DocumentBlobStore {
+    private static final Logger log = LoggerFactory.getLogger(DocumentBlobStore.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Path blobDirectory;
+    private final Path tempDirectory;
+
+    public DocumentBlobStore(JdbcTemplate jdbcTemplate,
+                             @Value("${realty.documents.storage-dir}") Path storageDirectory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.blobDirectory = storageDirectory.resolve("blobs");
+        this.tempDirectory = storageDirectory.resolve("tmp");
+    }
+
+    @PostConstruct
+    void createDirectories() throws IOException {
+        Files.createDirectories(blobDirectory);
+        // 업로드 임시 파일(spring.servlet.multipart.location)도 같은 파일 시스템에 두어 복사 대신 이동으로 처리
+        Files.createDirectories(tempDirectory);
+    }
+
+    /**
+     * 업로드 파일을 받을 임시 파일 경로(파일은 만들지 않음)
+     */
+    public Path newTempFile() {
+        return tempDirectory.resolve("upload-" + UUID.randomUUID() + ".part");
+    }
+
+    /**
+     * 파일 내용의 SHA-256(16진수 소문자)
+     * 파일 크기와 관계없이 고정 크기 버퍼로 읽음
+     */
+    public static String sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 내용 저장(참조 수 1 증가)
+     * 같은 내용이 이미 저장되어 있으면 파일은 옮기지 않음(중복 제거)
+     * @param sha256 파일 내용의 SHA-256
+     * @param size 파일 크기
+     * @param source 업로드된 임시 파일(새로 저장하는 경우 저장소로 이동)
+     * @return 새로 저장했으면 true, 이미 있는 내용이면 false
+     */
+    public boolean store(String sha256, long size, Path source) throws IOException {
+        // 행을 먼저 잠근 뒤 파일을 확인하므로 같은 내용을 삭제하는 release와 겹치지 않음
+        jdbcTemplate.update("INSERT INTO document_blobs (sha256, file_size, ref_count, created_at) VALUES (?, ?, 1, ?) "
+                + "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1", sha256, size, Timestamp.from(Instant.now()));
+        Path target = path(sha256);
+        if (Files.exists(target)) {
+            return false;
+        }
+        Files.createDirectories(target.getParent());
+        Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        return true;
+    }
+
+    /**
+     * 참조 수 1 감소, 더 이상 참조하는 문서가 없으면 행과 파일 삭제
+     * 파일은 행 잠금을 가진 동안 임시 디렉터리로 이름만 바꿔 두고 커밋된 뒤에 삭제(롤백되면 원래 위치로 되돌림)
+     * 이름을 바꾼 뒤에는 같은 내용의 업로드가 파일이 없는 것으로 보고 새로 저장하므로 삭제와 겹치지 않음
+     * @param sha256 파일 내용의 SHA-256
+     */
+    public void release(String sha256) throws IOException {
+        jdbcTemplate.update("UPDATE document_blobs SET ref_count = ref_count - 1 WHERE sha256 = ?", sha256);
+        if (jdbcTemplate.update("DELETE FROM document_blobs WHERE sha256 = ? AND ref_count <= 0", sha256) == 0) {
+            return;
+        }
+        Path target = path(sha256);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Files.deleteIfExists(target);
+            log.info("document.blob.deleted sha256={}", sha256);
+            return;
+        }
+        if (!Files.exists(target)) {
+            return;
+        }
+        Path released = tempDirectory.resolve("release-" + UUID.randomUUID() + ".part");
+        Files.move(target, released, StandardCopyOption.ATOMIC_MOVE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        Files.deleteIfExists(released);
+                        log.info("document.blob.deleted sha256={}", sha256);
+                    } else {
+                        restore(released, target);
+                    }
+                } catch (IOException e) {
+                    log.warn("document.blob.release failed sha256={} file={}", sha256, released, e);
+                }
+            }
+        });
+    }
+
+    // 롤백된 삭제의 파일을 되돌림(그 사이 같은 내용이 다시 저장되었으면 남은 파일만 삭제)
+    private static void restore(Path released, Path target) throws IOException {
+        try {
+            Files.move(released, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            Files.deleteIfExists(released);
+        }
+    }
+
+    /**
+     * 내용이 저장된 파일 경로
+     */
+    public Path path(String sha256) {
+        return blobDirectory.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+}
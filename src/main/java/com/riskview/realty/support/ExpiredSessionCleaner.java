@@ -0,0 +1,72 @@
+package com.riskview.realty.support;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 세션 정리
+ * Spring Session 기본 정리 작업은 만료 세션 전체를 DELETE 한 번으로 지워 세션이 많을 때 잠금이 길어지므로,
+ * 기본 작업은 끄고(spring.session.jdbc.cleanup-cron=-) 일정 개수씩 나누어 삭제
+ * 세션 속성은 외래 키(ON DELETE CASCADE)로 함께 삭제되며, 여러 서버에서 동시에 실행되어도 안전함
+ */
+@Component
+public class ExpiredSessionCleaner implements MeterBinder {
+    private static final Logger log = LoggerFactory.getLogger(ExpiredSessionCleaner.class);
+
+    private static final String DELETE_EXPIRED =
+            "DELETE FROM SPRING_SESSION WHERE EXPIRY_TIME < ? LIMIT ?";
+
+    private static final String COUNT_ACTIVE =
+            "SELECT COUNT(*) FROM SPRING_SESSION WHERE EXPIRY_TIME >= ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${realty.session.cleanup-batch-size:1000}")
+    private int batchSize; // 한 번에 삭제할 최대 세션 수
+
+    /**
+     * 만료된 세션을 배치 크기만큼씩 반복 삭제
+     * @return 삭제한 세션 수
+     */
+    @Scheduled(fixedDelayString = "${realty.session.cleanup-interval:1m}")
+    public int cleanUp() {
+        long now = System.currentTimeMillis();
+        int total = 0;
+        int deleted;
+        do {
+            // 배치마다 자동 커밋되어 잠금을 짧게 유지
+            deleted = jdbcTemplate.update(DELETE_EXPIRED, now, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+
+        if (total > 0) {
+            log.info("session.cleanup deleted={}", total);
+        }
+        return total;
+    }
+
+    /**
+     * 만료되지 않은 세션 수(모든 서버 합계, 메트릭 수집 시점마다 조회)
+     */
+    public long countActive() {
+        Long count = jdbcTemplate.queryForObject(COUNT_ACTIVE, Long.class, System.currentTimeMillis());
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("realty.sessions.active", this, ExpiredSessionCleaner::countActive)
+                .description("만료되지 않은 세션 수(공유 세션 저장소 기준)")
+                .register(registry);
+    }
+}
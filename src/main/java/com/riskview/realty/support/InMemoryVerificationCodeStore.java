@@ -0,0 +1,197 @@
+package com.riskview.realty.support;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리에 인증 코드를 저장하는 저장소(단일 서버용, 기본값)
+ * 코드는 만료 시각 순서로도 정렬해 두어, 저장할 때 만료된 코드를 앞에서부터 정리하고
+ * 최대 개수를 넘으면 가장 먼저 만료될 코드를 바로 제거(전체를 훑지 않음)
+ * consume이 트랜잭션 안에서 호출되면 트랜잭션이 롤백될 때 사용한 코드를 되돌려 다시 쓸 수 있게 함
+ */
+@Component
+@ConditionalOnProperty(name = "realty.verification.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    // 만료 시각 순서(맵에서 제거된 항목이 잠시 남아 있을 수 있으므로 꺼낼 때 맵과 같은 항목인지 확인)
+    private final ConcurrentSkipListSet<Entry> byExpiry = new ConcurrentSkipListSet<>();
+    private final AtomicLong sequence = new AtomicLong(); // 만료 시각이 같은 항목 구분
+    private final int maxEntries; // 최대 보관 개수
+    private final int maxAttempts; // 코드 하나당 최대 확인 시도 횟수
+    private final Clock clock;
+
+    @Autowired
+    public InMemoryVerificationCodeStore(@Value("${realty.verification.max-entries:100000}") int maxEntries,
+                                         @Value("${realty.verification.max-attempts:5}") int maxAttempts) {
+        this(maxEntries, maxAttempts, Clock.systemUTC());
+    }
+
+    InMemoryVerificationCodeStore(int maxEntries, int maxAttempts, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.maxAttempts = maxAttempts;
+        this.clock = clock;
+    }
+
+    @Override
+    public void save(String email, String code, Duration ttl) {
+        long now = clock.millis();
+        sweep(now);
+        // 가득 찼으면 가장 먼저 만료될 코드부터 제거
+        while (entries.size() >= maxEntries) {
+            if (!evictEarliestExpiring()) {
+                break;
+            }
+        }
+        String key = key(email);
+        Entry entry = new Entry(key, bytes(code), now + ttl.toMillis(), sequence.incrementAndGet());
+        byExpiry.add(entry);
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            byExpiry.remove(previous);
+        }
+    }
+
+    @Override
+    public Result verify(String email, String code) {
+        String key = key(email);
+        Entry entry = entries.get(key);
+        return entry == null ? Result.NOT_FOUND : check(entry, code);
+    }
+
+    @Override
+    public Result consume(String email, String code) {
+        String key = key(email);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Result.NOT_FOUND;
+        }
+        Result result = check(entry, code);
+        // 동시에 같은 코드로 요청해도 한 요청만 제거에 성공
+        if (result == Result.VALID) {
+            if (!remove(entry)) {
+                return Result.NOT_FOUND;
+            }
+            restoreOnRollback(entry);
+        }
+        return result;
+    }
+
+    /**
+     * 현재 보관 중인 코드 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private Result check(Entry entry, String code) {
+        if (clock.millis() > entry.expiresAt) {
+            remove(entry);
+            return Result.EXPIRED;
+        }
+        if (entry.attempts.incrementAndGet() > maxAttempts) {
+            return Result.TOO_MANY_ATTEMPTS;
+        }
+        // 일치하는 글자 수에 따라 응답 시간이 달라지지 않도록 상수 시간 비교
+        return code != null && MessageDigest.isEqual(entry.code, bytes(code)) ? Result.VALID : Result.INVALID;
+    }
+
+    // 가입 저장이 실패하여 트랜잭션이 롤백되면 코드를 되돌림(그 사이 새 코드가 발송되었으면 새 코드를 유지)
+    private void restoreOnRollback(Entry entry) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    byExpiry.add(entry);
+                    if (entries.putIfAbsent(entry.key, entry) != null) {
+                        byExpiry.remove(entry);
+                    }
+                }
+            }
+        });
+    }
+
+    // 만료된 코드 정리(만료 시각 순서로 앞에서부터 만료되지 않은 코드가 나올 때까지만 확인)
+    private void sweep(long now) {
+        Entry first;
+        while ((first = firstOrNull()) != null && now > first.expiresAt) {
+            if (byExpiry.remove(first)) {
+                entries.remove(first.key, first);
+            }
+        }
+    }
+
+    // 가장 먼저 만료될 코드 제거(가득 찼을 때만 실행), 제거할 코드가 없으면 false
+    private boolean evictEarliestExpiring() {
+        Entry first;
+        while ((first = byExpiry.pollFirst()) != null) {
+            if (entries.remove(first.key, first)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Entry firstOrNull() {
+        try {
+            return byExpiry.first();
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+    }
+
+    private boolean remove(Entry entry) {
+        if (entries.remove(entry.key, entry)) {
+            byExpiry.remove(entry);
+            return true;
+        }
+        return false;
+    }
+
+    private static String key(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static byte[] bytes(String code) {
+        return code.trim().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+        private final String key;
+        private final byte[] code;
+        private final long expiresAt;
+        private final long sequence;
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        private Entry(String key, byte[] code, long expiresAt, long sequence) {
+            this.key = key;
+            this.code = code;
+            this.expiresAt = expiresAt;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int byTime = Long.compare(expiresAt, other.expiresAt);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.riskview.realty.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 데이터베이스(verification_codes 테이블)에 인증 코드를 저장하는 저장소(여러 서버용)
+ * realty.verification.store=jdbc 로 사용
+ */
+@Component
+@ConditionalOnProperty(name = "realty.verification.store", havingValue = "jdbc")
+public class JdbcVerificationCodeStore implements VerificationCodeStore {
+    private static final Logger log = LoggerFactory.getLogger(JdbcVerificationCodeStore.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts; // 코드 하나당 최대 확인 시도 횟수
+
+    public JdbcVerificationCodeStore(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                     @Value("${realty.verification.max-attempts:5}") int maxAttempts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public void save(String email, String code, Duration ttl) {
+        jdbcTemplate.update("INSERT INTO verification_codes (email, code, expires_at, attempts) VALUES (?, ?, ?, 0) "
+                        + "ON DUPLICATE KEY UPDATE code = VALUES(code), expires_at = VALUES(expires_at), attempts = 0",
+                key(email), code.trim(), Timestamp.from(Instant.now().plus(ttl)));
+    }
+
+    @Override
+    public Result verify(String email, String code) {
+        return check(key(email), code, false);
+    }
+
+    @Override
+    public Result consume(String email, String code) {
+        return check(key(email), code, true);
+    }
+
+    /**
+     * 만료된 코드 정리
+     */
+    @Scheduled(fixedDelayString = "${realty.verification.sweep-interval:5m}")
+    public void sweep() {
+        int deleted = jdbcTemplate.update("DELETE FROM verification_codes WHERE expires_at < ?", Timestamp.from(Instant.now()));
+        log.debug("Swept {} expired verification codes", deleted);
+    }
+
+    // 행을 잠그고 확인하여 동시 요청에서도 시도 횟수와 사용 여부가 정확하게 반영되도록 함
+    private Result check(String key, String code, boolean consume) {
+        return transactionTemplate.execute(status -> {
+            List<StoredCode> rows = jdbcTemplate.query(
+                    "SELECT code, expires_at, attempts FROM verification_codes WHERE email = ? FOR UPDATE",
+                    (rs, rowNum) -> new StoredCode(rs.getString(1), rs.getTimestamp(2).toInstant(), rs.getInt(3)),
+                    key);
+            if (rows.isEmpty()) {
+                return Result.NOT_FOUND;
+            }
+
+            StoredCode stored = rows.get(0);
+            if (Instant.now().isAfter(stored.expiresAt)) {
+                jdbcTemplate.update("DELETE FROM verification_codes WHERE email = ?", key);
+                return Result.EXPIRED;
+            }
+            if (stored.attempts >= maxAttempts) {
+                return Result.TOO_MANY_ATTEMPTS;
+            }
+
+            // 일치하는 글자 수에 따라 응답 시간이 달라지지 않도록 상수 시간 비교
+            boolean matches = code != null && MessageDigest.isEqual(
+                    stored.code.getBytes(StandardCharsets.UTF_8), code.trim().getBytes(StandardCharsets.UTF_8));
+            if (matches && consume) {
+                jdbcTemplate.update("DELETE FROM verification_codes WHERE email = ?", key);
+            } else {
+                jdbcTemplate.update("UPDATE verification_codes SET attempts = attempts + 1 WHERE email = ?", key);
+            }
+            return matches ? Result.VALID : Result.INVALID;
+        });
+    }
+
+    private static String key(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record StoredCode(String code, Instant expiresAt, int attempts) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.riskview.realty.support;
+
+import com.riskview.realty.domain.UserAuthInfo;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
+
+/**
+ * 로그인 요청 동안 조회한 사용자 정보를 요청 속성에 보관하는 클래스
+ * CustomUserDetailsService에서 조회한 결과를 성공/실패 핸들러가 그대로 사용하여
+ * 로그인 시도 한 번에 사용자 조회가 한 번만 일어나도록 함
+ */
+public final class LoginAttemptContext {
+
+    private static final String ATTRIBUTE = LoginAttemptContext.class.getName();
+
+    // 조회는 했지만 사용자가 없는 경우를 구분하기 위한 값
+    private static final Object NOT_FOUND = new Object();
+
+    private LoginAttemptContext() {
+    }
+
+    /**
+     * 조회한 사용자 정보 기록
+     * @param user 조회한 사용자 정보(없으면 null)
+     */
+    public static void record(UserAuthInfo user) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(ATTRIBUTE, user != null ? user : NOT_FOUND, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * 현재 요청에서 조회한 사용자 정보
+     * @return 사용자 정보, 조회하지 않았거나 사용자가 없으면 empty
+     */
+    public static Optional<UserAuthInfo> current() {
+        Object value = get();
+        return value instanceof UserAuthInfo user ? Optional.of(user) : Optional.empty();
+    }
+
+    /**
+     * 현재 요청에서 사용자를 조회했지만 존재하지 않았는지 여부
+     */
+    public static boolean isNotFound() {
+        return get() == NOT_FOUND;
+    }
+
+    private static Object get() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null ? attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) : null;
+    }
+}
@@ -19,6 +19,13 @@ public @interface ModifyUserDTOValidation {
 }
 
 class ModifyUserDTOValidator implements ConstraintValidator<ModifyUserDTOValidation, ModifyUserDTO> {
+    // Spring이 생성하는 ConstraintValidator이므로 빈 주입 가능
+    private final ValidationRules validationRules;
+
+    ModifyUserDTOValidator(ValidationRules validationRules) {
+        this.validationRules = validationRules;
+    }
+
     @Override
     public void initialize(ModifyUserDTOValidation constraintAnnotation) {
         // 초기화 로직
@@ -41,10 +48,11 @@ class ModifyUserDTOValidator implements ConstraintValidator<ModifyUserDTOValidat
                 return false;
             }
 
-            // 비밀번호 길이 검사
-            if (value.getNewPassword().length() < 8) {
+            // 비밀번호 길이 검사(validation-rules.json의 newPassword 규칙)
+            String newPasswordError = validationRules.validate("newPassword", value.getNewPassword());
+            if (newPasswordError != null) {
                 context.disableDefaultConstraintViolation();
-                context.buildConstraintViolationWithTemplate("비밀번호는 8자 이상이어야 합니다.")
+                context.buildConstraintViolationWithTemplate(newPasswordError)
                        .addPropertyNode("newPassword")
                        .addConstraintViolation();
                 return false;
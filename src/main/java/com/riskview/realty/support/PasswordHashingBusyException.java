@@ -0,0 +1,14 @@
+package com.riskview.realty.support;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 비밀번호 해싱 작업 큐가 가득 차서 요청을 바로 거절할 때 발생하는 예외
+ * 로그인 중 발생하면 AuthenticationException이므로 로그인 실패 핸들러가 처리함
+ */
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+
+    public PasswordHashingBusyException() {
+        super("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,134 @@
+package com.riskview.realty.support;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 인증코드 발송, 인증코드 확인, 로그인, 회원가입 요청 횟수 제한 필터
+ * 세션 조회(SessionRepositoryFilter)와 Spring Security보다 먼저 실행되어
+ * 제한을 넘은 요청은 데이터베이스 조회나 BCrypt 비교 없이 429로 응답
+ * 버킷은 서버마다 따로 관리하므로 서버가 N대면 전체 허용량은 설정값의 N배
+ * 규칙을 모두 확인한 뒤 통과할 때만 토큰을 사용하므로, 뒤 규칙에 걸린 요청이 앞 규칙(IP)의 토큰을 쓰지 않음
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "realty.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private static final String MESSAGE = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    // 퍼센트 인코딩을 풀고 세미콜론 경로 변수, 중복 슬래시를 제거한 경로를 구함(MVC, Spring Security와 같은 기준)
+    private static final UrlPathHelper PATH_HELPER = new UrlPathHelper();
+
+    // POST 요청 경로별 제한 규칙
+    private final Map<String, List<Rule>> rules;
+
+    public RateLimitFilter(
+            @Value("${realty.rate-limit.max-keys:100000}") int maxKeys,
+            @Value("${realty.rate-limit.send-code.per-ip:10/1m}") String sendCodePerIp,
+            @Value("${realty.rate-limit.send-code.per-email:3/10m}") String sendCodePerEmail,
+            @Value("${realty.rate-limit.verify-code.per-ip:30/1m}") String verifyCodePerIp,
+            @Value("${realty.rate-limit.verify-code.per-email:10/10m}") String verifyCodePerEmail,
+            @Value("${realty.rate-limit.login.per-ip:30/1m}") String loginPerIp,
+            @Value("${realty.rate-limit.login.per-user:10/5m}") String loginPerUser,
+            @Value("${realty.rate-limit.register.per-ip:10/10m}") String registerPerIp,
+            @Value("${realty.rate-limit.register.per-email:5/10m}") String registerPerEmail) {
+        Function<HttpServletRequest, String> ip = HttpServletRequest::getRemoteAddr;
+        Function<HttpServletRequest, String> email = request -> normalize(request.getParameter("email"));
+        // 로그인 시도는 IP와 사용자 ID를 함께 키로 사용
+        // 사용자 ID만 키로 쓰면 다른 사람이 틀린 비밀번호를 반복해서 보내 그 사용자의 로그인을 막을 수 있음
+        Function<HttpServletRequest, String> ipAndUserId = request -> {
+            String userId = normalize(request.getParameter("userId"));
+            return userId == null ? null : request.getRemoteAddr() + "|" + userId;
+        };
+
+        this.rules = Map.of(
+                "/user/send-verification-code", List.of(
+                        new Rule("ip", ip, RateLimiter.parse(sendCodePerIp, maxKeys)),
+                        new Rule("email", email, RateLimiter.parse(sendCodePerEmail, maxKeys))),
+                "/user/verify-email-code", List.of(
+                        new Rule("ip", ip, RateLimiter.parse(verifyCodePerIp, maxKeys)),
+                        new Rule("email", email, RateLimiter.parse(verifyCodePerEmail, maxKeys))),
+                "/user/login", List.of(
+                        new Rule("ip", ip, RateLimiter.parse(loginPerIp, maxKeys)),
+                        new Rule("ip-user", ipAndUserId, RateLimiter.parse(loginPerUser, maxKeys))),
+                "/user/register", List.of(
+                        new Rule("ip", ip, RateLimiter.parse(registerPerIp, maxKeys)),
+                        new Rule("email", email, RateLimiter.parse(registerPerEmail, maxKeys))));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || !rules.containsKey(path(request));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        List<Rule> pathRules = rules.get(path(request));
+        String[] keys = new String[pathRules.size()];
+        // 먼저 토큰을 쓰지 않고 모든 규칙 확인
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = pathRules.get(i).key.apply(request); // 값이 없는 요청(null)은 이후 유효성 검사에서 거절됨
+            long waitNanos = keys[i] == null ? 0 : pathRules.get(i).limiter.check(keys[i]);
+            if (waitNanos > 0) {
+                reject(request, response, pathRules.get(i), waitNanos);
+                return;
+            }
+        }
+        // 모두 통과하면 토큰 사용(확인한 뒤 같은 키로 동시에 들어온 요청이 먼저 쓴 경우에만 여기서 거절)
+        for (int i = 0; i < keys.length; i++) {
+            long waitNanos = keys[i] == null ? 0 : pathRules.get(i).limiter.tryAcquire(keys[i]);
+            if (waitNanos > 0) {
+                reject(request, response, pathRules.get(i), waitNanos);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, Rule rule, long waitNanos)
+            throws IOException {
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        log.debug("rate-limit.rejected path={} by={} retryAfter={}s", path(request), rule.name, retryAfter);
+        response.setStatus(429); // Too Many Requests
+        response.setHeader("Retry-After", Long.toString(retryAfter));
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write(MESSAGE);
+    }
+
+    // 컨텍스트 경로를 제외하고 디코딩한 요청 경로
+    // 원래 URI 그대로 비교하면 /user/%6cogin처럼 인코딩한 경로가 규칙을 모두 피해 감
+    private static String path(HttpServletRequest request) {
+        String path = PATH_HELPER.getPathWithinApplication(request);
+        // 끝의 슬래시는 무시(/user/login/)
+        return path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    private static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Rule(String name, Function<HttpServletRequest, String> key, RateLimiter limiter) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.riskview.realty.support;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키(IP, 이메일, 사용자 ID 등)별 토큰 버킷
+ * 버킷 상태를 "다음 토큰이 채워지는 시각" 하나(long)로 표현하여 잠금 없이 CAS 한 번으로 갱신(GCRA 방식)
+ * 키 개수는 maxKeys로 제한하며, 가득 차면 토큰이 모두 채워진(새 버킷과 같은) 키부터 제거하고
+ * 그래도 부족하면 가장 오래전에 사용된(다음 토큰 시각이 가장 이른) 키부터 제거
+ * 제한에 걸린 키는 가장 늦게 제거되므로 새 키를 대량으로 만들어 자기 버킷을 초기화할 수 없음
+ */
+public class RateLimiter {
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final long emissionInterval; // 토큰 하나가 채워지는 시간(ns)
+    private final long burstTolerance; // 한 번에 몰아서 쓸 수 있는 시간(ns), (용량 - 1) * emissionInterval
+    private final int maxKeys; // 최대 버킷 수
+    private final AtomicBoolean evicting = new AtomicBoolean(); // 제거는 한 스레드만(나머지는 기다리지 않고 추가)
+
+    /**
+     * @param capacity 버킷 용량(기간 안에 허용하는 요청 수)
+     * @param period 버킷이 비었다가 다시 가득 차는 시간
+     * @param maxKeys 최대 버킷 수
+     */
+    public RateLimiter(int capacity, Duration period, int maxKeys) {
+        if (capacity < 1 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Invalid rate limit: " + capacity + "/" + period);
+        }
+        this.emissionInterval = period.toNanos() / capacity;
+        this.burstTolerance = emissionInterval * (capacity - 1);
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * "용량/기간" 형식(예: 5/1m)의 설정값으로 생성
+     */
+    public static RateLimiter parse(String spec, int maxKeys) {
+        int slash = spec.indexOf('/');
+        if (slash < 0) {
+            throw new IllegalArgumentException("Rate limit must look like <capacity>/<period>: " + spec);
+        }
+        int capacity = Integer.parseInt(spec.substring(0, slash).trim());
+        Duration period = DurationStyle.detectAndParse(spec.substring(slash + 1).trim());
+        return new RateLimiter(capacity, period, maxKeys);
+    }
+
+    /**
+     * 토큰 하나 사용
+     * @return 허용되면 0, 거절되면 다음 토큰까지 남은 시간(ns)
+     */
+    public long tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    /**
+     * 토큰을 사용하지 않고 지금 요청하면 기다려야 하는 시간만 확인
+     * @return 허용되면 0, 거절되면 다음 토큰까지 남은 시간(ns)
+     */
+    public long check(String key) {
+        return check(key, System.nanoTime());
+    }
+
+    long check(String key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            return 0; // 새 버킷은 가득 찬 상태
+        }
+        return Math.max(0, Math.max(bucket.get(), now) - burstTolerance - now);
+    }
+
+    long tryAcquire(String key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = newBucket(key, now);
+        }
+        while (true) {
+            long tat = bucket.get(); // 이론상 다음 도착 시각(theoretical arrival time)
+            long base = Math.max(tat, now);
+            long wait = base - burstTolerance - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, base + emissionInterval)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 현재 버킷 수
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong newBucket(String key, long now) {
+        if (buckets.size() >= maxKeys && evicting.compareAndSet(false, true)) {
+            try {
+                evict(now);
+            } finally {
+                evicting.set(false);
+            }
+        }
+        // now를 초기값으로 두면 새 버킷은 가득 찬 상태
+        AtomicLong created = new AtomicLong(now);
+        AtomicLong existing = buckets.putIfAbsent(key, created);
+        return existing != null ? existing : created;
+    }
+
+    private void evict(long now) {
+        // 토큰이 모두 채워진 버킷은 지워도 다시 만들 때와 상태가 같음
+        buckets.values().removeIf(bucket -> bucket.get() <= now);
+        int target = maxKeys - maxKeys / 10;
+        if (buckets.size() < target) {
+            return;
+        }
+        // 그래도 가득 차 있으면(짧은 시간에 키가 몰린 경우) 다음 토큰 시각이 이른 버킷(가장 오래전에 사용됨)부터 제거
+        List<Map.Entry<String, Long>> byRefill = new ArrayList<>(buckets.size());
+        buckets.forEach((key, bucket) -> byRefill.add(Map.entry(key, bucket.get())));
+        byRefill.sort(Map.Entry.comparingByValue(Comparator.naturalOrder()));
+        for (int i = 0, excess = byRefill.size() - target; i < excess; i++) {
+            Map.Entry<String, Long> entry = byRefill.get(i);
+            // 정렬하는 사이에 다시 사용된 버킷은 남김
+            buckets.computeIfPresent(entry.getKey(), (key, bucket) -> bucket.get() == entry.getValue() ? null : bucket);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.riskview.realty.support;
+
+/**
+ * 요청 하나에서 실행된 SQL 통계
+ * SqlStatsFilter가 요청 시작 시 만들고, 데이터소스 프록시(SqlStatsListener)가 같은 스레드에서 값을 더함
+ * 세션 저장소(SPRING_SESSION) SQL은 컨트롤러 작업과 구분하여 따로 셈
+ */
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private int statements; // 실행한 SQL 수(세션 저장소 제외)
+    private int sessionStatements; // 세션 저장소 SQL 수
+    private long rows; // 읽은 행 수 + 변경된 행 수
+    private long elapsedMillis; // SQL 실행 시간 합계
+
+    private RequestSqlStats() {
+    }
+
+    /**
+     * 현재 스레드에서 통계 수집 시작
+     */
+    static RequestSqlStats begin() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * 현재 스레드의 통계(요청 처리 중이 아니면 null)
+     */
+    public static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    void recordStatement(boolean session, long elapsedMillis, long updatedRows) {
+        if (session) {
+            sessionStatements++;
+        } else {
+            statements++;
+        }
+        this.elapsedMillis += elapsedMillis;
+        this.rows += updatedRows;
+    }
+
+    void recordRow() {
+        rows++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getSessionStatements() {
+        return sessionStatements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
@@ -0,0 +1,137 @@
+package com.riskview.realty.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계약서 분석에 사용하는 위험 키워드 사전(risk-rules.json)을 시작 시 한 번 읽어 보관하는 클래스
+ * 규칙 파일이 파일 시스템에 있으면 변경 시 다시 읽어 교체하며, 분석 중인 작업은 시작할 때 가져간 사전을 끝까지 사용
+ */
+@Component
+public class RiskRules {
+    private static final Logger log = LoggerFactory.getLogger(RiskRules.class);
+
+    private final ResourceLoader resourceLoader;
+    private final String location; // 규칙 파일 위치
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 교체만 하고 수정하지 않는 불변 사전
+    private volatile Dictionary dictionary = new Dictionary(List.of(), Integer.MAX_VALUE, Integer.MAX_VALUE);
+    private volatile long lastModified = -1;
+
+    public RiskRules(ResourceLoader resourceLoader,
+                     @Value("${realty.analysis.rules-location:classpath:analysis/risk-rules.json}") String location) {
+        this.resourceLoader = resourceLoader;
+        this.location = location;
+    }
+
+    @PostConstruct
+    void load() {
+        Resource resource = resourceLoader.getResource(location);
+        try (InputStream inputStream = resource.getInputStream()) {
+            dictionary = compile(objectMapper.readTree(inputStream));
+            lastModified = resource.isFile() ? resource.lastModified() : -1;
+            log.info("Loaded {} risk rules from {}", dictionary.rules().size(), location);
+        } catch (IOException | RuntimeException e) {
+            // 잘못된 규칙 파일로 교체되어도 기존 사전은 유지
+            log.error("위험 키워드 사전 로드 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 규칙 파일이 변경되었으면 다시 읽음
+     */
+    @Scheduled(fixedDelayString = "${realty.analysis.reload-interval:10s}")
+    public void reloadIfModified() {
+        Resource resource = resourceLoader.getResource(location);
+        try {
+            if (resource.isFile() && resource.lastModified() != lastModified) {
+                load();
+            }
+        } catch (IOException e) {
+            log.warn("위험 키워드 사전 파일 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 사전
+     */
+    public Dictionary current() {
+        return dictionary;
+    }
+
+    // JSON 규칙을 불변 객체로 변환(키워드는 여기서 한 번만 정규화)
+    private static Dictionary compile(JsonNode root) {
+        List<Rule> rules = new ArrayList<>();
+        for (JsonNode rule : root.path("rules")) {
+            List<String> keywords = new ArrayList<>();
+            List<String> normalized = new ArrayList<>();
+            for (JsonNode keyword : rule.path("keywords")) {
+                String normalizedKeyword = normalize(keyword.asText());
+                if (!normalizedKeyword.isEmpty()) {
+                    keywords.add(keyword.asText().strip());
+                    normalized.add(normalizedKeyword);
+                }
+            }
+            if (keywords.isEmpty()) {
+                throw new IllegalArgumentException("키워드가 없는 규칙: " + rule.path("id").asText());
+            }
+            rules.add(new Rule(rule.path("id").asText(), rule.path("category").asText(),
+                    rule.path("weight").asInt(1), List.copyOf(keywords), List.copyOf(normalized)));
+        }
+        JsonNode levels = root.path("levels");
+        return new Dictionary(List.copyOf(rules), levels.path("HIGH").asInt(30), levels.path("MEDIUM").asInt(10));
+    }
+
+    /**
+     * 키워드 비교용 정규화(공백 제거, 소문자)
+     * "보증금  반환"과 "보증금반환"처럼 띄어쓰기만 다른 표현도 같은 키워드로 찾음
+     */
+    public static String normalize(String text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * 위험 키워드 사전
+     * @param rules 규칙 목록(파일에 적힌 순서)
+     * @param highScore 이 점수 이상이면 HIGH
+     * @param mediumScore 이 점수 이상이면 MEDIUM, 그 미만은 LOW
+     */
+    public record Dictionary(List<Rule> rules, int highScore, int mediumScore) {
+        public String level(int score) {
+            if (score >= highScore) {
+                return "HIGH";
+            }
+            return score >= mediumScore ? "MEDIUM" : "LOW";
+        }
+    }
+
+    /**
+     * 위험 규칙(조항에 키워드 중 하나라도 있으면 가중치만큼 점수 추가)
+     * @param keywords 화면에 표시할 키워드
+     * @param normalizedKeywords 비교에 사용할 정규화된 키워드(keywords와 같은 순서)
+     */
+    public record Rule(String id, String category, int weight, List<String> keywords, List<String> normalizedKeywords) {
+    }
+}
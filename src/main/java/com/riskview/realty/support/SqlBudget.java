@@ -0,0 +1,28 @@
+package com.riskview.realty.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드가 요청 하나에서 실행할 수 있는 최대 SQL 수
+ * 세션 저장소(SPRING_SESSION) SQL과 컨트롤러 호출 전 보안 필터의 SQL은 포함하지 않음
+ * 초과하면 SqlBudgetInterceptor가 경고 로그를 남기고, 테스트에서는 실패로 처리
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+
+    /**
+     * 대상 수에 비례하여 SQL 수가 늘어나는 일괄 작업(묶음 단위 처리)
+     */
+    int UNBOUNDED = Integer.MAX_VALUE;
+
+    /**
+     * 최대 SQL 수
+     */
+    int value();
+}
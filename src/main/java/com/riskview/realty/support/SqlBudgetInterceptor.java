@@ -0,0 +1,81 @@
+package com.riskview.realty.support;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 컨트롤러 메서드에 선언된 SQL 예산(@SqlBudget)과 실제 실행한 SQL 수를 비교하는 인터셉터
+ * 컨트롤러 호출 전후의 SQL 수 차이만 세므로 보안 필터와 세션 저장소의 SQL은 포함하지 않음
+ * 결과는 요청 속성(RESULT_ATTRIBUTE)에 남겨 테스트에서 확인
+ */
+public class SqlBudgetInterceptor implements HandlerInterceptor {
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetInterceptor.class);
+
+    /**
+     * 예산 확인 결과(SqlBudgetInterceptor.Result)를 담는 요청 속성 이름
+     */
+    public static final String RESULT_ATTRIBUTE = SqlBudgetInterceptor.class.getName() + ".RESULT";
+
+    private static final String START_ATTRIBUTE = SqlBudgetInterceptor.class.getName() + ".START";
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null && handler instanceof HandlerMethod) {
+            request.setAttribute(START_ATTRIBUTE, stats.getStatements());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, @Nullable Exception ex) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats == null || !(request.getAttribute(START_ATTRIBUTE) instanceof Integer start)
+                || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        SqlBudget budget = findBudget(handlerMethod);
+        int statements = stats.getStatements() - start;
+        Result result = new Result(handlerMethod.getShortLogMessage(), budget == null ? -1 : budget.value(), statements);
+        request.setAttribute(RESULT_ATTRIBUTE, result);
+        if (result.exceeded()) {
+            log.warn("sql.budget.exceeded handler={} budget={} statements={}",
+                    result.handler(), result.budget(), result.statements());
+        }
+    }
+
+    // 메서드에 선언된 예산이 우선, 없으면 클래스에 선언된 예산
+    private static SqlBudget findBudget(HandlerMethod handlerMethod) {
+        SqlBudget budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), SqlBudget.class);
+        if (budget == null) {
+            budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), SqlBudget.class);
+        }
+        return budget;
+    }
+
+    /**
+     * 예산 확인 결과
+     * @param handler 컨트롤러 메서드
+     * @param budget 선언된 최대 SQL 수(선언되지 않았으면 -1)
+     * @param statements 컨트롤러 메서드가 실행한 SQL 수
+     */
+    public record Result(String handler, int budget, int statements) {
+
+        public boolean declared() {
+            return budget >= 0;
+        }
+
+        public boolean exceeded() {
+            return declared() && statements > budget;
+        }
+    }
+}
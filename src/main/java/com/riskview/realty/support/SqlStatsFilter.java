@@ -0,0 +1,72 @@
+package com.riskview.realty.support;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 실행된 SQL 수, 행 수, 실행 시간을 모아 요청 로그로 남기고 엔드포인트별로 누적하는 필터
+ * 세션 저장소 조회보다 먼저 실행되어 세션 SQL도 함께 셈
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@ConditionalOnProperty(name = "realty.sql.stats.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatsFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(SqlStatsFilter.class);
+
+    @Autowired
+    private SqlStatsRegistry sqlStatsRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestSqlStats stats = RequestSqlStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestSqlStats.end();
+            record(request, response, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, RequestSqlStats stats) {
+        // 컨트롤러에 매핑되지 않은 요청(정적 리소스, 보안 필터가 처리한 로그인 등)은 URI로 구분
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+        if (stats.getStatements() == 0 && stats.getSessionStatements() == 0) {
+            return; // SQL을 실행하지 않은 요청(정적 리소스 등)은 기록하지 않음
+        }
+        if (pattern != null || stats.getStatements() > 0) {
+            sqlStatsRegistry.record(endpoint, stats);
+        }
+        if (pattern != null) {
+            // 요청당 SQL 수 분포(uri는 URL 패턴이므로 태그 값의 개수가 정해져 있음)
+            DistributionSummary.builder("realty.http.sql.statements")
+                    .description("요청 하나에서 실행한 SQL 수(세션 저장소 제외)")
+                    .tags("method", request.getMethod(), "uri", pattern.toString())
+                    .register(meterRegistry)
+                    .record(stats.getStatements());
+        }
+        log.info("request.sql endpoint=\"{}\" status={} statements={} sessionStatements={} rows={} sqlMs={}",
+                endpoint, response.getStatus(), stats.getStatements(), stats.getSessionStatements(),
+                stats.getRows(), stats.getElapsedMillis());
+    }
+}
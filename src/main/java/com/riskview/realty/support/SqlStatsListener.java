@@ -0,0 +1,65 @@
+package com.riskview.realty.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * 데이터소스 프록시에서 SQL 실행과 ResultSet.next() 호출을 받아 요청별 통계(RequestSqlStats)에 기록
+ * 요청 처리 스레드가 아니면(스케줄러, 시작 시 마이그레이션 등) 기록하지 않음
+ */
+public class SqlStatsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final String SESSION_TABLE = "SPRING_SESSION";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats == null) {
+            return;
+        }
+        boolean session = !queryInfoList.isEmpty() && queryInfoList.get(0).getQuery().contains(SESSION_TABLE);
+        stats.recordStatement(session, execInfo.getElapsedTime(), updatedRows(execInfo.getResult()));
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        // 조회한 행 수는 ResultSet.next()가 true를 반환한 횟수
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            RequestSqlStats stats = RequestSqlStats.current();
+            if (stats != null) {
+                stats.recordRow();
+            }
+        }
+    }
+
+    // executeUpdate, executeBatch 결과에서 변경된 행 수
+    private static long updatedRows(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof int[] counts) {
+            long sum = 0;
+            for (int count : counts) {
+                sum += Math.max(count, 0);
+            }
+            return sum;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,76 @@
+package com.riskview.realty.support;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트(HTTP 메서드 + URL 패턴)별 SQL 통계 누적
+ * 키는 컨트롤러에 매핑된 URL 패턴이므로 개수가 정해져 있음
+ */
+@Component
+public class SqlStatsRegistry {
+
+    private final Map<String, Aggregate> endpoints = new ConcurrentHashMap<>();
+
+    void record(String endpoint, RequestSqlStats stats) {
+        endpoints.computeIfAbsent(endpoint, key -> new Aggregate()).add(stats);
+    }
+
+    /**
+     * 엔드포인트별 통계(요청당 평균 SQL 수가 많은 순)
+     */
+    public List<EndpointSqlStats> snapshot() {
+        List<EndpointSqlStats> result = new ArrayList<>(endpoints.size());
+        endpoints.forEach((endpoint, aggregate) -> result.add(aggregate.snapshot(endpoint)));
+        result.sort(Comparator.comparingDouble(EndpointSqlStats::averageStatements).reversed());
+        return result;
+    }
+
+    /**
+     * 엔드포인트 하나의 SQL 통계
+     * @param endpoint HTTP 메서드와 URL 패턴
+     * @param requests 요청 수
+     * @param statements SQL 수 합계(세션 저장소 제외)
+     * @param maxStatements 요청 하나의 최대 SQL 수
+     * @param sessionStatements 세션 저장소 SQL 수 합계
+     * @param rows 읽거나 변경한 행 수 합계
+     * @param elapsedMillis SQL 실행 시간 합계
+     */
+    public record EndpointSqlStats(String endpoint, long requests, long statements, long maxStatements,
+                                   long sessionStatements, long rows, long elapsedMillis) {
+
+        public double averageStatements() {
+            return requests == 0 ? 0 : (double) statements / requests;
+        }
+    }
+
+    private static final class Aggregate {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+        private final LongAdder sessionStatements = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder elapsedMillis = new LongAdder();
+
+        private void add(RequestSqlStats stats) {
+            requests.increment();
+            statements.add(stats.getStatements());
+            maxStatements.accumulate(stats.getStatements());
+            sessionStatements.add(stats.getSessionStatements());
+            rows.add(stats.getRows());
+            elapsedMillis.add(stats.getElapsedMillis());
+        }
+
+        private EndpointSqlStats snapshot(String endpoint) {
+            return new EndpointSqlStats(endpoint, requests.sum(), statements.sum(), maxStatements.get(),
+                    sessionStatements.sum(), rows.sum(), elapsedMillis.sum());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.riskview.realty.support;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.lang.NonNull;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 해싱(encode)과 검증(matches) 시간을 기록하는 PasswordEncoder
+ * 해시 한 번에 CPU 코어 하나를 온전히 쓰므로 평균 검증 시간으로 코어당 처리 가능한 로그인 수를 추정할 수 있음
+ * 메트릭 레지스트리에 연결되면 realty.password.hash 타이머(operation=encode|matches)에도 기록
+ */
+public class TimedPasswordEncoder implements PasswordEncoder, MeterBinder {
+
+    private final PasswordEncoder delegate;
+    private final Timing encodeTiming = new Timing();
+    private final Timing matchesTiming = new Timing();
+    private volatile Timer encodeTimer;
+    private volatile Timer matchesTimer;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long start = System.nanoTime();
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            record(encodeTiming, encodeTimer, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long start = System.nanoTime();
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            record(matchesTiming, matchesTimer, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        encodeTimer = timer(registry, "encode");
+        matchesTimer = timer(registry, "matches");
+    }
+
+    private static Timer timer(MeterRegistry registry, String operation) {
+        return Timer.builder("realty.password.hash")
+                .description("BCrypt 해싱/검증 시간(해싱 스레드에서 실행된 시간만, 대기 시간 제외)")
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    private static void record(Timing timing, Timer timer, long nanos) {
+        timing.record(nanos);
+        if (timer != null) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 해싱 시간 통계
+     */
+    public Stats getEncodeStats() {
+        return encodeTiming.snapshot();
+    }
+
+    /**
+     * 검증 시간 통계
+     */
+    public Stats getMatchesStats() {
+        return matchesTiming.snapshot();
+    }
+
+    /**
+     * 작업별 시간 통계
+     * @param count 실행 횟수
+     * @param totalNanos 전체 소요 시간(ns)
+     * @param maxNanos 최대 소요 시간(ns)
+     */
+    public record Stats(long count, long totalNanos, long maxNanos) {
+
+        public double averageMillis() {
+            return count == 0 ? 0 : (double) totalNanos / count / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        // 코어 하나가 1초에 처리할 수 있는 작업 수(평균 시간 기준)
+        public double perCorePerSecond() {
+            return count == 0 ? 0 : TimeUnit.SECONDS.toNanos(1) / ((double) totalNanos / count);
+        }
+    }
+
+    private static final class Timing {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        private Stats snapshot() {
+            return new Stats(count.sum(), totalNanos.sum(), maxNanos.get());
+        }
+    }
+}
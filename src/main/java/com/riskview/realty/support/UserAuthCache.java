@@ -0,0 +1,252 @@
+package com.riskview.realty.support;
+
+import com.riskview.realty.domain.UserAuthInfo;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 사용자 ID를 키로 로그인용 사용자 정보(UserAuthInfo)를 보관하는 캐시
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터, TTL이 지나면 조회 시점에 제거
+ * 회원정보 수정, 탈퇴 시 invalidate로 명시적으로 제거해야 함
+ * 캐시는 서버마다 따로 있고 invalidate는 호출한 서버의 캐시만 비우므로, 여러 서버에서 실행하면
+ * 다른 서버에서 바꾼 비밀번호나 상태는 최대 TTL(realty.auth-cache.ttl, 기본 30초) 동안 이 서버의 로그인에 반영되지 않음
+ * (이미 로그인한 세션은 공유 세션 저장소에서 삭제하므로 이 지연과 관계없음)
+ */
+@Component
+public class UserAuthCache implements MeterBinder {
+
+    private final int maxSize; // 최대 보관 항목 수
+    private final long ttlMillis; // 항목 유효 시간
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Entry> entries;
+    // 항목을 제거할 때마다 증가, 조회를 시작한 뒤 값이 바뀌었으면 조회 결과를 저장하지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Autowired
+    public UserAuthCache(@Value("${realty.auth-cache.max-size:10000}") int maxSize,
+                         @Value("${realty.auth-cache.ttl:30s}") Duration ttl) {
+        this(maxSize, ttl, Clock.systemUTC());
+    }
+
+    UserAuthCache(int maxSize, Duration ttl, Clock clock) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        // accessOrder=true: 조회할 때마다 순서가 갱신되어 LRU로 동작
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > UserAuthCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시에서 사용자 정보를 조회하고, 없으면 loader로 조회하여 캐시에 저장
+     * 존재하지 않는 사용자는 캐시하지 않음
+     * 조회하는 동안 invalidate가 호출되었으면 조회 결과가 이전 값일 수 있으므로 반환만 하고 캐시하지 않음
+     * @param userId 사용자 ID
+     * @param loader 캐시에 없을 때 데이터베이스에서 조회하는 함수
+     * @return 사용자 정보
+     */
+    public Optional<UserAuthInfo> get(String userId, Function<String, Optional<UserAuthInfo>> loader) {
+        UserAuthInfo cached = getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        // 조회는 잠금 밖에서 수행하여 다른 사용자의 캐시 조회를 막지 않음
+        long observed = generation.get();
+        Optional<UserAuthInfo> loaded = loader.apply(userId);
+        loaded.ifPresent(info -> putIfUnchanged(info, observed));
+        return loaded;
+    }
+
+    /**
+     * 캐시에 저장된 사용자 정보 조회(만료된 항목은 제거)
+     * @return 사용자 정보, 없으면 null
+     */
+    public UserAuthInfo getIfPresent(String userId) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(userId);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (clock.millis() - entry.loadedAt > ttlMillis) {
+                entries.remove(userId);
+                evictions.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(UserAuthInfo info) {
+        lock.lock();
+        try {
+            entries.put(info.getUserId(), new Entry(info, clock.millis()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 제거는 잠금 안에서 generation을 올리므로, 같은 잠금 안에서 비교하면 조회 중에 일어난 제거를 놓치지 않음
+    private void putIfUnchanged(UserAuthInfo info, long observed) {
+        lock.lock();
+        try {
+            if (generation.get() == observed) {
+                entries.put(info.getUserId(), new Entry(info, clock.millis()));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 사용자 정보를 캐시에서 제거
+     * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 제거하여
+     * 커밋 전에 다른 요청이 이전 값을 다시 캐시하는 경우를 방지
+     * @param userId 사용자 ID
+     */
+    public void invalidate(String userId) {
+        remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 조건에 맞는 사용자 정보를 모두 캐시에서 제거(일괄 변경에서 userSeq로 대상을 지정할 때 사용)
+     * 트랜잭션 안에서 호출되면 invalidate와 같이 커밋 이후에 한 번 더 제거
+     * @param condition 제거할 사용자 정보 조건
+     */
+    public void invalidateIf(Predicate<UserAuthInfo> condition) {
+        removeIf(condition);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    removeIf(condition);
+                }
+            });
+        }
+    }
+
+    /**
+     * 캐시 전체 비우기
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void removeIf(Predicate<UserAuthInfo> condition) {
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            entries.values().removeIf(entry -> condition.test(entry.value));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(String userId) {
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            entries.remove(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시 메트릭 등록(Micrometer 캐시 메트릭과 같은 이름, cache=userAuth)
+     */
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("cache.size", this, cache -> cache.getStats().size())
+                .tag("cache", "userAuth")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tags("cache", "userAuth", "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tags("cache", "userAuth", "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+                .tag("cache", "userAuth")
+                .register(registry);
+    }
+
+    /**
+     * 캐시 통계 조회
+     */
+    public Stats getStats() {
+        lock.lock();
+        try {
+            return new Stats(entries.size(), hits.sum(), misses.sum(), evictions.sum());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시 통계
+     * @param size 현재 항목 수
+     * @param hits 캐시 적중 횟수
+     * @param misses 캐시 미적중 횟수
+     * @param evictions 크기 초과 또는 만료로 제거된 횟수
+     */
+    public record Stats(int size, long hits, long misses, long evictions) {
+    }
+
+    private record Entry(UserAuthInfo value, long loadedAt) {
+    }
+}
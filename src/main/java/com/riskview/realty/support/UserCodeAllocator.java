@@ -0,0 +1,48 @@
+package com.riskview.realty.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자 코드 번호 발급기
+ * 데이터베이스 시퀀스(user_code_seq, INCREMENT BY 100)에서 번호 블록을 한 번에 예약하고
+ * 블록 안의 번호는 메모리에서 나눠주므로, 회원가입 시 저장 전에 최종 사용자 코드를 정할 수 있음
+ * 여러 서버가 같은 시퀀스를 사용해도 블록이 겹치지 않음(재시작 시 남은 번호는 건너뜀)
+ */
+@Component
+public class UserCodeAllocator {
+
+    // 시퀀스의 INCREMENT BY 값과 같아야 함(V5__CreateUserCodeSequence)
+    static final int BLOCK_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long next; // 다음에 발급할 번호
+    private long limit; // 현재 블록의 끝(이 값은 발급하지 않음)
+
+    public UserCodeAllocator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 다음 사용자 코드 번호 발급
+     * @return 사용자 코드 번호
+     */
+    public long next() {
+        lock.lock();
+        try {
+            if (next >= limit) {
+                // NEXT VALUE FOR는 MariaDB와 H2에서 모두 지원
+                Long blockStart = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR user_code_seq", Long.class);
+                next = blockStart;
+                limit = blockStart + BLOCK_SIZE;
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.riskview.realty.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * validation-rules.json의 필드별 유효성 검사 규칙을 시작 시 한 번 컴파일하여 보관하는 클래스
+ * 클라이언트(register-validation.js)와 같은 규칙 파일을 사용하며,
+ * 규칙 파일이 파일 시스템에 있으면 변경 시 다시 읽어 교체(jar 안의 파일은 변경되지 않으므로 확인하지 않음)
+ */
+@Component
+public class ValidationRules {
+    private static final Logger log = LoggerFactory.getLogger(ValidationRules.class);
+
+    private final ResourceLoader resourceLoader;
+    private final String location; // 규칙 파일 위치
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 교체만 하고 수정하지 않는 불변 맵
+    private volatile Map<String, FieldRule> rules = Map.of();
+    private volatile long lastModified = -1;
+
+    public ValidationRules(ResourceLoader resourceLoader,
+                           @Value("${realty.validation.rules-location:classpath:static/js/validation-rules.json}") String location) {
+        this.resourceLoader = resourceLoader;
+        this.location = location;
+    }
+
+    @PostConstruct
+    void load() {
+        Resource resource = resourceLoader.getResource(location);
+        try (InputStream inputStream = resource.getInputStream()) {
+            rules = compile(objectMapper.readTree(inputStream));
+            lastModified = resource.isFile() ? resource.lastModified() : -1;
+            log.info("Loaded {} validation rules from {}", rules.size(), location);
+        } catch (IOException | RuntimeException e) {
+            // 잘못된 규칙 파일로 교체되어도 기존 규칙은 유지
+            log.error("유효성 검사 규칙 로드 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 규칙 파일이 변경되었으면 다시 읽음
+     */
+    @Scheduled(fixedDelayString = "${realty.validation.reload-interval:10s}")
+    public void reloadIfModified() {
+        Resource resource = resourceLoader.getResource(location);
+        try {
+            if (resource.isFile() && resource.lastModified() != lastModified) {
+                load();
+            }
+        } catch (IOException e) {
+            log.warn("유효성 검사 규칙 파일 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 필드별 유효성 검사
+     * @param fieldName 필드 이름
+     * @param value 검사할 값
+     * @return 오류 메시지, 통과하거나 규칙이 없으면 null
+     */
+    public String validate(String fieldName, String value) {
+        FieldRule rule = rules.get(fieldName);
+        return rule != null ? rule.validate(value) : null;
+    }
+
+    // JSON 규칙을 타입이 정해진 불변 객체로 변환(정규 표현식도 여기서 한 번만 컴파일)
+    private static Map<String, FieldRule> compile(JsonNode root) {
+        Map<String, FieldRule> compiled = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonNode> field : root.properties()) {
+            JsonNode rule = field.getValue();
+            compiled.put(field.getKey(), new FieldRule(
+                    rule.path("required").asBoolean(false),
+                    rule.path("minLength").asInt(-1),
+                    rule.path("maxLength").asInt(-1),
+                    rule.hasNonNull("pattern") ? Pattern.compile(rule.get("pattern").asText()) : null,
+                    rule.path("message").asText(null)));
+        }
+        return Map.copyOf(compiled);
+    }
+
+    /**
+     * 하나의 필드에 대한 컴파일된 유효성 검사 규칙
+     */
+    public static final class FieldRule {
+        private final boolean required; // 필수 여부
+        private final int minLength; // 최소 길이(-1이면 검사하지 않음)
+        private final int maxLength; // 최대 길이(-1이면 검사하지 않음)
+        private final Pattern pattern; // 정규 표현식(null이면 검사하지 않음)
+        private final String message; // 오류 메시지
+
+        FieldRule(boolean required, int minLength, int maxLength, Pattern pattern, String message) {
+            this.required = required;
+            this.minLength = minLength;
+            this.maxLength = maxLength;
+            this.pattern = pattern;
+            this.message = message;
+        }
+
+        /**
+         * 값 검사
+         * 필수가 아닌 필드가 비어 있으면 나머지 규칙은 검사하지 않음
+         * @return 오류 메시지, 통과하면 null
+         */
+        public String validate(String value) {
+            if (value == null || value.isEmpty()) {
+                return required ? message : null;
+            }
+            if (minLength >= 0 && value.length() < minLength) {
+                return message;
+            }
+            if (maxLength >= 0 && value.length() > maxLength) {
+                return message;
+            }
+            if (pattern != null && !pattern.matcher(value).matches()) {
+                return message;
+            }
+            return null;
+        }
+    }
+}
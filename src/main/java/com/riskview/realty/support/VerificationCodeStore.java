@@ -0,0 +1,46 @@
+package com.riskview.realty.support;
+
+import java.time.Duration;
+
+/**
+ * 이메일 인증 코드 저장소
+ * 세션 대신 이메일을 키로 인증 코드를 저장하여, 어느 서버로 요청이 가도 같은 코드를 확인할 수 있게 함
+ * realty.verification.store 설정으로 구현을 선택(memory: 단일 서버용, jdbc: 여러 서버용)
+ */
+public interface VerificationCodeStore {
+
+    /**
+     * 인증 코드 확인 결과
+     */
+    enum Result {
+        VALID, // 일치
+        INVALID, // 불일치
+        EXPIRED, // 유효 시간 초과
+        NOT_FOUND, // 발송된 코드 없음
+        TOO_MANY_ATTEMPTS // 시도 횟수 초과
+    }
+
+    /**
+     * 인증 코드 저장(같은 이메일의 이전 코드와 시도 횟수는 대체됨)
+     * @param email 인증 코드를 받은 이메일
+     * @param code 인증 코드
+     * @param ttl 유효 시간
+     */
+    void save(String email, String code, Duration ttl);
+
+    /**
+     * 인증 코드 확인(시도 횟수가 1 증가하고, 코드는 그대로 남음)
+     * @param email 인증 코드를 받은 이메일
+     * @param code 사용자가 입력한 인증 코드
+     * @return 확인 결과
+     */
+    Result verify(String email, String code);
+
+    /**
+     * 인증 코드 확인 후 일치하면 제거(회원가입처럼 코드를 한 번만 사용해야 할 때)
+     * @param email 인증 코드를 받은 이메일
+     * @param code 사용자가 입력한 인증 코드
+     * @return 확인 결과
+     */
+    Result consume(String email, String code);
+}
@@ -0,0 +1,47 @@
+-- 계약서 분석 작업(AnalysisJob)
+-- 업로드한 문서(documents)를 QUEUED 상태로 저장하고, 분석 워커가 가져가서(RUNNING) 결과를 기록(DONE/FAILED)
+-- 문서가 삭제되면 document_seq는 NULL이 되며 아직 처리하지 않은 작업은 실패 처리
+CREATE TABLE IF NOT EXISTS analysis_jobs (
+    job_seq        BIGINT      NOT NULL AUTO_INCREMENT,
+    owner_seq      BIGINT      NOT NULL,
+    document_seq   BIGINT,
+    status         VARCHAR(10) NOT NULL,
+    attempts       INT         NOT NULL DEFAULT 0,
+    clause_count   INT         NOT NULL DEFAULT 0,
+    finding_count  INT         NOT NULL DEFAULT 0,
+    risk_score     INT         NOT NULL DEFAULT 0,
+    risk_level     VARCHAR(10),
+    extract_millis BIGINT      NOT NULL DEFAULT 0,
+    segment_millis BIGINT      NOT NULL DEFAULT 0,
+    score_millis   BIGINT      NOT NULL DEFAULT 0,
+    last_error     VARCHAR(500),
+    claimed_at     DATETIME(6),
+    finished_at    DATETIME(6),
+    created_at     DATETIME(6) NOT NULL,
+    PRIMARY KEY (job_seq),
+    CONSTRAINT fk_analysis_jobs_owner FOREIGN KEY (owner_seq) REFERENCES users (user_seq),
+    CONSTRAINT fk_analysis_jobs_document FOREIGN KEY (document_seq) REFERENCES documents (document_seq)
+        ON DELETE SET NULL
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 워커가 가져갈 작업 조회(status = 'QUEUED' ORDER BY job_seq)
+CREATE INDEX IF NOT EXISTS idx_analysis_jobs_status ON analysis_jobs (status, job_seq);
+-- 내 분석 작업 목록(owner_seq = ? ORDER BY job_seq DESC)
+CREATE INDEX IF NOT EXISTS idx_analysis_jobs_owner_seq ON analysis_jobs (owner_seq, job_seq);
+
+-- 분석 결과로 찾은 위험 조항(작업마다 가중치가 높은 순으로 최대 realty.analysis.max-findings개)
+CREATE TABLE IF NOT EXISTS analysis_findings (
+    finding_seq  BIGINT       NOT NULL AUTO_INCREMENT,
+    job_seq      BIGINT       NOT NULL,
+    clause_no    INT          NOT NULL,
+    clause_title VARCHAR(100) NOT NULL,
+    rule_id      VARCHAR(50)  NOT NULL,
+    category     VARCHAR(50)  NOT NULL,
+    keyword      VARCHAR(100) NOT NULL,
+    weight       INT          NOT NULL,
+    excerpt      VARCHAR(500) NOT NULL,
+    PRIMARY KEY (finding_seq),
+    CONSTRAINT fk_analysis_findings_job FOREIGN KEY (job_seq) REFERENCES analysis_jobs (job_seq) ON DELETE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE INDEX IF NOT EXISTS idx_analysis_findings_job_seq ON analysis_findings (job_seq, clause_no);
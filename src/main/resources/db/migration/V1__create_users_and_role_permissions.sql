@@ -0,0 +1,33 @@
+-- 역할별 권한 테이블과 사용자 테이블
+-- 기존에 Hibernate(ddl-auto=update)로 만든 데이터베이스에도 적용할 수 있도록 IF NOT EXISTS 사용
+
+CREATE TABLE IF NOT EXISTS role_permissions (
+    role              VARCHAR(50) NOT NULL,
+    can_upload        BIT NOT NULL DEFAULT FALSE,
+    can_delete        BIT NOT NULL DEFAULT FALSE,
+    can_manage_users  BIT NOT NULL DEFAULT FALSE,
+    can_view_all_docs BIT NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (role)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 유니크 인덱스가 UserRepository의 단건 조회(findByUserId, findByEmail, findByUserCode)와
+-- 닉네임 중복 검사를 인덱스 탐색으로 처리
+CREATE TABLE IF NOT EXISTS users (
+    user_seq           BIGINT       NOT NULL AUTO_INCREMENT,
+    user_code          VARCHAR(20)  NOT NULL,
+    user_id            VARCHAR(20)  NOT NULL,
+    user_nickname      VARCHAR(20)  NOT NULL,
+    email              VARCHAR(255) NOT NULL,
+    password_hash      VARCHAR(255) NOT NULL,
+    name               VARCHAR(100) NOT NULL,
+    role               VARCHAR(50),
+    preferred_language VARCHAR(20),
+    created_at         DATETIME(6)  NOT NULL,
+    is_deleted         BIT DEFAULT FALSE,
+    PRIMARY KEY (user_seq),
+    CONSTRAINT uk_users_user_code UNIQUE (user_code),
+    CONSTRAINT uk_users_user_id UNIQUE (user_id),
+    CONSTRAINT uk_users_user_nickname UNIQUE (user_nickname),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT fk_users_role FOREIGN KEY (role) REFERENCES role_permissions (role)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,8 @@
+-- Insert default roles and permissions (이미 있는 역할은 건너뜀)
+INSERT INTO role_permissions (role, can_upload, can_delete, can_manage_users, can_view_all_docs)
+SELECT 'user', TRUE, FALSE, FALSE, FALSE FROM DUAL
+WHERE NOT EXISTS (SELECT 1 FROM role_permissions WHERE role = 'user');
+
+INSERT INTO role_permissions (role, can_upload, can_delete, can_manage_users, can_view_all_docs)
+SELECT 'admin', TRUE, TRUE, TRUE, TRUE FROM DUAL
+WHERE NOT EXISTS (SELECT 1 FROM role_permissions WHERE role = 'admin');
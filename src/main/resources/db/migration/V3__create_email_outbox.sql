@@ -0,0 +1,18 @@
+-- 이메일 아웃박스(EmailOutbox)
+CREATE TABLE IF NOT EXISTS email_outbox (
+    outbox_seq      BIGINT       NOT NULL AUTO_INCREMENT,
+    recipient       VARCHAR(255) NOT NULL,
+    subject         VARCHAR(255) NOT NULL,
+    body            TEXT         NOT NULL,
+    status          VARCHAR(10)  NOT NULL,
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    claimed_at      DATETIME(6),
+    sent_at         DATETIME(6),
+    last_error      VARCHAR(500),
+    created_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (outbox_seq)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 디스패처의 발송 대상 조회(status = 'PENDING' AND next_attempt_at <= ?)
+CREATE INDEX IF NOT EXISTS idx_email_outbox_status_next_attempt ON email_outbox (status, next_attempt_at);
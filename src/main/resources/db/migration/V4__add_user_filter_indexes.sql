@@ -0,0 +1,4 @@
+-- 탈퇴 여부와 역할로 사용자를 거르는 조회용 인덱스
+-- user_seq를 뒤에 두어 같은 조건 안에서 가입 순서대로 이어서 읽을 수 있게 함
+CREATE INDEX IF NOT EXISTS idx_users_deleted_seq ON users (is_deleted, user_seq);
+CREATE INDEX IF NOT EXISTS idx_users_role_deleted_seq ON users (role, is_deleted, user_seq);
@@ -0,0 +1,11 @@
+-- 이메일 인증 코드(JdbcVerificationCodeStore, realty.verification.store=jdbc 일 때 사용)
+CREATE TABLE IF NOT EXISTS verification_codes (
+    email      VARCHAR(255) NOT NULL,
+    code       VARCHAR(16)  NOT NULL,
+    expires_at DATETIME(6)  NOT NULL,
+    attempts   INT          NOT NULL DEFAULT 0,
+    PRIMARY KEY (email)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 만료된 코드 정리(expires_at < ?)
+CREATE INDEX IF NOT EXISTS idx_verification_codes_expires_at ON verification_codes (expires_at);
@@ -0,0 +1,2 @@
+-- 회원정보 수정 시 낙관적 잠금(두 탭에서 동시에 수정하면 나중 요청을 거절)
+ALTER TABLE users ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,26 @@
+-- 문서 저장소
+-- 파일 내용은 SHA-256 값을 이름으로 한 번만 저장(document_blobs)하고, 문서(documents)는 이를 참조
+-- ref_count는 같은 내용을 참조하는 문서 수이며 0이 되면 행과 파일을 함께 삭제
+CREATE TABLE IF NOT EXISTS document_blobs (
+    sha256     VARCHAR(64) NOT NULL,
+    file_size  BIGINT      NOT NULL,
+    ref_count  INT         NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (sha256)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS documents (
+    document_seq  BIGINT       NOT NULL AUTO_INCREMENT,
+    owner_seq     BIGINT       NOT NULL,
+    original_name VARCHAR(255) NOT NULL,
+    content_type  VARCHAR(100) NOT NULL,
+    sha256        VARCHAR(64)  NOT NULL,
+    file_size     BIGINT       NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (document_seq),
+    CONSTRAINT fk_documents_owner FOREIGN KEY (owner_seq) REFERENCES users (user_seq),
+    CONSTRAINT fk_documents_blob FOREIGN KEY (sha256) REFERENCES document_blobs (sha256)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 내 문서 목록(owner_seq = ? ORDER BY document_seq DESC)
+CREATE INDEX IF NOT EXISTS idx_documents_owner_seq ON documents (owner_seq, document_seq);
@@ -0,0 +1,87 @@
+// 계약서 분석 화면: 끝나지 않은 작업의 상태를 주기적으로 조회하고, 선택한 작업의 위험 조항을 표시
+document.addEventListener('DOMContentLoaded', function() {
+    const table = document.getElementById("analysisJobs");
+    if (!table) {
+        return; // 로그인하지 않은 경우
+    }
+    const result = document.getElementById("analysisResult");
+    const POLL_INTERVAL = 2000; // 상태 조회 주기(밀리초)
+    let selectedJobSeq = new URLSearchParams(window.location.search).get("job");
+
+    function isFinished(status) {
+        return status === "DONE" || status === "FAILED";
+    }
+
+    // 작업 상태 조회 후 목록 행과(선택한 작업이면) 결과 영역 갱신
+    function refresh(row) {
+        const jobSeq = row.dataset.jobSeq;
+        fetch(`/board/analysis/jobs/${jobSeq}`, { headers: { "Accept": "application/json" } })
+            .then(response => response.ok ? response.json() : Promise.reject(response.status))
+            .then(job => {
+                row.dataset.status = job.status;
+                row.querySelector(".job-status").textContent = job.status;
+                row.querySelector(".job-clauses").textContent = job.clauseCount;
+                row.querySelector(".job-score").textContent = job.riskScore;
+                row.querySelector(".job-level").textContent = job.riskLevel || "";
+                if (jobSeq === selectedJobSeq) {
+                    render(job);
+                }
+                if (!isFinished(job.status)) {
+                    setTimeout(() => refresh(row), POLL_INTERVAL);
+                }
+            })
+            .catch(status => console.error("[분석 작업 조회 실패]", jobSeq, status));
+    }
+
+    function render(job) {
+        result.replaceChildren();
+        const heading = document.createElement("h3");
+        heading.textContent = `분석 작업 ${job.jobSeq}`;
+        result.appendChild(heading);
+
+        const summary = document.createElement("p");
+        if (job.status === "DONE") {
+            summary.textContent = `조항 ${job.clauseCount}개 중 위험 조항 ${job.findingCount}개, 위험 점수 ${job.riskScore} (${job.riskLevel})`
+                + ` · 추출 ${job.extractMillis}ms, 조항 분리 ${job.segmentMillis}ms, 점수 계산 ${job.scoreMillis}ms`;
+        } else if (job.status === "FAILED") {
+            summary.textContent = `분석 실패: ${job.lastError || ""}`;
+        } else {
+            summary.textContent = "분석 중입니다...";
+        }
+        result.appendChild(summary);
+
+        if (job.findings.length === 0) {
+            return;
+        }
+        const findings = document.createElement("table");
+        const header = findings.insertRow();
+        ["조항", "분류", "키워드", "가중치", "내용"].forEach(title => {
+            const th = document.createElement("th");
+            th.textContent = title;
+            header.appendChild(th);
+        });
+        job.findings.forEach(finding => {
+            const row = findings.insertRow();
+            [`${finding.clauseNo}. ${finding.clauseTitle}`, finding.category, finding.keyword, finding.weight,
+                finding.excerpt].forEach(value => {
+                row.insertCell().textContent = value;
+            });
+        });
+        result.appendChild(findings);
+    }
+
+    table.querySelectorAll("tr[data-job-seq]").forEach(row => {
+        row.querySelector(".analysis-job-link").addEventListener("click", function(event) {
+            event.preventDefault();
+            selectedJobSeq = row.dataset.jobSeq;
+            // 끝나지 않은 작업은 이미 조회 중이므로 다음 조회 때 표시
+            if (isFinished(row.dataset.status)) {
+                refresh(row);
+            }
+        });
+        // 끝나지 않은 작업과 선택한 작업만 조회
+        if (!isFinished(row.dataset.status) || row.dataset.jobSeq === selectedJobSeq) {
+            refresh(row);
+        }
+    });
+});
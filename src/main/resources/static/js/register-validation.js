@@ -68,7 +68,7 @@ function makeLiveValidator(inputElem, fieldName) {
 /**
  * 서버에 이메일 인증 코드를 확인하는 함수
  */
-async function verifyEmailCode(code) {
+async function verifyEmailCode(email, code) {
     console.log('\n[인증 코드 검증 함수 시작]');
     console.log('- 입력된 코드:', code);
     
@@ -89,13 +89,15 @@ async function verifyEmailCode(code) {
             /**
              * HTTP 요청의 본문에 해당
              * URLSearchParams: URL 인코딩된 쿼리 문자열을 생성하는 JavaScript 객체
+             * email: 인증 코드를 받은 이메일(서버는 이메일별로 인증 코드를 저장)
              * code: 서버에서 request.getParameter("code")로 이 값을 읽을 수 있음
              * 
              * // 서버에서 받음
              * @PostMapping("/verify-email-code")
-             * public ResponseEntity<?> verifyEmailCode(@RequestParam String code) {
+             * public String verifyEmailCode(@RequestParam String email, @RequestParam String code) {
              */
             body: new URLSearchParams({
+                email: email,
                 code: code
             })
         });
@@ -246,7 +248,7 @@ document.addEventListener('DOMContentLoaded', async function() {
 
                 try {
                     console.log('- 인증 코드 확인 시작');
-                    const result = await verifyEmailCode(verificationCodeInput.value.trim());
+                    const result = await verifyEmailCode(emailInput.value.trim(), verificationCodeInput.value.trim());
                     console.log('- 서버 응답:', result);
                     console.log('- includes("success"):', result.includes('success'));
                     
@@ -0,0 +1,155 @@
+package com.riskview.realty.controller;
+
+import com.riskview.realty.domain.CustomUserDetails;
+import com.riskview.realty.domain.repository.AnalysisJobRepository;
+import com.riskview.realty.domain.repository.RolePermissionRepository;
+import com.riskview.realty.domain.repository.UserRepository;
+import com.riskview.realty.model.AnalysisJob;
+import com.riskview.realty.model.User;
+import com.riskview.realty.service.RolePermissionRegistry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrlPattern;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 계약서 분석 요청이 대기열을 거쳐 워커에서 처리되고, 상태 조회로 결과를 받는지 확인하는 테스트
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AnalysisControllerTests {
+
+    private static final String CONTRACT = """
+            제1조 (보증금) 임대인은 새로운 임차인이 입주한 후 보증금을 반환한다.
+            제2조 (권리관계) 본 건물에는 가압류가 등기되어 있다.
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RolePermissionRepository rolePermissionRepository;
+
+    @Autowired
+    private RolePermissionRegistry rolePermissionRegistry;
+
+    @Autowired
+    private AnalysisJobRepository analysisJobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private CustomUserDetails owner;
+    private CustomUserDetails other;
+
+    @BeforeEach
+    void setUp() {
+        deleteJobs();
+        userRepository.deleteAll();
+        owner = saveUser("analysisowner", "U00000021");
+        other = saveUser("analysisother", "U00000022");
+    }
+
+    // 다른 테스트가 사용자를 지울 수 있도록 사용자를 참조하는 작업과 문서 행 정리
+    @AfterEach
+    void deleteJobs() {
+        jdbcTemplate.update("DELETE FROM analysis_jobs");
+        jdbcTemplate.update("DELETE FROM documents");
+        jdbcTemplate.update("DELETE FROM document_blobs");
+    }
+
+    @Test
+    void analyzesQueuedContractAndReportsStatus() throws Exception {
+        mockMvc.perform(multipart("/board/analysis")
+                        .file(new MockMultipartFile("file", "contract.txt", "text/plain",
+                                CONTRACT.getBytes(StandardCharsets.UTF_8)))
+                        .with(user(owner)))
+                .andExpect(redirectedUrlPattern("/board/analysis?job=*"));
+
+        AnalysisJob job = analysisJobRepository.findAll().get(0);
+        AnalysisJob finished = awaitFinished(job.getJobSeq());
+        assertThat(finished.getStatus()).isEqualTo(AnalysisJob.Status.DONE);
+
+        String url = "/board/analysis/jobs/" + job.getJobSeq();
+        mockMvc.perform(get(url).with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DONE"))
+                .andExpect(jsonPath("$.clauseCount").value(2))
+                .andExpect(jsonPath("$.riskScore").value(30))
+                .andExpect(jsonPath("$.riskLevel").value("HIGH"))
+                .andExpect(jsonPath("$.findings[0].ruleId").value("deposit-return"))
+                .andExpect(jsonPath("$.findings[1].ruleId").value("seizure"));
+        mockMvc.perform(get(url).with(user(other))).andExpect(status().isNotFound());
+
+        // 목록 화면과 단계별 처리 시간
+        mockMvc.perform(get("/board/analysis").with(user(owner))).andExpect(status().isOk());
+        assertThat(meterRegistry.find("realty.analysis.stage").tag("stage", "score").timer())
+                .isNotNull()
+                .satisfies(timer -> assertThat(timer.count()).isPositive());
+    }
+
+    @Test
+    void failsUnsupportedFilesWithoutRetrying() throws Exception {
+        mockMvc.perform(multipart("/board/analysis")
+                        .file(new MockMultipartFile("file", "contract.pdf", "application/pdf",
+                                "%PDF-1.7 binary".getBytes(StandardCharsets.US_ASCII)))
+                        .with(user(owner)))
+                .andExpect(redirectedUrlPattern("/board/analysis?job=*"));
+
+        AnalysisJob finished = awaitFinished(analysisJobRepository.findAll().get(0).getJobSeq());
+        assertThat(finished.getStatus()).isEqualTo(AnalysisJob.Status.FAILED);
+        assertThat(finished.getAttempts()).isEqualTo(1);
+        assertThat(finished.getLastError()).contains("텍스트");
+    }
+
+    // 워커가 분석을 끝낼 때까지 대기
+    private AnalysisJob awaitFinished(long jobSeq) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            AnalysisJob job = analysisJobRepository.findById(jobSeq).orElseThrow();
+            if (job.isFinished() || System.currentTimeMillis() > deadline) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private CustomUserDetails saveUser(String userId, String userCode) {
+        User user = new User();
+        user.setUserId(userId);
+        user.setUserCode(userCode);
+        user.setUserNickname(userId);
+        user.setEmail(userId + "@realty.local");
+        user.setName(userId);
+        user.setPasswordHash("{bcrypt}hash");
+        user.setRole(rolePermissionRepository.getReferenceById("user"));
+        User saved = userRepository.save(user);
+        return new CustomUserDetails(saved.getUserSeq(), userId, saved.getEmail(), saved.getPasswordHash(), userId,
+                rolePermissionRegistry.get("user"), true, userCode);
+    }
+}
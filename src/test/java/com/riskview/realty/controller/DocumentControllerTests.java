@@ -0,0 +1,201 @@
+package com.riskview.realty.controller;
+
+import com.riskview.realty.domain.CustomUserDetails;
+import com.riskview.realty.domain.repository.DocumentRepository;
+import com.riskview.realty.domain.repository.RolePermissionRepository;
+import com.riskview.realty.domain.repository.UserRepository;
+import com.riskview.realty.model.Document;
+import com.riskview.realty.model.User;
+import com.riskview.realty.service.RolePermissionRegistry;
+import com.riskview.realty.support.DocumentBlobStore;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 문서 업로드 중복 제거, 범위(Range) 다운로드, 조회/삭제 권한을 확인하는 테스트
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DocumentControllerTests {
+
+    private static final byte[] CONTENT = "hello world".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RolePermissionRepository rolePermissionRepository;
+
+    @Autowired
+    private RolePermissionRegistry rolePermissionRegistry;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private DocumentBlobStore blobStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private CustomUserDetails owner;
+    private CustomUserDetails other;
+    private CustomUserDetails admin;
+
+    @BeforeEach
+    void setUp() {
+        deleteDocuments();
+        userRepository.deleteAll();
+        owner = saveUser("docowner", "U00000011", "user");
+        other = saveUser("docother", "U00000012", "user");
+        admin = saveUser("docadmin", "U00000013", "admin");
+    }
+
+    // 다른 테스트가 사용자를 지울 수 있도록 사용자를 참조하는 문서 행 정리
+    @AfterEach
+    void deleteDocuments() {
+        jdbcTemplate.update("DELETE FROM documents");
+        jdbcTemplate.update("DELETE FROM document_blobs");
+    }
+
+    @Test
+    void deduplicatesUploadsAndServesRanges() throws Exception {
+        upload(owner, "a.txt");
+        upload(owner, "C:\\Users\\me\\b.txt");
+
+        List<Document> documents = documentRepository.findAll();
+        assertThat(documents).extracting(Document::getOriginalName).containsExactlyInAnyOrder("a.txt", "b.txt");
+        String sha256 = documents.get(0).getSha256();
+        assertThat(documents).allMatch(document -> document.getSha256().equals(sha256));
+        assertThat(jdbcTemplate.queryForObject("SELECT ref_count FROM document_blobs WHERE sha256 = ?",
+                Integer.class, sha256)).isEqualTo(2);
+        assertThat(blobStore.path(sha256)).hasBinaryContent(CONTENT);
+
+        String url = "/documents/" + documents.get(0).getDocumentSeq();
+        String etag = "\"" + sha256 + "\"";
+        mockMvc.perform(get(url).with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length))
+                .andExpect(content().bytes(CONTENT));
+
+        mockMvc.perform(get(url).with(user(owner)).header(HttpHeaders.RANGE, "bytes=6-"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 6-10/11"))
+                .andExpect(content().string("world"));
+
+        mockMvc.perform(get(url).with(user(owner)).header(HttpHeaders.RANGE, "bytes=20-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */11"));
+
+        mockMvc.perform(get(url).with(user(owner)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void checksReadAndDeletePermissions() throws Exception {
+        upload(owner, "a.txt");
+        upload(owner, "b.txt");
+        List<Document> documents = documentRepository.findAll();
+        String sha256 = documents.get(0).getSha256();
+        Path blob = blobStore.path(sha256);
+
+        // 다른 사용자에게는 문서가 있는지도 알리지 않음
+        String url = "/documents/" + documents.get(0).getDocumentSeq();
+        mockMvc.perform(get(url).with(user(other))).andExpect(status().isNotFound());
+        mockMvc.perform(get(url).with(user(admin))).andExpect(status().isOk());
+
+        // 일반 사용자 역할은 삭제 권한(can_delete)이 없음
+        mockMvc.perform(post(url + "/delete").with(user(owner))).andExpect(status().isForbidden());
+
+        mockMvc.perform(post(url + "/delete").with(user(admin))).andExpect(redirectedUrl("/documents"));
+        assertThat(jdbcTemplate.queryForObject("SELECT ref_count FROM document_blobs WHERE sha256 = ?",
+                Integer.class, sha256)).isEqualTo(1);
+        assertThat(blob).exists();
+
+        mockMvc.perform(post("/documents/" + documents.get(1).getDocumentSeq() + "/delete").with(user(admin)))
+                .andExpect(redirectedUrl("/documents"));
+        assertThat(documentRepository.count()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM document_blobs", Integer.class)).isZero();
+        assertThat(Files.exists(blob)).isFalse();
+    }
+
+    @Test
+    void keepsBlobFileWhenDeleteRollsBack() throws Exception {
+        upload(owner, "a.txt");
+        String sha256 = documentRepository.findAll().get(0).getSha256();
+        Path blob = blobStore.path(sha256);
+
+        // 파일은 커밋 전까지 지우지 않고, 롤백되면 원래 위치로 되돌림
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM documents");
+            try {
+                blobStore.release(sha256);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            status.setRollbackOnly();
+        });
+        assertThat(blob).exists();
+        assertThat(documentRepository.count()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT ref_count FROM document_blobs WHERE sha256 = ?",
+                Integer.class, sha256)).isEqualTo(1);
+    }
+
+    private void upload(CustomUserDetails uploader, String filename) throws Exception {
+        mockMvc.perform(multipart("/documents")
+                        .file(new MockMultipartFile("file", filename, "text/plain", CONTENT))
+                        .with(user(uploader)))
+                .andExpect(redirectedUrl("/documents"));
+    }
+
+    private CustomUserDetails saveUser(String userId, String userCode, String role) {
+        User user = new User();
+        user.setUserId(userId);
+        user.setUserCode(userCode);
+        user.setUserNickname(userId);
+        user.setEmail(userId + "@realty.local");
+        user.setName(userId);
+        user.setPasswordHash("{bcrypt}hash");
+        user.setRole(rolePermissionRepository.getReferenceById(role));
+        User saved = userRepository.save(user);
+        return new CustomUserDetails(saved.getUserSeq(), userId, saved.getEmail(), saved.getPasswordHash(), userId,
+                rolePermissionRegistry.get(role), true, userCode);
+    }
+}
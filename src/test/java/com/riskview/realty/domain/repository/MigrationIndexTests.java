@@ -0,0 +1,180 @@
+package com.riskview.realty.domain.repository;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.ChainListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마이그레이션으로 만든 인덱스를 각 조회 메서드가 실제로 사용하는지 실행 계획(EXPLAIN)으로 확인하는 테스트
+ * 리포지토리가 실행한 SQL과 바인딩 값을 데이터소스 프록시(DataSourceProxyConfig)에서 받아 그대로 EXPLAIN하므로
+ * 쿼리 메서드나 Hibernate가 만드는 SQL이 바뀌어도 실제 실행되는 SQL을 확인함
+ * 통계가 없는 빈 표에서는 H2가 열 수가 적은 인덱스를 고르므로, 운영과 비슷한 분포(일반 사용자 95%, 탈퇴 10%)로
+ * 사용자를 넣고 ANALYZE로 통계를 만든 뒤 확인
+ * 테스트 데이터베이스(H2)의 실행 계획에는 사용한 인덱스 이름이 표시됨
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MigrationIndexTests {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private static final int USERS = 2000;
+
+    private final List<ExecutedQuery> executed = new CopyOnWriteArrayList<>();
+    private QueryExecutionListener recorder;
+
+    @BeforeEach
+    void seedUsers() {
+        List<Object[]> rows = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            rows.add(new Object[] { String.format("P%08d", i), "plan" + i, "plan" + i, "plan" + i + "@realty.local",
+                    i % 20 == 0 ? "admin" : "user", i % 10 == 0 });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (user_code, user_id, user_nickname, email, name, password_hash, role, "
+                + "is_deleted, created_at, version) VALUES (?, ?, ?, ?, 'plan', '{noop}plan', ?, ?, CURRENT_TIMESTAMP, 0)", rows);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterEach
+    void deleteUsers() {
+        jdbcTemplate.update("DELETE FROM users WHERE user_code LIKE 'P%'");
+    }
+
+    @BeforeEach
+    void startRecording() {
+        Thread testThread = Thread.currentThread();
+        // 스케줄러 등 다른 스레드의 SQL은 제외
+        recorder = new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                if (Thread.currentThread() == testThread) {
+                    queryInfoList.forEach(queryInfo -> executed.add(ExecutedQuery.from(queryInfo)));
+                }
+            }
+        };
+        listeners().addListener(recorder);
+    }
+
+    @AfterEach
+    void stopRecording() {
+        listeners().getListeners().remove(recorder);
+    }
+
+    @Test
+    void findByUserIdUsesUniqueIndex() {
+        userRepository.findByUserId("tester");
+        assertThat(explainExecuted("users")).contains("uk_users_user_id");
+    }
+
+    @Test
+    void findByEmailUsesUniqueIndex() {
+        userRepository.findByEmail("tester@realty.local");
+        assertThat(explainExecuted("users")).contains("uk_users_email");
+    }
+
+    @Test
+    void existsByEmailUsesUniqueIndex() {
+        userRepository.existsByEmail("tester@realty.local");
+        assertThat(explainExecuted("users")).contains("uk_users_email");
+    }
+
+    @Test
+    void findByUserCodeUsesUniqueIndex() {
+        userRepository.findByUserCode("U00000001");
+        assertThat(explainExecuted("users")).contains("uk_users_user_code");
+    }
+
+    @Test
+    void findAuthInfoUsesUniqueIndex() {
+        userRepository.findAuthInfoByUserId("tester");
+        assertThat(explainExecuted("users")).contains("uk_users_user_id");
+    }
+
+    @Test
+    void deletedFilterUsesIndex() {
+        // 사용자 관리 화면에서 탈퇴 여부만 지정한 검색
+        userRepository.searchSummaries(null, null, null, null, false, 100, 51);
+        assertThat(explainExecuted("users")).contains("idx_users_deleted_seq");
+    }
+
+    @Test
+    void roleSearchPageUsesIndex() {
+        userRepository.searchSummaries(null, null, null, "admin", false, 100, 51);
+        assertThat(explainExecuted("users")).contains("idx_users_role_deleted_seq");
+    }
+
+    @Test
+    void outboxDueQueryUsesIndex() {
+        transactionTemplate.executeWithoutResult(status -> emailOutboxRepository.lockDueBatch(LocalDateTime.now(), 50));
+        assertThat(explainExecuted("email_outbox")).contains("idx_email_outbox_status_next_attempt");
+    }
+
+    private ChainListener listeners() {
+        assertThat(dataSource).isInstanceOf(ProxyDataSource.class);
+        return ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener();
+    }
+
+    // 테스트 스레드가 마지막으로 실행한 SELECT 중 table을 읽는 SQL을 같은 바인딩 값으로 EXPLAIN
+    private String explainExecuted(String table) {
+        ExecutedQuery query = executed.stream()
+                .filter(candidate -> candidate.sql().toLowerCase().startsWith("select")
+                        && candidate.sql().toLowerCase().contains(" " + table + " "))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError(table + "를 조회한 SQL이 없음: " + executed));
+        return jdbcTemplate.queryForObject("EXPLAIN " + query.sql(), String.class, query.parameters()).toLowerCase();
+    }
+
+    /**
+     * 실행된 SQL과 바인딩 값(파라미터 순서대로)
+     */
+    private record ExecutedQuery(String sql, Object[] parameters) {
+
+        static ExecutedQuery from(QueryInfo queryInfo) {
+            List<ParameterSetOperation> operations = queryInfo.getParametersList().isEmpty()
+                    ? List.of() : queryInfo.getParametersList().get(0);
+            Object[] parameters = operations.stream()
+                    .filter(operation -> operation.getArgs()[0] instanceof Integer)
+                    .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+                    .map(operation -> operation.getArgs()[1])
+                    .toArray();
+            return new ExecutedQuery(queryInfo.getQuery(), parameters);
+        }
+    }
+}
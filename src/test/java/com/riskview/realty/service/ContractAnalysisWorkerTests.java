@@ -0,0 +1,111 @@
+package com.riskview.realty.service;
+
+import com.riskview.realty.domain.ContractAnalysisResult;
+import com.riskview.realty.domain.repository.AnalysisFindingRepository;
+import com.riskview.realty.domain.repository.AnalysisJobRepository;
+import com.riskview.realty.domain.repository.RolePermissionRepository;
+import com.riskview.realty.domain.repository.UserRepository;
+import com.riskview.realty.model.AnalysisJob;
+import com.riskview.realty.model.User;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 오래 방치되어 다른 워커가 다시 가져간 작업에 이전 워커의 결과가 기록되지 않는지 확인하는 테스트
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ContractAnalysisWorkerTests {
+
+    private static final ContractAnalysisResult RESULT = new ContractAnalysisResult(100, 1, 1, 20, "MEDIUM",
+            List.of(new ContractAnalysisResult.Finding(1, "제1조", "seizure", "권리관계", "가압류", 20, "가압류")),
+            1_000_000, 1_000_000, 1_000_000);
+
+    @Autowired
+    private ContractAnalysisWorker worker;
+
+    @Autowired
+    private AnalysisJobRepository analysisJobRepository;
+
+    @Autowired
+    private AnalysisFindingRepository analysisFindingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RolePermissionRepository rolePermissionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AnalysisJob job;
+
+    @BeforeEach
+    void setUp() {
+        deleteJobs();
+        userRepository.deleteAll();
+        User user = new User();
+        user.setUserId("analysisworker");
+        user.setUserCode("U00000031");
+        user.setUserNickname("analysisworker");
+        user.setEmail("analysisworker@realty.local");
+        user.setName("analysisworker");
+        user.setPasswordHash("{bcrypt}hash");
+        user.setRole(rolePermissionRepository.getReferenceById("user"));
+        Long ownerSeq = userRepository.save(user).getUserSeq();
+
+        // 첫 번째 시도가 오래 걸려 다시 대기열로 돌아갔고, 다른 워커가 두 번째 시도로 가져간 상태
+        job = new AnalysisJob();
+        job.setOwnerSeq(ownerSeq);
+        job.setStatus(AnalysisJob.Status.RUNNING);
+        job.setAttempts(2);
+        job.setClaimedAt(LocalDateTime.now());
+        job = analysisJobRepository.save(job);
+    }
+
+    @AfterEach
+    void deleteJobs() {
+        jdbcTemplate.update("DELETE FROM analysis_jobs");
+    }
+
+    @Test
+    void dropsResultOfReclaimedJob() {
+        assertThat(worker.complete(claim(1), RESULT)).isFalse();
+        assertThat(worker.fail(claim(1), "늦게 끝난 시도")).isFalse();
+        AnalysisJob current = analysisJobRepository.findById(job.getJobSeq()).orElseThrow();
+        assertThat(current.getStatus()).isEqualTo(AnalysisJob.Status.RUNNING);
+        assertThat(current.getLastError()).isNull();
+        assertThat(analysisFindingRepository.count()).isZero();
+
+        // 현재 시도의 결과는 한 번만 기록되고, 같은 결과를 다시 기록하려 해도 중복되지 않음
+        assertThat(worker.complete(claim(2), RESULT)).isTrue();
+        assertThat(worker.complete(claim(2), RESULT)).isFalse();
+        current = analysisJobRepository.findById(job.getJobSeq()).orElseThrow();
+        assertThat(current.getStatus()).isEqualTo(AnalysisJob.Status.DONE);
+        assertThat(current.getRiskScore()).isEqualTo(20);
+        assertThat(current.getScoreMillis()).isEqualTo(1);
+        assertThat(analysisFindingRepository.count()).isEqualTo(1);
+    }
+
+    // 워커가 attempt번째 시도로 가져갔을 때의 작업
+    private AnalysisJob claim(int attempt) {
+        AnalysisJob claimed = new AnalysisJob();
+        claimed.setJobSeq(job.getJobSeq());
+        claimed.setOwnerSeq(job.getOwnerSeq());
+        claimed.setStatus(AnalysisJob.Status.RUNNING);
+        claimed.setAttempts(attempt);
+        return claimed;
+    }
+}
@@ -0,0 +1,209 @@
+package com.riskview.realty.service;
+
+import com.riskview.realty.domain.repository.EmailOutboxRepository;
+import com.riskview.realty.model.EmailOutbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mail.MailSendException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * H2(MariaDB 모드)에서 아웃박스 디스패처의 SKIP LOCKED 가져가기, 실패 시 백오프, 시간 초과 처리, 정리 작업을 확인하는 테스트
+ */
+@SpringBootTest(properties = "realty.mail.outbox.send-timeout=200ms")
+@ActiveProfiles("test")
+class EmailOutboxDispatcherTests {
+
+    @Autowired
+    private EmailOutboxDispatcher dispatcher;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @BeforeEach
+    void setUp() {
+        emailOutboxRepository.deleteAll();
+        when(emailService.sendEmail(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    void skipsRowsLockedByAnotherNode() throws Exception {
+        EmailOutbox locked = emailOutboxRepository.save(new EmailOutbox("locked@realty.local", "제목", "내용"));
+        EmailOutbox free = emailOutboxRepository.save(new EmailOutbox("free@realty.local", "제목", "내용"));
+
+        // 다른 노드가 첫 번째 메일을 잠근 채로 발송 중인 상황
+        CountDownLatch lockHeld = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService otherNode = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> holder = otherNode.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                assertThat(emailOutboxRepository.lockDueBatch(LocalDateTime.now(), 1))
+                        .extracting(EmailOutbox::getOutboxSeq).containsExactly(locked.getOutboxSeq());
+                lockHeld.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertThat(lockHeld.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // 잠긴 행을 기다리지 않고 건너뛰어 나머지만 발송
+            dispatcher.dispatch();
+            assertThat(status(free)).isEqualTo(EmailOutbox.Status.SENT);
+            assertThat(status(locked)).isEqualTo(EmailOutbox.Status.PENDING);
+            verify(emailService, never()).sendEmail(eq("locked@realty.local"), any(), any());
+
+            release.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            otherNode.shutdownNow();
+        }
+    }
+
+    @Test
+    void retriesFailedSendWithBackoff() {
+        when(emailService.sendEmail(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new MailSendException("Connection refused")));
+        EmailOutbox first = emailOutboxRepository.save(new EmailOutbox("retry@realty.local", "제목", "내용"));
+        EmailOutbox last = new EmailOutbox("last@realty.local", "제목", "내용");
+        last.setAttempts(4); // 다음이 마지막(5번째) 시도
+        last = emailOutboxRepository.save(last);
+
+        dispatcher.dispatch();
+
+        // 첫 실패는 30초 뒤 다시 발송 대기
+        EmailOutbox retried = emailOutboxRepository.findById(first.getOutboxSeq()).orElseThrow();
+        assertThat(retried.getStatus()).isEqualTo(EmailOutbox.Status.PENDING);
+        assertThat(retried.getAttempts()).isEqualTo(1);
+        assertThat(retried.getLastError()).isEqualTo("Connection refused");
+        assertThat(Duration.between(LocalDateTime.now(), retried.getNextAttemptAt()).toSeconds())
+                .isCloseTo(30, within(2L));
+
+        // 최대 시도 횟수를 채우면 실패 처리
+        assertThat(status(last)).isEqualTo(EmailOutbox.Status.FAILED);
+    }
+
+    @Test
+    void marksTimedOutSendUnknownAndRecordsLateResult() {
+        CompletableFuture<Void> slow = new CompletableFuture<>();
+        when(emailService.sendEmail(anyString(), anyString(), anyString())).thenReturn(slow);
+        EmailOutbox outbox = emailOutboxRepository.save(new EmailOutbox("slow@realty.local", "제목", "내용"));
+
+        dispatcher.dispatch();
+
+        // 아직 발송 중일 수 있으므로 다시 발송 대기로 돌리지 않음
+        assertThat(status(outbox)).isEqualTo(EmailOutbox.Status.UNKNOWN);
+        dispatcher.dispatch();
+        verify(emailService).sendEmail(anyString(), anyString(), anyString());
+
+        // 늦게 발송이 끝나면 결과를 기록
+        slow.complete(null);
+        assertThat(status(outbox)).isEqualTo(EmailOutbox.Status.SENT);
+    }
+
+    @Test
+    void maintainReleasesStaleClaimsAndPurgesOldRows() {
+        EmailOutbox stale = new EmailOutbox("stale@realty.local", "제목", "내용");
+        stale.setStatus(EmailOutbox.Status.SENDING);
+        stale.setClaimedAt(LocalDateTime.now().minusHours(1));
+        stale = emailOutboxRepository.save(stale);
+
+        EmailOutbox sending = new EmailOutbox("sending@realty.local", "제목", "내용");
+        sending.setStatus(EmailOutbox.Status.SENDING);
+        sending.setClaimedAt(LocalDateTime.now());
+        sending = emailOutboxRepository.save(sending);
+
+        EmailOutbox old = new EmailOutbox("old@realty.local", "제목", "내용");
+        old.setStatus(EmailOutbox.Status.SENT);
+        old.setSentAt(LocalDateTime.now().minusDays(8));
+        old = emailOutboxRepository.save(old);
+
+        EmailOutbox unknown = new EmailOutbox("unknown@realty.local", "제목", "내용");
+        unknown.setStatus(EmailOutbox.Status.UNKNOWN);
+        unknown.setClaimedAt(LocalDateTime.now().minusHours(1));
+        unknown = emailOutboxRepository.save(unknown);
+
+        dispatcher.maintain();
+
+        assertThat(status(stale)).isEqualTo(EmailOutbox.Status.PENDING);
+        assertThat(status(sending)).isEqualTo(EmailOutbox.Status.SENDING);
+        assertThat(emailOutboxRepository.existsById(old.getOutboxSeq())).isFalse();
+        // 발송되었을 수 있는 메일은 되돌리지 않음
+        assertThat(status(unknown)).isEqualTo(EmailOutbox.Status.UNKNOWN);
+    }
+
+    @Test
+    void otherScheduledTasksRunWhileSendHangs() throws Exception {
+        // 발송이 끝나지 않고 멈춘 상황
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(emailService.sendEmail(anyString(), anyString(), anyString())).thenAnswer(invocation -> {
+            sending.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return CompletableFuture.completedFuture(null);
+        });
+        emailOutboxRepository.save(new EmailOutbox("hang@realty.local", "제목", "내용"));
+        EmailOutbox stale = new EmailOutbox("stale@realty.local", "제목", "내용");
+        stale.setStatus(EmailOutbox.Status.SENDING);
+        stale.setClaimedAt(LocalDateTime.now().minusHours(1));
+        stale = emailOutboxRepository.save(stale);
+
+        try {
+            // @Scheduled 작업과 같은 스케줄러에서 실행
+            taskScheduler.schedule(dispatcher::dispatch, Instant.now());
+            assertThat(sending.await(10, TimeUnit.SECONDS)).isTrue();
+            CountDownLatch maintained = new CountDownLatch(1);
+            taskScheduler.schedule(() -> {
+                dispatcher.maintain();
+                maintained.countDown();
+            }, Instant.now());
+
+            // 디스패처가 스레드를 잡고 있어도 정리 작업은 기다리지 않고 실행됨
+            assertThat(maintained.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(status(stale)).isEqualTo(EmailOutbox.Status.PENDING);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private EmailOutbox.Status status(EmailOutbox outbox) {
+        return emailOutboxRepository.findById(outbox.getOutboxSeq()).orElseThrow().getStatus();
+    }
+}
@@ -0,0 +1,187 @@
+package com.riskview.realty.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SMTP 서버 대신 전송을 기록하는 JavaMailSender로 배치 전송, 재시도, 큐 초과 거절, 종료 처리를 확인하는 테스트
+ */
+@SpringBootTest(classes = { EmailService.class, EmailServiceTests.StubMailConfig.class }, properties = {
+        "realty.mail.workers=1",
+        "realty.mail.queue-capacity=4",
+        "realty.mail.batch-size=20",
+        "realty.mail.max-attempts=3",
+        "realty.mail.retry-backoff=50ms"
+})
+class EmailServiceTests {
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private StubMailSender mailSender;
+
+    @BeforeEach
+    void setUp() {
+        mailSender.reset();
+    }
+
+    @AfterEach
+    void release() {
+        mailSender.open();
+    }
+
+    @Test
+    void sendsQueuedMailsInOneBatch() throws Exception {
+        mailSender.close();
+        CompletableFuture<Void> first = send(0);
+        mailSender.awaitEntered();
+        // 첫 전송이 끝나지 않은 동안 쌓인 메일은 다음 전송에서 한 번에 보냄
+        List<CompletableFuture<Void>> queued = List.of(send(1), send(2), send(3));
+
+        mailSender.open();
+        first.get(5, TimeUnit.SECONDS);
+        CompletableFuture.allOf(queued.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        assertThat(mailSender.batches).containsExactly(1, 3);
+    }
+
+    @Test
+    void retriesWithBackoffUntilMaxAttempts() throws Exception {
+        // 두 번 실패한 뒤 세 번째 시도에서 성공
+        mailSender.failures.set(2);
+        long begin = System.nanoTime();
+        send(0).get(5, TimeUnit.SECONDS);
+        assertThat(mailSender.batches).hasSize(3);
+        // 50ms, 100ms 기다린 뒤 재시도
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin)).isGreaterThanOrEqualTo(150);
+
+        // 최대 시도 횟수를 넘으면 실패로 완료
+        mailSender.reset();
+        mailSender.failures.set(Integer.MAX_VALUE);
+        assertThatThrownBy(() -> send(1).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(MailSendException.class);
+        assertThat(mailSender.batches).hasSize(3);
+    }
+
+    @Test
+    void rejectsMailWhenQueueIsFull() throws Exception {
+        mailSender.close();
+        CompletableFuture<Void> inFlight = send(0);
+        mailSender.awaitEntered();
+        List<CompletableFuture<Void>> queued = List.of(send(1), send(2), send(3), send(4));
+
+        // 큐(4개)가 가득 차면 기다리지 않고 바로 실패
+        CompletableFuture<Void> rejected = send(5);
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(queued).noneMatch(CompletableFuture::isDone);
+
+        mailSender.open();
+        inFlight.get(5, TimeUnit.SECONDS);
+        CompletableFuture.allOf(queued.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DirtiesContext
+    void failsUnsentMailsOnStop() throws Exception {
+        mailSender.close();
+        CompletableFuture<Void> inFlight = send(0);
+        mailSender.awaitEntered();
+        List<CompletableFuture<Void>> queued = List.of(send(1), send(2));
+
+        emailService.stop();
+
+        // 전송 중이던 메일과 큐에 남은 메일 모두 기다리는 쪽이 멈추지 않도록 실패로 완료
+        assertThatThrownBy(() -> inFlight.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        for (CompletableFuture<Void> future : queued) {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasMessageContaining("Mail service stopped");
+        }
+        assertThat(send(3)).isCompletedExceptionally();
+    }
+
+    private CompletableFuture<Void> send(int index) {
+        return emailService.sendEmail("user" + index + "@realty.local", "제목", "<p>내용</p>");
+    }
+
+    @TestConfiguration
+    static class StubMailConfig {
+
+        @Bean
+        StubMailSender mailSender() {
+            return new StubMailSender();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    /**
+     * 전송할 때마다 배치 크기를 기록하고, 닫혀 있으면 열릴 때까지 전송을 멈추는 JavaMailSender
+     */
+    static class StubMailSender extends JavaMailSenderImpl {
+        private final List<Integer> batches = new CopyOnWriteArrayList<>();
+        private final AtomicInteger failures = new AtomicInteger(); // 남은 연결 실패 횟수
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+        private volatile CountDownLatch entered = new CountDownLatch(1);
+
+        @Override
+        public void send(MimeMessage... mimeMessages) {
+            batches.add(mimeMessages.length);
+            entered.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MailSendException("Interrupted");
+            }
+            if (failures.getAndUpdate(left -> left > 0 ? left - 1 : 0) > 0) {
+                throw new MailSendException("Connection refused");
+            }
+        }
+
+        void reset() {
+            batches.clear();
+            failures.set(0);
+            entered = new CountDownLatch(1);
+        }
+
+        void close() {
+            gate = new CountDownLatch(1);
+        }
+
+        void open() {
+            gate.countDown();
+        }
+
+        void awaitEntered() throws InterruptedException {
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.riskview.realty.service;
+
+import com.riskview.realty.domain.SessionUser;
+import com.riskview.realty.domain.dto.ModifyUserDTO;
+import com.riskview.realty.domain.repository.RolePermissionRepository;
+import com.riskview.realty.domain.repository.UserRepository;
+import com.riskview.realty.model.User;
+import com.riskview.realty.support.UserAuthCache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 회원정보 수정 시 실행되는 SQL 수와 동시 수정 시 나중 요청이 거절되는지 확인하는 테스트
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ModifyUserServiceTests {
+
+    private static final String PASSWORD = "password1234";
+
+    @Autowired
+    private ModifyUserService modifyUserService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RolePermissionRepository rolePermissionRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private UserAuthCache userAuthCache;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        userRepository.deleteAll();
+        userAuthCache.invalidateAll();
+
+        User user = new User();
+        user.setUserId("modifyuser");
+        user.setUserCode("U00000001");
+        user.setUserNickname("before");
+        user.setEmail("modifyuser@realty.local");
+        user.setName("before");
+        user.setPasswordHash(passwordEncoder.encode(PASSWORD));
+        user.setRole(rolePermissionRepository.getReferenceById("user"));
+        userRepository.save(user);
+    }
+
+    @Test
+    void profileUpdateLoadsOnceAndUpdatesOnce() {
+        long version = modifyUserService.getVersion("modifyuser");
+        ModifyUserDTO form = form(version, "after", "newpassword1234");
+        // 로그인 직후처럼 로그인 정보가 캐시에 있는 상태
+        customUserDetailsService.findAuthInfo("modifyuser");
+
+        statistics.clear();
+        modifyUserService.modifyUserInfo(form, session());
+
+        // SELECT 한 번, UPDATE 한 번
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        User updated = userRepository.findByUserId("modifyuser").orElseThrow();
+        assertThat(updated.getUserNickname()).isEqualTo("after");
+        assertThat(updated.getVersion()).isEqualTo(version + 1);
+        assertThat(passwordEncoder.matches("newpassword1234", updated.getPasswordHash())).isTrue();
+    }
+
+    @Test
+    void staleTabCannotOverwriteNewerEdit() {
+        // 두 탭에서 같은 버전으로 수정 화면을 엶
+        long version = modifyUserService.getVersion("modifyuser");
+        ModifyUserDTO firstTab = form(version, "first", null);
+        ModifyUserDTO secondTab = form(version, "second", null);
+
+        modifyUserService.modifyUserInfo(firstTab, session());
+
+        assertThatThrownBy(() -> modifyUserService.modifyUserInfo(secondTab, session()))
+                .isInstanceOf(ModifyUserService.StaleUpdateException.class);
+        assertThat(userRepository.findByUserId("modifyuser").orElseThrow().getUserNickname()).isEqualTo("first");
+    }
+
+    @Test
+    void newPasswordMustDifferFromCurrent() {
+        ModifyUserDTO form = form(modifyUserService.getVersion("modifyuser"), "after", PASSWORD);
+
+        assertThatThrownBy(() -> modifyUserService.modifyUserInfo(form, session()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void requestWithoutVersionIsRejected() {
+        ModifyUserDTO form = form(0, "after", null);
+        form.setVersion(null);
+
+        assertThatThrownBy(() -> modifyUserService.modifyUserInfo(form, session()))
+                .isInstanceOf(ModifyUserService.StaleUpdateException.class);
+        assertThat(userRepository.findByUserId("modifyuser").orElseThrow().getUserNickname()).isEqualTo("before");
+    }
+
+    private ModifyUserDTO form(long version, String nickname, String newPassword) {
+        ModifyUserDTO form = new ModifyUserDTO();
+        form.setUserId("modifyuser");
+        form.setEmail("modifyuser@realty.local");
+        form.setName("name");
+        form.setUserNickname(nickname);
+        form.setCurrentPassword(PASSWORD);
+        form.setNewPassword(newPassword);
+        form.setConfirmNewPassword(newPassword);
+        form.setVersion(version);
+        return form;
+    }
+
+    private MockHttpSession session() {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("user", new SessionUser("U00000001", "modifyuser", "before", "before", "modifyuser@realty.local"));
+        return session;
+    }
+}
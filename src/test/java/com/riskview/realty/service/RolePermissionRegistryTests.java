@@ -0,0 +1,41 @@
+package com.riskview.realty.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 없는 역할을 반복해서 조회해도 데이터베이스를 매번 다시 읽지 않는지 확인하는 테스트
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RolePermissionRegistryTests {
+
+    @Autowired
+    private RolePermissionRegistry rolePermissionRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void unknownRoleDoesNotReloadOnEveryLookup() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        assertThatThrownBy(() -> rolePermissionRegistry.get("no-such-role")).isInstanceOf(IllegalStateException.class);
+
+        statistics.clear();
+        for (int i = 0; i < 100; i++) {
+            assertThatThrownBy(() -> rolePermissionRegistry.get("no-such-role"))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        // 있는 역할은 그대로 조회됨
+        assertThat(rolePermissionRegistry.get("user").getRole()).isEqualTo("user");
+    }
+}
@@ -0,0 +1,96 @@
+package com.riskview.realty.service;
+
+import com.riskview.realty.domain.UserBulkResult;
+import com.riskview.realty.domain.dto.UserBulkDTO;
+import com.riskview.realty.domain.dto.UserSearchDTO;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 10만 명 탈퇴 처리가 사용자별 처리(수 분)가 아닌 수 초 안에 끝나는지 확인
+ * 작은 힙(largeTest 태스크)에서 실행하므로 인메모리 대신 파일 데이터베이스 사용
+ * 실행: gradle largeTest
+ */
+@Tag("large")
+@SpringBootTest
+@ActiveProfiles("test")
+class UserBulkLargeTests {
+
+    private static final int USERS = 100_000;
+    private static final int BATCH = 10_000;
+
+    private static Path databaseDirectory;
+
+    @Autowired
+    private UserBulkService userBulkService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void fileDatabase(DynamicPropertyRegistry registry) throws IOException {
+        databaseDirectory = Files.createTempDirectory("realty-bulk");
+        registry.add("spring.datasource.url", () -> "jdbc:h2:file:" + databaseDirectory.resolve("realty")
+                + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "false");
+    }
+
+    @AfterAll
+    static void deleteDatabase() throws IOException {
+        FileSystemUtils.deleteRecursively(databaseDirectory);
+    }
+
+    @Test
+    void deactivatesHundredThousandUsersInSeconds() {
+        seed();
+
+        UserSearchDTO filter = new UserSearchDTO();
+        filter.setRole("user");
+        filter.setDeleted(false);
+        UserBulkDTO request = new UserBulkDTO();
+        request.setOperation(UserBulkDTO.Operation.DEACTIVATE);
+        request.setFilter(filter);
+
+        UserBulkResult result = userBulkService.execute(request);
+
+        assertThat(result.updated()).isEqualTo(USERS);
+        assertThat(result.chunks()).isEqualTo(USERS / 1000).isEqualTo(result.totalChunks());
+        assertThat(result.elapsedMillis()).isLessThan(30_000);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE is_deleted = FALSE", Long.class))
+                .isZero();
+    }
+
+    private void seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 1; from <= USERS; from += BATCH) {
+            List<Object[]> rows = new ArrayList<>(BATCH);
+            for (int seq = from; seq < from + BATCH; seq++) {
+                rows.add(new Object[] {seq, String.format("U%08d", seq), "u" + seq, "n" + seq,
+                        "u" + seq + "@realty.local", "{bcrypt}hash", "user" + seq, now});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO users (user_seq, user_code, user_id, user_nickname, email, "
+                    + "password_hash, name, role, is_deleted, created_at, version) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, 'user', FALSE, ?, 0)", rows);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.riskview.realty.service;
+
+import com.riskview.realty.domain.UserAuthInfo;
+import com.riskview.realty.domain.UserBulkResult;
+import com.riskview.realty.domain.dto.UserBulkDTO;
+import com.riskview.realty.domain.dto.UserSearchDTO;
+import com.riskview.realty.domain.repository.RolePermissionRepository;
+import com.riskview.realty.domain.repository.UserRepository;
+import com.riskview.realty.model.User;
+import com.riskview.realty.support.UserAuthCache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import jakarta.servlet.http.Cookie;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 사용자 일괄 변경이 묶음 단위로 처리되고, 이미 같은 상태인 사용자는 건너뛰며, 로그인 정보 캐시와 세션을 비우는지 확인하는 테스트
+ */
+@SpringBootTest(properties = "realty.admin.bulk.chunk-size=10")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserBulkServiceTests {
+
+    private static final String PASSWORD = "password1234";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserBulkService userBulkService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RolePermissionRepository rolePermissionRepository;
+
+    @Autowired
+    private UserAuthCache userAuthCache;
+
+    private final List<Long> userSeqs = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        userAuthCache.invalidateAll();
+
+        List<User> users = new ArrayList<>();
+        for (int i = 1; i <= 25; i++) {
+            // 3의 배수는 탈퇴한 사용자
+            users.add(user("member" + i, i, i % 3 == 0));
+        }
+        userSeqs.clear();
+        userRepository.saveAll(users).forEach(user -> userSeqs.add(user.getUserSeq()));
+    }
+
+    @Test
+    void deactivatesByIdsInChunksAndInvalidatesCache() {
+        userAuthCache.put(new UserAuthInfo(userSeqs.get(0), "member1", "U1", "member1@realty.local",
+                "{bcrypt}hash", "member1", "member1", false, "user"));
+
+        UserBulkDTO request = new UserBulkDTO();
+        request.setOperation(UserBulkDTO.Operation.DEACTIVATE);
+        request.setUserSeqs(userSeqs);
+        List<UserBulkResult> progress = new ArrayList<>();
+        UserBulkResult result = userBulkService.execute(request, progress::add);
+
+        // 이미 탈퇴한 8명은 변경하지 않음
+        assertThat(result.updated()).isEqualTo(17);
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(result.totalChunks()).isEqualTo(3);
+        assertThat(progress).extracting(UserBulkResult::chunks).containsExactly(1, 2, 3);
+        assertThat(userRepository.findAll()).allMatch(User::isDeleted);
+        assertThat(userAuthCache.getIfPresent("member1")).isNull();
+    }
+
+    @Test
+    void changesRoleByFilter() {
+        UserSearchDTO filter = new UserSearchDTO();
+        filter.setUserId("member1");
+        filter.setDeleted(false);
+        UserBulkDTO request = new UserBulkDTO();
+        request.setOperation(UserBulkDTO.Operation.CHANGE_ROLE);
+        request.setRole("admin");
+        request.setFilter(filter);
+
+        UserBulkResult result = userBulkService.execute(request);
+
+        // member1, member10~19 중 3의 배수(12, 15, 18) 제외
+        assertThat(result.updated()).isEqualTo(8);
+        assertThat(userRepository.findAll())
+                .filteredOn(user -> "admin".equals(user.getRoleId()))
+                .extracting(User::getUserId)
+                .containsExactlyInAnyOrder("member1", "member10", "member11", "member13", "member14", "member16",
+                        "member17", "member19");
+    }
+
+    @Test
+    void endsSessionsOfDeactivatedAndDemotedUsers() throws Exception {
+        User member = userRepository.findByUserId("member1").orElseThrow();
+        member.setPasswordHash(passwordEncoder.encode(PASSWORD));
+        userRepository.save(member);
+        User admin = userRepository.findByUserId("member2").orElseThrow();
+        admin.setPasswordHash(passwordEncoder.encode(PASSWORD));
+        admin.setRole(rolePermissionRepository.getReferenceById("admin"));
+        userRepository.save(admin);
+
+        Cookie memberSession = login("member1");
+        Cookie adminSession = login("member2");
+        mockMvc.perform(get("/user/modify").cookie(memberSession)).andExpect(status().isOk());
+        mockMvc.perform(get("/admin").cookie(adminSession)).andExpect(status().isOk());
+
+        UserBulkDTO deactivate = new UserBulkDTO();
+        deactivate.setOperation(UserBulkDTO.Operation.DEACTIVATE);
+        deactivate.setUserSeqs(List.of(member.getUserSeq()));
+        userBulkService.execute(deactivate);
+
+        UserSearchDTO filter = new UserSearchDTO();
+        filter.setUserId("member2");
+        UserBulkDTO demote = new UserBulkDTO();
+        demote.setOperation(UserBulkDTO.Operation.CHANGE_ROLE);
+        demote.setRole("user");
+        demote.setFilter(filter);
+        userBulkService.execute(demote);
+
+        // 세션이 삭제되어 다음 요청은 세션 만료로 로그인 화면으로 보냄
+        mockMvc.perform(get("/user/modify").cookie(memberSession))
+                .andExpect(redirectedUrl("/user/login?expired"));
+        mockMvc.perform(get("/admin").cookie(adminSession))
+                .andExpect(redirectedUrl("/user/login?expired"));
+    }
+
+    @Test
+    void rejectsMissingTargetsAndUnknownRole() {
+        UserBulkDTO everyone = new UserBulkDTO();
+        everyone.setOperation(UserBulkDTO.Operation.DEACTIVATE);
+        everyone.setFilter(new UserSearchDTO());
+        assertThatThrownBy(() -> userBulkService.execute(everyone)).isInstanceOf(IllegalArgumentException.class);
+
+        UserBulkDTO unknownRole = new UserBulkDTO();
+        unknownRole.setOperation(UserBulkDTO.Operation.CHANGE_ROLE);
+        unknownRole.setRole("nobody");
+        unknownRole.setUserSeqs(userSeqs);
+        assertThatThrownBy(() -> userBulkService.execute(unknownRole)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(userRepository.findAll()).noneMatch(user -> "nobody".equals(user.getRoleId()));
+    }
+
+    private Cookie login(String userId) throws Exception {
+        Cookie session = mockMvc.perform(formLogin("/user/login").userParameter("userId").user(userId).password(PASSWORD))
+                .andExpect(redirectedUrl("/"))
+                .andReturn().getResponse().getCookie("SESSION");
+        assertThat(session).isNotNull();
+        return session;
+    }
+
+    private User user(String userId, int code, boolean deleted) {
+        User user = new User();
+        user.setUserId(userId);
+        user.generateUserCode(code);
+        user.setUserNickname(userId);
+        user.setEmail(userId + "@realty.local");
+        user.setName(userId);
+        user.setPasswordHash("{bcrypt}hash");
+        user.setRole(rolePermissionRepository.getReferenceById("user"));
+        user.setDeleted(deleted);
+        return user;
+    }
+}
@@ -0,0 +1,107 @@
+package com.riskview.realty.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 100만 명 내보내기를 작은 힙(largeTest 태스크, -Xmx128m)에서 실행하여 메모리 사용량이 행 수와 무관한지 확인
+ * 인메모리 데이터베이스는 데이터 자체가 힙을 차지하므로 파일 데이터베이스 사용
+ * 실행: gradle largeTest
+ */
+@Tag("large")
+@SpringBootTest
+@ActiveProfiles("test")
+class UserExportLargeTests {
+
+    private static final int USERS = 1_000_000;
+    private static final int BATCH = 10_000;
+
+    private static Path databaseDirectory;
+
+    @Autowired
+    private UserExportService userExportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void fileDatabase(DynamicPropertyRegistry registry) throws IOException {
+        databaseDirectory = Files.createTempDirectory("realty-export");
+        registry.add("spring.datasource.url", () -> "jdbc:h2:file:" + databaseDirectory.resolve("realty")
+                + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "false");
+    }
+
+    @AfterAll
+    static void deleteDatabase() throws IOException {
+        FileSystemUtils.deleteRecursively(databaseDirectory);
+    }
+
+    @Test
+    void exportsMillionUsersInConstantMemory() throws IOException {
+        seed();
+
+        for (UserExportService.Format format : UserExportService.Format.values()) {
+            LineCountingOutputStream out = new LineCountingOutputStream();
+            long rows = userExportService.export(null, null, format, out);
+
+            assertThat(rows).isEqualTo(USERS);
+            // CSV는 머리글 한 줄 추가
+            assertThat(out.lines).isEqualTo(format == UserExportService.Format.CSV ? USERS + 1 : USERS);
+        }
+    }
+
+    private void seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 1; from <= USERS; from += BATCH) {
+            List<Object[]> rows = new ArrayList<>(BATCH);
+            for (int seq = from; seq < from + BATCH; seq++) {
+                rows.add(new Object[] {seq, String.format("U%08d", seq), "u" + seq, "n" + seq,
+                        "u" + seq + "@realty.local", "{bcrypt}hash", "user" + seq, seq % 10 == 0, now});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO users (user_seq, user_code, user_id, user_nickname, email, "
+                    + "password_hash, name, role, is_deleted, created_at, version) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, 'user', ?, ?, 0)", rows);
+        }
+    }
+
+    // 내용은 버리고 줄 수만 셈
+    private static final class LineCountingOutputStream extends OutputStream {
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
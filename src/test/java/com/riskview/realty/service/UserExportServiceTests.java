@@ -0,0 +1,94 @@
+package com.riskview.realty.service;
+
+import com.riskview.realty.domain.repository.RolePermissionRepository;
+import com.riskview.realty.domain.repository.UserRepository;
+import com.riskview.realty.model.User;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 내보내기 형식(CSV 이스케이프, NDJSON)과 검색 조건 확인 테스트
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserExportServiceTests {
+
+    @Autowired
+    private UserExportService userExportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RolePermissionRepository rolePermissionRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        userRepository.saveAll(List.of(
+                user("plain", 1, "홍길동", "user", false),
+                user("quoted", 2, "Kim, \"J\"", "user", false),
+                user("formula", 3, "=HYPERLINK(\"x\")", "admin", false),
+                user("left", 4, "탈퇴", "user", true)));
+    }
+
+    @Test
+    void csvEscapesSeparatorsAndFormulas() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = userExportService.export(null, null, UserExportService.Format.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(rows).isEqualTo(4);
+        assertThat(lines).hasSize(5);
+        assertThat(lines[0]).isEqualTo("﻿userSeq,userCode,userId,userNickname,email,name,role,deleted,createdAt");
+        assertThat(lines[1]).contains(",plain,plain,plain@realty.local,홍길동,user,false,");
+        assertThat(lines[2]).contains(",\"Kim, \"\"J\"\"\",");
+        // 스프레드시트에서 수식으로 실행되지 않도록 '를 붙임
+        assertThat(lines[3]).contains(",\"'=HYPERLINK(\"\"x\"\")\",admin,");
+        // 비밀번호 해시는 내보내지 않음
+        assertThat(out.toString(StandardCharsets.UTF_8)).doesNotContain("{bcrypt}");
+    }
+
+    @Test
+    void ndjsonWritesOneObjectPerLineWithFilters() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = userExportService.export("user", false, UserExportService.Format.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(second.get("userId").asText()).isEqualTo("quoted");
+        assertThat(second.get("name").asText()).isEqualTo("Kim, \"J\"");
+        assertThat(second.get("deleted").asBoolean()).isFalse();
+        assertThat(second.has("passwordHash")).isFalse();
+    }
+
+    private User user(String userId, int code, String name, String role, boolean deleted) {
+        User user = new User();
+        user.setUserId(userId);
+        user.generateUserCode(code);
+        user.setUserNickname(userId);
+        user.setEmail(userId + "@realty.local");
+        user.setName(name);
+        user.setPasswordHash("{bcrypt}hash");
+        user.setRole(rolePermissionRepository.getReferenceById(role));
+        user.setDeleted(deleted);
+        return user;
+    }
+}
@@ -0,0 +1,121 @@
+package com.riskview.realty.service;
+
+import com.riskview.realty.domain.dto.UserDTO;
+import com.riskview.realty.domain.repository.UserRepository;
+import com.riskview.realty.model.User;
+import com.riskview.realty.support.UserCodeAllocator;
+import com.riskview.realty.support.VerificationCodeStore;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 회원가입 시 사용자 코드가 겹치지 않고, 사용자당 INSERT 한 번만 실행되는지 확인하는 테스트
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserRegistrationConcurrencyTests {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserCodeAllocator userCodeAllocator;
+
+    @Autowired
+    private VerificationCodeStore verificationCodeStore;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void allocatorNeverHandsOutTheSameCodeTwice() throws Exception {
+        int perThread = 1000;
+        Set<Long> codes = ConcurrentHashMap.newKeySet();
+
+        runConcurrently(THREADS, i -> {
+            for (int j = 0; j < perThread; j++) {
+                codes.add(userCodeAllocator.next());
+            }
+        });
+
+        assertThat(codes).hasSize(THREADS * perThread);
+    }
+
+    @Test
+    void concurrentRegistrationsWriteOnceWithUniqueCodes() throws Exception {
+        // 테스트 프로필의 BCrypt cost는 4라서 해싱이 빠르므로 코드 블록(100개)을 여러 번 넘기도록 수천 명 가입
+        int users = 2000;
+        userRepository.deleteAll();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        runConcurrently(users, i -> {
+            UserDTO userDTO = userDTO("user" + i);
+            verificationCodeStore.save(userDTO.getEmail(), "ABC123", Duration.ofMinutes(5));
+            userService.registerUser(userDTO, "ABC123");
+        });
+
+        List<User> saved = userRepository.findAll();
+        assertThat(saved).hasSize(users);
+        assertThat(saved.stream().map(User::getUserCode).collect(Collectors.toSet())).hasSize(users);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(users);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+    }
+
+    private static UserDTO userDTO(String userId) {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setUserId(userId);
+        userDTO.setUserNickname(userId);
+        userDTO.setEmail(userId + "@realty.local");
+        userDTO.setName(userId);
+        userDTO.setPassword("password1234");
+        return userDTO;
+    }
+
+    private static void runConcurrently(int tasks, Task task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>(tasks);
+            for (int i = 0; i < tasks; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    task.run(index);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(); // 작업 중 발생한 예외(유니크 키 충돌 등)를 그대로 전달
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run(int index) throws Exception;
+    }
+}
@@ -0,0 +1,118 @@
+package com.riskview.realty.service;
+
+import com.riskview.realty.domain.UserSearchResult;
+import com.riskview.realty.domain.UserSummary;
+import com.riskview.realty.domain.dto.UserSearchDTO;
+import com.riskview.realty.domain.repository.RolePermissionRepository;
+import com.riskview.realty.domain.repository.UserRepository;
+import com.riskview.realty.model.User;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 검색이 페이지마다 SQL 한 번으로 빠짐없이, 중복 없이 이어서 조회되는지 확인하는 테스트
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserSearchServiceTests {
+
+    @Autowired
+    private UserSearchService userSearchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RolePermissionRepository rolePermissionRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        userRepository.deleteAll();
+
+        List<User> users = new ArrayList<>();
+        for (int i = 1; i <= 25; i++) {
+            // 3의 배수는 탈퇴한 사용자
+            users.add(user("member" + i, i, "user", i % 3 == 0));
+        }
+        users.add(user("admin_1", 26, "admin", false));
+        users.add(user("adminx1", 27, "admin", false));
+        userRepository.saveAll(users);
+    }
+
+    @Test
+    void pagesCoverEveryUserOnceWithOneQueryEach() {
+        UserSearchDTO condition = new UserSearchDTO();
+        condition.setSize(10);
+
+        List<String> seen = new ArrayList<>();
+        int pages = 0;
+        UserSearchResult result;
+        do {
+            statistics.clear();
+            result = userSearchService.search(condition);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            result.users().forEach(user -> seen.add(user.getUserId()));
+            condition.setAfter(result.nextCursor());
+            pages++;
+        } while (result.hasNext());
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).hasSize(27).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void filtersCombine() {
+        UserSearchDTO condition = new UserSearchDTO();
+        condition.setUserId("member1");
+        condition.setRole("user");
+        condition.setDeleted(false);
+
+        // member1, member10~19 중 3의 배수(12, 15, 18) 제외
+        assertThat(userSearchService.search(condition).users())
+                .extracting(UserSummary::getUserId)
+                .containsExactly("member1", "member10", "member11", "member13", "member14", "member16",
+                        "member17", "member19");
+    }
+
+    @Test
+    void prefixWildcardsAreLiteral() {
+        UserSearchDTO condition = new UserSearchDTO();
+        condition.setUserId("admin_");
+
+        // _가 임의의 한 글자로 해석되면 adminx1도 검색됨
+        assertThat(userSearchService.search(condition).users())
+                .extracting(UserSummary::getUserId)
+                .containsExactly("admin_1");
+    }
+
+    private User user(String userId, int code, String role, boolean deleted) {
+        User user = new User();
+        user.setUserId(userId);
+        user.generateUserCode(code);
+        user.setUserNickname(userId);
+        user.setEmail(userId + "@realty.local");
+        user.setName(userId);
+        user.setPasswordHash("{bcrypt}hash");
+        user.setRole(rolePermissionRepository.getReferenceById(role));
+        user.setDeleted(deleted);
+        return user;
+    }
+}
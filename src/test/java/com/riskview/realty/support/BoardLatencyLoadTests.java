@@ -0,0 +1,71 @@
+package com.riskview.realty.support;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 요청이 몰리는 동안에도 게시판 페이지(/board/**) 지연 시간이 유지되는지 확인하는 부하 테스트
+ * 로그인의 BCrypt 검증은 코어 수만큼의 전용 스레드에서만 실행되고 대기열이 차면 바로 거절되므로
+ * Tomcat 스레드가 해싱 때문에 모두 묶이지 않아야 함
+ * 결과는 build/reports/load/board-latency.txt에 저장
+ * 실행: ./gradlew loadTest
+ */
+@Tag("load")
+class BoardLatencyLoadTests {
+
+    // 해싱 스레드와 대기열(스레드 수의 8배)을 채우고도 남는 수, 더 늘리면 거절 응답만 늘어 CPU를 나눠 쓰는 영향이 커짐
+    private static final int FLOOD_CLIENTS = 40;
+    private static final int BOARD_CLIENTS = 10;
+    private static final int BOARD_REQUESTS = 2000;
+    private static final int USERS = 20;
+    private static final String PASSWORD = "password1234";
+
+    @Test
+    void boardLatencyStaysFlatDuringLoginFlood() throws Exception {
+        try (RunningApplication app = RunningApplication.start("board-latency", "prod,bench",
+                "--realty.password.bcrypt.cost=10",
+                // 요청 횟수 제한 없이 로그인이 모두 해싱까지 가도록 함
+                "--realty.rate-limit.enabled=false")) {
+            for (int i = 0; i < USERS; i++) {
+                assertThat(app.register("flood" + i, PASSWORD)).isTrue();
+            }
+
+            LoadRunner.Result baseline = LoadRunner.run("board (idle)", BOARD_CLIENTS, BOARD_REQUESTS,
+                    i -> app.get(boardPage(i)).statusCode() == 200);
+            LoadRunner.Result flooded;
+            long logins;
+            try (LoadRunner.Flood flood = LoadRunner.flood(FLOOD_CLIENTS,
+                    // 해싱 대기열이 가득 차서 거절된 로그인도 실패 화면으로 리다이렉트됨
+                    i -> app.postForm("/user/login", "userId", "flood" + i % USERS, "password", PASSWORD)
+                            .statusCode() == 302)) {
+                // 로그인 요청이 해싱 대기열을 채울 때까지 기다림
+                Thread.sleep(2000);
+                flooded = LoadRunner.run("board (login flood)", BOARD_CLIENTS, BOARD_REQUESTS,
+                        i -> app.get(boardPage(i)).statusCode() == 200);
+                logins = flood.sent();
+            }
+
+            List<String> lines = new ArrayList<>();
+            lines.add(baseline.line());
+            lines.add(flooded.line());
+            lines.add(String.format("%-36s requests=%d", "login flood", logins));
+            LoadRunner.report("board-latency.txt", "JDK " + Runtime.version() + ", " + FLOOD_CLIENTS
+                    + " login clients, " + Runtime.getRuntime().availableProcessors() + " cores", lines);
+
+            assertThat(baseline.failures()).isZero();
+            assertThat(flooded.failures()).isZero();
+            assertThat(logins).isPositive();
+            // 해싱과 CPU를 나눠 쓰므로 조금 느려질 수는 있지만 로그인 대기에 묶여 초 단위로 늘어나지는 않아야 함
+            assertThat(flooded.p99Millis()).isLessThan(Math.max(baseline.p99Millis() * 5, 250));
+        }
+    }
+
+    private static String boardPage(int index) {
+        return List.of("/board/news", "/board/community", "/board/about").get(index % 3);
+    }
+}
@@ -0,0 +1,77 @@
+package com.riskview.realty.support;
+
+import com.riskview.realty.domain.ContractAnalysisResult;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 256MB 계약서를 작은 힙(largeTest 태스크, -Xmx128m)에서 분석하여 메모리 사용량이 문서 크기와 무관한지 확인
+ * 문서는 파일로 만들지 않고 같은 조항을 반복해서 내보내는 스트림으로 생성
+ * 실행: gradle largeTest
+ */
+@Tag("large")
+class ContractAnalyzerLargeTests {
+
+    private static final long SIZE = 256L * 1024 * 1024;
+
+    @Test
+    void analyzesLargeContractInConstantMemory() throws IOException {
+        RiskRules riskRules = new RiskRules(new DefaultResourceLoader(), "classpath:analysis/risk-rules.json");
+        riskRules.load();
+        byte[] clause = """
+                제1조 (보증금) 임차인은 보증금을 지급하고, 임대인은 새로운 임차인이 입주한 후 보증금을 반환한다.
+                임대인은 임대차 기간 동안 목적물을 사용, 수익에 필요한 상태로 유지하여야 한다.
+                """.getBytes(StandardCharsets.UTF_8);
+        long clauses = SIZE / clause.length;
+
+        ContractAnalysisResult result = new ContractAnalyzer(riskRules, 4000, 100)
+                .analyze(new RepeatingInputStream(clause, clauses));
+
+        assertThat(result.clauseCount()).isEqualTo(clauses);
+        assertThat(result.findingCount()).isEqualTo(clauses);
+        assertThat(result.findings()).hasSize(100);
+    }
+
+    /**
+     * 같은 바이트 배열을 정해진 횟수만큼 반복하는 스트림
+     */
+    private static final class RepeatingInputStream extends InputStream {
+        private final byte[] chunk;
+        private long remaining;
+        private int position;
+
+        private RepeatingInputStream(byte[] chunk, long repeat) {
+            this.chunk = chunk;
+            this.remaining = repeat;
+        }
+
+        @Override
+        public int read() {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (remaining == 0) {
+                return -1;
+            }
+            int read = Math.min(length, chunk.length - position);
+            System.arraycopy(chunk, position, buffer, offset, read);
+            position += read;
+            if (position == chunk.length) {
+                position = 0;
+                remaining--;
+            }
+            return read;
+        }
+    }
+}
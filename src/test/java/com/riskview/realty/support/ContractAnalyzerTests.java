@@ -0,0 +1,101 @@
+package com.riskview.realty.support;
+
+import com.riskview.realty.domain.ContractAnalysisResult;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 계약서 분석 파이프라인(인코딩 판별, 조항 분리, 위험 키워드 점수)을 확인하는 테스트
+ */
+class ContractAnalyzerTests {
+
+    private static final String CONTRACT = """
+            부동산 임대차 계약서
+
+            제1조 (목적) 임대인과 임차인은 아래 부동산에 관하여 임대차 계약을 체결한다.
+            제2조 (보증금) 임차인은 보증금을 지급한다.
+            임대인은 새로운 임차인이  입주한 후 보증금을 반환한다.
+            제 3 조 (권리관계) 본 건물에는 선순위 근저당이 설정되어 있다.
+            [특약사항]
+            1. 임차인은 계약갱신요구권을 포기한다.
+            2. 퇴거 시 원상복구 한다.
+            """;
+
+    private RiskRules riskRules;
+
+    @BeforeEach
+    void setUp() {
+        riskRules = new RiskRules(new DefaultResourceLoader(), "classpath:analysis/risk-rules.json");
+        riskRules.load();
+    }
+
+    @Test
+    void segmentsClausesAndScoresKeywords() throws IOException {
+        ContractAnalysisResult result = new ContractAnalyzer(riskRules, 4000, 100)
+                .analyze(new ByteArrayInputStream(CONTRACT.getBytes(StandardCharsets.UTF_8)));
+
+        // 제목, 제1조, 제2조, 제3조, 특약사항
+        assertThat(result.clauseCount()).isEqualTo(5);
+        assertThat(result.findings())
+                .extracting(ContractAnalysisResult.Finding::clauseNo, ContractAnalysisResult.Finding::ruleId)
+                .containsExactly(
+                        tuple(3, "deposit-return"),
+                        tuple(4, "senior-mortgage"),
+                        tuple(5, "renewal-waiver"),
+                        tuple(5, "restoration"));
+        // 띄어쓰기가 달라도 찾고, 원문 문장을 함께 보여줌
+        assertThat(result.findings().get(0).keyword()).isEqualTo("새로운 임차인이 입주한 후");
+        assertThat(result.findings().get(0).excerpt()).contains("새로운 임차인이 입주한 후 보증금을 반환한다.");
+        assertThat(result.findings().get(1).clauseTitle()).isEqualTo("제 3 조 (권리관계) 본 건물에는 선순위 근저당이 설정되어 있다.");
+        assertThat(result.riskScore()).isEqualTo(10 + 15 + 12 + 4);
+        assertThat(result.riskLevel()).isEqualTo("HIGH");
+    }
+
+    @Test
+    void readsCp949AndRejectsBinaryFiles() throws IOException {
+        byte[] cp949 = CONTRACT.getBytes(Charset.forName("x-windows-949"));
+        ContractAnalysisResult result = new ContractAnalyzer(riskRules, 4000, 100)
+                .analyze(new ByteArrayInputStream(cp949));
+        assertThat(result.findingCount()).isEqualTo(4);
+
+        assertThatThrownBy(() -> new ContractAnalyzer(riskRules, 4000, 100)
+                .analyze(new ByteArrayInputStream("%PDF-1.7\n...".getBytes(StandardCharsets.US_ASCII))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void splitsLongClausesAndKeepsHighestWeightFindings() throws IOException {
+        String longClause = "제1조 (특약) 압류\n" + "가나다라마바사아자차카타파하\n".repeat(20) + "x".repeat(250) + "\n";
+        ClauseSegmenter segmenter = new ClauseSegmenter(new StringReader(longClause), 100);
+        List<ClauseSegmenter.Clause> clauses = new ArrayList<>();
+        for (ClauseSegmenter.Clause clause = segmenter.next(); clause != null; clause = segmenter.next()) {
+            clauses.add(clause);
+        }
+        assertThat(clauses).allSatisfy(clause -> {
+            assertThat(clause.text()).hasSizeLessThanOrEqualTo(100);
+            assertThat(clause.title()).isEqualTo("제1조 (특약) 압류");
+        });
+        assertThat(clauses).extracting(ClauseSegmenter.Clause::number).startsWith(1, 2, 3);
+
+        String contract = "제1조 원상복구\n제2조 위약금\n제3조 가압류\n제4조 원상회복\n";
+        ContractAnalysisResult result = new ContractAnalyzer(riskRules, 4000, 2)
+                .analyze(new ByteArrayInputStream(contract.getBytes(StandardCharsets.UTF_8)));
+        assertThat(result.findingCount()).isEqualTo(4);
+        assertThat(result.findings()).extracting(ContractAnalysisResult.Finding::ruleId)
+                .containsExactly("penalty", "seizure");
+    }
+}
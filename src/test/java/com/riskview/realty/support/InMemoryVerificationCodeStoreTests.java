@@ -0,0 +1,100 @@
+package com.riskview.realty.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class InMemoryVerificationCodeStoreTests {
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void codeCanBeConsumedOnlyOnce() {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(10, 5, clock);
+        store.save("User@Example.com", "ABC123", Duration.ofMinutes(10));
+
+        assertThat(store.verify("user@example.com", "ABC123")).isEqualTo(VerificationCodeStore.Result.VALID);
+        assertThat(store.consume("user@example.com", "ABC123")).isEqualTo(VerificationCodeStore.Result.VALID);
+        assertThat(store.consume("user@example.com", "ABC123")).isEqualTo(VerificationCodeStore.Result.NOT_FOUND);
+    }
+
+    @Test
+    void consumedCodeIsRestoredWhenTransactionRollsBack() {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(10, 5, clock);
+        store.save("user@example.com", "ABC123", Duration.ofMinutes(10));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(store.consume("user@example.com", "ABC123")).isEqualTo(VerificationCodeStore.Result.VALID);
+            assertThat(store.consume("user@example.com", "ABC123")).isEqualTo(VerificationCodeStore.Result.NOT_FOUND);
+            // 가입 저장 실패로 롤백
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(store.consume("user@example.com", "ABC123")).isEqualTo(VerificationCodeStore.Result.VALID);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void expiredCodeIsRejected() {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(10, 5, clock);
+        store.save("user@example.com", "ABC123", Duration.ofMinutes(10));
+
+        clock.advance(Duration.ofMinutes(11));
+
+        assertThat(store.consume("user@example.com", "ABC123")).isEqualTo(VerificationCodeStore.Result.EXPIRED);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void wrongGuessesAreLimited() {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(10, 3, clock);
+        store.save("user@example.com", "ABC123", Duration.ofMinutes(10));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(store.verify("user@example.com", "ZZZZZZ")).isEqualTo(VerificationCodeStore.Result.INVALID);
+        }
+        assertThat(store.consume("user@example.com", "ABC123")).isEqualTo(VerificationCodeStore.Result.TOO_MANY_ATTEMPTS);
+    }
+
+    @Test
+    void sizeIsBounded() {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(3, 5, clock);
+        for (int i = 0; i < 10; i++) {
+            store.save("user" + i + "@example.com", "ABC123", Duration.ofMinutes(10 + i));
+        }
+
+        assertThat(store.size()).isEqualTo(3);
+        // 가장 늦게 만료되는 코드가 남음
+        assertThat(store.verify("user9@example.com", "ABC123")).isEqualTo(VerificationCodeStore.Result.VALID);
+        assertThat(store.verify("user0@example.com", "ABC123")).isEqualTo(VerificationCodeStore.Result.NOT_FOUND);
+
+        // 다시 보낸 코드는 이전 코드의 만료 순서를 대체함
+        store.save("user7@example.com", "XYZ789", Duration.ofMinutes(30));
+        store.save("user10@example.com", "ABC123", Duration.ofMinutes(25));
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.verify("user7@example.com", "XYZ789")).isEqualTo(VerificationCodeStore.Result.VALID);
+        assertThat(store.verify("user8@example.com", "ABC123")).isEqualTo(VerificationCodeStore.Result.NOT_FOUND);
+    }
+
+    @Test
+    void expiredCodesAreSweptOnSave() {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(10, 5, clock);
+        for (int i = 0; i < 5; i++) {
+            store.save("user" + i + "@example.com", "ABC123", Duration.ofMinutes(1 + i));
+        }
+
+        clock.advance(Duration.ofMinutes(3).plusSeconds(1));
+        store.save("late@example.com", "ABC123", Duration.ofMinutes(10));
+
+        // 만료된 user0~2는 정리되고 user3, user4, late만 남음
+        assertThat(store.size()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,105 @@
+package com.riskview.realty.support;
+
+import com.riskview.realty.domain.repository.RolePermissionRepository;
+import com.riskview.realty.domain.repository.UserRepository;
+import com.riskview.realty.model.User;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+
+/**
+ * 세션이 공유 저장소(SPRING_SESSION)에 저장되고 만료 세션이 나누어 삭제되는지 확인하는 테스트
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "realty.session.cleanup-batch-size=2")
+class JdbcSessionStoreTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RolePermissionRepository rolePermissionRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ExpiredSessionCleaner expiredSessionCleaner;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM SPRING_SESSION");
+        userRepository.deleteAll();
+
+        User user = new User();
+        user.setUserId("sessionuser");
+        user.setUserCode("U00000001");
+        user.setUserNickname("sessionuser");
+        user.setEmail("sessionuser@realty.local");
+        user.setName("sessionuser");
+        user.setPasswordHash(passwordEncoder.encode("password1234"));
+        user.setRole(rolePermissionRepository.getReferenceById("user"));
+        userRepository.save(user);
+    }
+
+    @Test
+    void loginIsStoredInSharedSessionTable() throws Exception {
+        mockMvc.perform(formLogin("/user/login").userParameter("userId").user("sessionuser").password("password1234"))
+                .andExpect(redirectedUrl("/"));
+
+        Integer sessions = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM SPRING_SESSION WHERE PRINCIPAL_NAME = ?", Integer.class, "sessionuser");
+        assertThat(sessions).isEqualTo(1);
+
+        // 세션에는 비밀번호 해시가 남지 않음
+        byte[] context = jdbcTemplate.queryForObject(
+                "SELECT ATTRIBUTE_BYTES FROM SPRING_SESSION_ATTRIBUTES WHERE ATTRIBUTE_NAME = 'SPRING_SECURITY_CONTEXT'",
+                byte[].class);
+        String hash = userRepository.findByUserId("sessionuser").orElseThrow().getPasswordHash();
+        assertThat(new String(context, StandardCharsets.ISO_8859_1)).doesNotContain(hash);
+    }
+
+    @Test
+    void expiredSessionsAreDeletedInBatches() {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) {
+            insertSession(now - 1000);
+        }
+        insertSession(now + 60_000);
+
+        assertThat(expiredSessionCleaner.cleanUp()).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM SPRING_SESSION", Integer.class)).isEqualTo(1);
+    }
+
+    private void insertSession(long expiryTime) {
+        String id = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO SPRING_SESSION (PRIMARY_ID, SESSION_ID, CREATION_TIME, LAST_ACCESS_TIME, "
+                + "MAX_INACTIVE_INTERVAL, EXPIRY_TIME) VALUES (?, ?, ?, ?, ?, ?)",
+                id, UUID.randomUUID().toString(), expiryTime, expiryTime, 1800, expiryTime);
+        jdbcTemplate.update("INSERT INTO SPRING_SESSION_ATTRIBUTES (SESSION_PRIMARY_ID, ATTRIBUTE_NAME, ATTRIBUTE_BYTES) "
+                + "VALUES (?, ?, ?)", id, "user", new byte[] {1});
+    }
+}
@@ -0,0 +1,73 @@
+package com.riskview.realty.support;
+
+import com.riskview.realty.domain.dto.UserDTO;
+import com.riskview.realty.domain.repository.UserRepository;
+import com.riskview.realty.service.UserService;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * jdbc 인증코드 저장소에서 틀린 코드로 실패한 가입도 시도 횟수에 포함되는지 확인하는 테스트
+ */
+@SpringBootTest(properties = { "realty.verification.store=jdbc", "realty.verification.max-attempts=3" })
+@ActiveProfiles("test")
+class JdbcVerificationCodeStoreTests {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VerificationCodeStore verificationCodeStore;
+
+    @Test
+    void failedRegistrationsCountTowardMaxAttempts() {
+        assertThat(verificationCodeStore).isInstanceOf(JdbcVerificationCodeStore.class);
+        UserDTO userDTO = userDTO("jdbcguess");
+        verificationCodeStore.save(userDTO.getEmail(), "ABC123", Duration.ofMinutes(5));
+
+        // 가입이 실패해 트랜잭션이 롤백되어도 틀린 시도는 남음
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> userService.registerUser(userDTO, "ZZZZZZ"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("올바르지 않습니다");
+        }
+
+        assertThatThrownBy(() -> userService.registerUser(userDTO, "ABC123"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("시도 횟수를 초과");
+        assertThat(userRepository.findByUserId("jdbcguess")).isEmpty();
+    }
+
+    @Test
+    void codeIsConsumedOnlyByCommittedRegistration() {
+        UserDTO userDTO = userDTO("jdbcuser");
+        verificationCodeStore.save(userDTO.getEmail(), "ABC123", Duration.ofMinutes(5));
+
+        userService.registerUser(userDTO, "ABC123");
+
+        assertThat(userRepository.findByUserId("jdbcuser")).isPresent();
+        assertThat(verificationCodeStore.verify(userDTO.getEmail(), "ABC123"))
+                .isEqualTo(VerificationCodeStore.Result.NOT_FOUND);
+    }
+
+    private static UserDTO userDTO(String userId) {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setUserId(userId);
+        userDTO.setUserNickname(userId);
+        userDTO.setEmail(userId + "@realty.local");
+        userDTO.setName(userId);
+        userDTO.setPassword("password1234");
+        return userDTO;
+    }
+}
@@ -0,0 +1,175 @@
+package com.riskview.realty.support;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트 도구
+ * 정해진 수의 클라이언트 스레드가 요청을 동시에 보내고, 요청별 응답 시간으로 처리량과 지연 시간 분포(p50, p99) 계산
+ * 결과는 build/reports/load/ 아래 파일로 남겨 실행 사이에 비교
+ */
+public final class LoadRunner {
+
+    private static final Path REPORT_DIRECTORY = Path.of("build", "reports", "load");
+
+    private LoadRunner() {
+    }
+
+    /**
+     * 요청 requests개를 clients개의 스레드로 나누어 보내고 결과 측정
+     * @param name 결과 이름
+     * @param clients 동시에 요청하는 클라이언트 수
+     * @param requests 전체 요청 수(요청 번호는 0부터)
+     * @param request 요청 하나(성공하면 true, 예외도 실패로 셈)
+     */
+    public static Result run(String name, int clients, int requests, Request request) throws InterruptedException {
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        for (int c = 0; c < clients; c++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                int index;
+                while ((index = next.getAndIncrement()) < requests) {
+                    long begin = System.nanoTime();
+                    if (!send(request, index)) {
+                        failures.incrementAndGet();
+                    }
+                    latencies[index] = System.nanoTime() - begin;
+                }
+            });
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.MINUTES)) {
+            executor.shutdownNow();
+            throw new IllegalStateException(name + " did not finish in 10 minutes");
+        }
+        long elapsed = System.nanoTime() - begin;
+        Arrays.sort(latencies);
+        return new Result(name, requests, failures.get(), elapsed, percentile(latencies, 50),
+                percentile(latencies, 99), latencies[latencies.length - 1]);
+    }
+
+    /**
+     * 멈출 때까지 clients개의 스레드로 요청을 계속 보냄(다른 요청의 지연 시간을 측정하는 동안의 배경 부하)
+     */
+    public static Flood flood(int clients, Request request) {
+        return new Flood(clients, request);
+    }
+
+    /**
+     * 결과를 build/reports/load/{fileName}에 저장하고 표준 출력에도 출력
+     */
+    public static void report(String fileName, String title, List<String> lines) throws IOException {
+        StringBuilder report = new StringBuilder(title).append('\n');
+        lines.forEach(line -> report.append(line).append('\n'));
+        Files.createDirectories(REPORT_DIRECTORY);
+        Files.writeString(REPORT_DIRECTORY.resolve(fileName), report);
+        System.out.print(report);
+    }
+
+    private static boolean send(Request request, int index) {
+        try {
+            return request.send(index);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static long percentile(long[] sorted, int percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(sorted.length * percent / 100.0) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    /**
+     * 요청 하나
+     */
+    @FunctionalInterface
+    public interface Request {
+        boolean send(int index) throws Exception;
+    }
+
+    /**
+     * 측정 결과
+     * @param elapsedNanos 첫 요청부터 마지막 응답까지 걸린 시간
+     */
+    public record Result(String name, int requests, int failures, long elapsedNanos, long p50Nanos, long p99Nanos,
+                         long maxNanos) {
+
+        public double throughput() {
+            return requests * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        public double p99Millis() {
+            return p99Nanos / 1_000_000.0;
+        }
+
+        public String line() {
+            return String.format("%-36s requests=%d failures=%d throughput=%.1f/s p50=%.2fms p99=%.2fms max=%.2fms",
+                    name, requests, failures, throughput(), p50Nanos / 1_000_000.0, p99Millis(),
+                    maxNanos / 1_000_000.0);
+        }
+    }
+
+    /**
+     * 배경 부하(close하면 멈추고 보낸 요청 수를 남김)
+     */
+    public static final class Flood implements AutoCloseable {
+        private final ExecutorService executor;
+        private final AtomicBoolean running = new AtomicBoolean(true);
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        private Flood(int clients, Request request) {
+            executor = Executors.newFixedThreadPool(clients);
+            AtomicInteger next = new AtomicInteger();
+            for (int c = 0; c < clients; c++) {
+                executor.execute(() -> {
+                    while (running.get()) {
+                        if (!send(request, next.getAndIncrement())) {
+                            failed.increment();
+                        }
+                        sent.increment();
+                    }
+                });
+            }
+        }
+
+        public long sent() {
+            return sent.sum();
+        }
+
+        public long failed() {
+            return failed.sum();
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            running.set(false);
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.riskview.realty.support;
+
+import com.riskview.realty.domain.repository.RolePermissionRepository;
+import com.riskview.realty.domain.repository.UserRepository;
+import com.riskview.realty.model.RolePermission;
+import com.riskview.realty.model.User;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrlPattern;
+
+/**
+ * 로그인 시도 한 번에 실행되는 SQL 수를 확인하는 테스트
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LoginQueryCountTests {
+
+    private static final String PASSWORD = "password1234";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RolePermissionRepository rolePermissionRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserAuthCache userAuthCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        userRepository.deleteAll();
+
+        // 기본 역할은 마이그레이션(V2)에서 추가됨
+        RolePermission role = rolePermissionRepository.findById("user").orElseThrow();
+
+        saveUser("activeuser", "U00000001", false, role);
+        saveUser("deleteduser", "U00000002", true, role);
+        userAuthCache.invalidateAll();
+    }
+
+    @Test
+    void successfulLoginRunsOneQuery() throws Exception {
+        login("activeuser", PASSWORD).andExpect(redirectedUrl("/"));
+        assertThat(statementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void repeatedLoginIsServedFromCache() throws Exception {
+        login("activeuser", PASSWORD).andExpect(redirectedUrl("/"));
+        login("activeuser", PASSWORD).andExpect(redirectedUrl("/"));
+        assertThat(statementCount()).isZero();
+    }
+
+    @Test
+    void badPasswordRunsOneQuery() throws Exception {
+        login("activeuser", "wrong-password").andExpect(redirectedUrlPattern("/user/login?error=true*"));
+        assertThat(statementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void unknownUserRunsOneQuery() throws Exception {
+        login("nobody", PASSWORD).andExpect(redirectedUrlPattern("/user/login?error=true*"));
+        assertThat(statementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void deletedUserRunsOneQuery() throws Exception {
+        login("deleteduser", PASSWORD).andExpect(redirectedUrlPattern("/user/login?error=true*"));
+        assertThat(statementCount()).isEqualTo(1);
+    }
+
+    private ResultActions login(String userId, String password) throws Exception {
+        statistics.clear();
+        return mockMvc.perform(formLogin("/user/login").userParameter("userId").user(userId).password(password));
+    }
+
+    private long statementCount() {
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void saveUser(String userId, String userCode, boolean deleted, RolePermission role) {
+        User user = new User();
+        user.setUserId(userId);
+        user.setUserCode(userCode);
+        user.setUserNickname(userId);
+        user.setEmail(userId + "@realty.local");
+        user.setName(userId);
+        user.setPasswordHash(passwordEncoder.encode(PASSWORD));
+        user.setRole(role);
+        user.setDeleted(deleted);
+        userRepository.save(user);
+    }
+}
@@ -0,0 +1,80 @@
+package com.riskview.realty.support;
+
+import com.riskview.realty.domain.repository.RolePermissionRepository;
+import com.riskview.realty.domain.repository.UserRepository;
+import com.riskview.realty.model.User;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 로그인 경로의 지표가 Prometheus 형식으로 노출되는지 확인하는 테스트
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class MetricsEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RolePermissionRepository rolePermissionRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+
+        User user = new User();
+        user.setUserId("metricsuser");
+        user.setUserCode("U00000001");
+        user.setUserNickname("metricsuser");
+        user.setEmail("metricsuser@realty.local");
+        user.setName("metricsuser");
+        user.setPasswordHash(passwordEncoder.encode("password1234"));
+        user.setRole(rolePermissionRepository.getReferenceById("user"));
+        userRepository.save(user);
+    }
+
+    @Test
+    void loginPathIsExposedInPrometheusFormat() throws Exception {
+        mockMvc.perform(formLogin("/user/login").userParameter("userId").user("metricsuser").password("wrong"));
+        mockMvc.perform(formLogin("/user/login").userParameter("userId").user("metricsuser").password("password1234"));
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("realty_login_failure_total{application=\"realty\",reason=\"bad.credentials\"} 1.0")
+                .contains("realty_login_success_total{application=\"realty\"} 1.0")
+                // 로그인 사용자 조회와 BCrypt 검증 시간은 히스토그램 버킷으로 기록
+                .contains("realty_auth_load_user_seconds_bucket")
+                .contains("realty_password_hash_seconds_bucket")
+                .contains("executor_queued_tasks{application=\"realty\",name=\"password-hash\"}")
+                .contains("realty_mail_queue_depth")
+                .contains("realty_mail_outbox_pending")
+                .contains("realty_sessions_active")
+                .contains("cache_gets_total{application=\"realty\",cache=\"userAuth\",result=\"miss\"}")
+                .contains("hikaricp_connections_active");
+    }
+}
@@ -0,0 +1,111 @@
+package com.riskview.realty.support;
+
+import com.riskview.realty.domain.CustomUserDetails;
+import com.riskview.realty.domain.repository.RolePermissionRepository;
+import com.riskview.realty.domain.repository.UserRepository;
+import com.riskview.realty.model.User;
+import com.riskview.realty.service.CustomUserDetailsService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+
+/**
+ * 접두어 없는 기존 BCrypt 해시가 로그인 성공 시 새 형식({bcrypt})으로 교체되는지 확인하는 테스트
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PasswordUpgradeTests {
+
+    private static final String PASSWORD = "password1234";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RolePermissionRepository rolePermissionRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserAuthCache userAuthCache;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        userAuthCache.invalidateAll();
+    }
+
+    @Test
+    void legacyHashIsUpgradedOnLogin() throws Exception {
+        // 이전 버전이 저장한 형식(접두어 없음)
+        String legacyHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        saveUser("legacyuser", legacyHash);
+
+        mockMvc.perform(formLogin("/user/login").userParameter("userId").user("legacyuser").password(PASSWORD))
+                .andExpect(redirectedUrl("/"));
+
+        User upgraded = userRepository.findByUserId("legacyuser").orElseThrow();
+        String stored = upgraded.getPasswordHash();
+        assertThat(stored).startsWith("{bcrypt}");
+        // 수정 화면에서 예전 버전으로 덮어쓰지 않도록 버전도 올림
+        assertThat(upgraded.getVersion()).isEqualTo(1);
+        assertThat(passwordEncoder.matches(PASSWORD, stored)).isTrue();
+
+        // 교체된 해시로 다시 로그인 가능
+        mockMvc.perform(formLogin("/user/login").userParameter("userId").user("legacyuser").password(PASSWORD))
+                .andExpect(redirectedUrl("/"));
+        assertThat(userRepository.findByUserId("legacyuser").orElseThrow().getPasswordHash()).isEqualTo(stored);
+    }
+
+    @Test
+    void rehashDoesNotOverwritePasswordChangedAfterLogin() {
+        String legacyHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        saveUser("raceuser", legacyHash);
+        CustomUserDetails loggedIn = (CustomUserDetails) customUserDetailsService.loadUserByUsername("raceuser");
+
+        // 로그인 검증과 해시 교체 사이에 다른 요청이 비밀번호를 바꿈
+        User user = userRepository.findByUserId("raceuser").orElseThrow();
+        String changedHash = passwordEncoder.encode("changed5678");
+        user.setPasswordHash(changedHash);
+        user = userRepository.save(user);
+
+        CustomUserDetails result = (CustomUserDetails) customUserDetailsService.updatePassword(loggedIn,
+                passwordEncoder.encode(PASSWORD));
+
+        User stored = userRepository.findByUserId("raceuser").orElseThrow();
+        assertThat(stored.getPasswordHash()).isEqualTo(changedHash);
+        assertThat(stored.getVersion()).isEqualTo(user.getVersion());
+        assertThat(result.getPassword()).isEqualTo(legacyHash);
+    }
+
+    private void saveUser(String userId, String passwordHash) {
+        User user = new User();
+        user.setUserId(userId);
+        user.setUserCode("U00000001");
+        user.setUserNickname(userId);
+        user.setEmail(userId + "@realty.local");
+        user.setName(userId);
+        user.setPasswordHash(passwordHash);
+        user.setRole(rolePermissionRepository.getReferenceById("user"));
+        userRepository.save(user);
+    }
+}
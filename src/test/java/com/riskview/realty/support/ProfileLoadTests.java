@@ -0,0 +1,57 @@
+package com.riskview.realty.support;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기본 설정, prod, prod,bench 프로필로 각각 애플리케이션을 띄워 시작 시간과 로그인, 페이지 요청 처리량 비교
+ * 데이터베이스는 H2(MariaDB 모드)로 바꾸고, 해싱 비용이 결과를 가리지 않도록 BCrypt cost는 모두 4로 맞춤
+ * 결과는 build/reports/load/profiles.txt에 저장
+ * 실행: ./gradlew loadTest
+ */
+@Tag("load")
+class ProfileLoadTests {
+
+    private static final int CLIENTS = 50;
+    private static final int USERS = 300;
+    private static final int PAGE_VIEWS = 3000;
+    private static final String PASSWORD = "password1234";
+
+    @Test
+    void comparesStartupAndThroughputPerProfile() throws Exception {
+        // 처음 띄우는 프로필만 클래스 로딩, JIT 비용을 떠안지 않도록 한 번 띄웠다가 버림
+        RunningApplication.start("profiles-warmup", "prod").close();
+
+        List<String> lines = new ArrayList<>();
+        for (String profiles : List.of("", "prod", "prod,bench")) {
+            String name = profiles.isEmpty() ? "default" : profiles;
+            try (RunningApplication app = RunningApplication.start("profiles-" + name.replace(',', '-'), profiles,
+                    "--realty.password.bcrypt.cost=4",
+                    "--realty.rate-limit.enabled=false",
+                    "--realty.crypto.queue-capacity=" + CLIENTS)) {
+                LoadRunner.Result register = LoadRunner.run(name + " register", CLIENTS, USERS,
+                        i -> app.register("profile" + i, PASSWORD));
+                LoadRunner.Result login = LoadRunner.run(name + " login", CLIENTS, USERS,
+                        i -> app.login("profile" + i, PASSWORD));
+                LoadRunner.Result page = LoadRunner.run(name + " GET /user/login", CLIENTS, PAGE_VIEWS,
+                        i -> app.get("/user/login").statusCode() == 200);
+
+                lines.add(String.format("%-36s startup=%dms", name, app.startupMillis()));
+                lines.add(register.line());
+                lines.add(login.line());
+                lines.add(page.line());
+
+                assertThat(register.failures()).isZero();
+                assertThat(login.failures()).isZero();
+                assertThat(page.failures()).isZero();
+            }
+        }
+        LoadRunner.report("profiles.txt", "JDK " + Runtime.version() + ", " + CLIENTS + " clients, "
+                + Runtime.getRuntime().availableProcessors() + " cores", lines);
+    }
+}
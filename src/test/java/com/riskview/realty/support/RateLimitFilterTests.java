@@ -0,0 +1,137 @@
+package com.riskview.realty.support;
+
+import com.riskview.realty.domain.repository.EmailOutboxRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 요청을 몰아서 보냈을 때 제한을 넘은 요청이 데이터베이스 작업 없이 429로 거절되는지 확인하는 테스트
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "realty.rate-limit.send-code.per-ip=100/1m",
+        "realty.rate-limit.send-code.per-email=3/10m",
+        "realty.rate-limit.login.per-ip=100/1m",
+        "realty.rate-limit.login.per-user=2/5m"
+})
+class RateLimitFilterTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        emailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    void verificationFloodIsThrottledPerEmail() throws Exception {
+        int tooMany = 0;
+        for (int i = 0; i < 20; i++) {
+            int status = mockMvc.perform(post("/user/send-verification-code").param("email", "Flood@Realty.local"))
+                    .andReturn().getResponse().getStatus();
+            if (status == 429) {
+                tooMany++;
+            }
+        }
+
+        assertThat(tooMany).isEqualTo(17);
+        // 허용된 3건만 메일 아웃박스에 저장됨
+        assertThat(emailOutboxRepository.count()).isEqualTo(3);
+        // 다른 이메일은 영향을 받지 않음
+        assertThat(mockMvc.perform(post("/user/send-verification-code").param("email", "other@realty.local"))
+                .andReturn().getResponse().getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void loginFloodIsRejectedBeforeAnyQuery() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(formLogin("/user/login").userParameter("userId").user("flooduser").password("wrong"));
+        }
+
+        statistics.clear();
+        var response = mockMvc.perform(formLogin("/user/login").userParameter("userId").user("flooduser").password("wrong"))
+                .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void loginLimitIsPerIpAndUserAndKeepsIpTokens() throws Exception {
+        // 같은 IP에서 한 사용자로 계속 시도하면 사용자 규칙(2/5m)에 걸림
+        int tooMany = 0;
+        for (int i = 0; i < 150; i++) {
+            if (login("10.0.0.3", "victim") == 429) {
+                tooMany++;
+            }
+        }
+        assertThat(tooMany).isEqualTo(148);
+
+        // 거절된 시도는 IP 토큰(100/1m)을 쓰지 않으므로 같은 IP의 다른 사용자는 로그인 가능
+        assertThat(login("10.0.0.3", "neighbor")).isNotEqualTo(429);
+        // 다른 IP에서의 시도 때문에 사용자가 로그인하지 못하는 일은 없음
+        assertThat(login("10.0.0.4", "victim")).isNotEqualTo(429);
+    }
+
+    private int login(String ip, String userId) throws Exception {
+        return mockMvc.perform(post("/user/login").param("userId", userId).param("password", "wrong").with(csrf())
+                        .with(request -> {
+                            request.setRemoteAddr(ip);
+                            return request;
+                        }))
+                .andReturn().getResponse().getStatus();
+    }
+
+    @Test
+    void encodedPathSpellingsShareTheSameLimit() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/user/send-verification-code").param("email", "encoded@realty.local"));
+        }
+        // 인코딩하거나 끝에 슬래시를 붙인 경로도 같은 규칙으로 제한
+        for (String path : new String[] { "/user/send-verification-cod%65", "/user/%73end-verification-code",
+                "/user/send-verification-code/", "/user/send-verification-code;x=1" }) {
+            assertThat(mockMvc.perform(post(URI.create(path)).param("email", "encoded@realty.local"))
+                    .andReturn().getResponse().getStatus()).as(path).isEqualTo(429);
+        }
+
+        for (int i = 0; i < 2; i++) {
+            login("10.0.0.5", "encodedvictim");
+        }
+        assertThat(mockMvc.perform(post(URI.create("/user/%6cogin")).param("userId", "encodedvictim")
+                        .param("password", "wrong").with(csrf()).with(request -> {
+                            request.setRemoteAddr("10.0.0.5");
+                            return request;
+                        }))
+                .andReturn().getResponse().getStatus()).isEqualTo(429);
+    }
+}
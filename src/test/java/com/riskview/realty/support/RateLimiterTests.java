@@ -0,0 +1,66 @@
+package com.riskview.realty.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTests {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allowsBurstThenRefillsOverPeriod() {
+        RateLimiter limiter = RateLimiter.parse("3/3s", 100);
+        long now = 0;
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("a", now)).isZero();
+        }
+        // 버킷이 비면 다음 토큰까지 남은 시간을 반환
+        assertThat(limiter.tryAcquire("a", now)).isEqualTo(SECOND);
+        // 다른 키는 영향을 받지 않음
+        assertThat(limiter.tryAcquire("b", now)).isZero();
+
+        // 1초 뒤 토큰 하나 채워짐
+        assertThat(limiter.tryAcquire("a", now + SECOND)).isZero();
+        assertThat(limiter.tryAcquire("a", now + SECOND)).isPositive();
+    }
+
+    @Test
+    void keyCountIsBounded() {
+        RateLimiter limiter = new RateLimiter(1, Duration.ofMinutes(1), 10);
+        for (int i = 0; i < 1000; i++) {
+            limiter.tryAcquire("key" + i, i);
+        }
+        assertThat(limiter.size()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    void throttledKeySurvivesKeyFlood() {
+        RateLimiter limiter = new RateLimiter(5, Duration.ofMinutes(5), 10);
+        long now = 0;
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("attacker", now);
+        }
+        assertThat(limiter.tryAcquire("attacker", now)).isPositive();
+
+        // 토큰을 하나씩만 쓴 새 키를 대량으로 만들어도, 토큰을 모두 쓴 키는 채워지는 시각이 가장 늦으므로 남음
+        for (int i = 0; i < 1000; i++) {
+            limiter.tryAcquire("spray" + i, now + i);
+        }
+        assertThat(limiter.tryAcquire("attacker", now + 1000)).isPositive();
+        assertThat(limiter.check("attacker", now + 1000)).isPositive();
+    }
+
+    @Test
+    void checkDoesNotUseToken() {
+        RateLimiter limiter = RateLimiter.parse("1/1m", 100);
+        assertThat(limiter.check("a", 0)).isZero();
+        assertThat(limiter.check("a", 0)).isZero();
+        assertThat(limiter.tryAcquire("a", 0)).isZero();
+        assertThat(limiter.check("a", 0)).isPositive();
+    }
+}
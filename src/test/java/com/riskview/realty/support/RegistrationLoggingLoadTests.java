@@ -0,0 +1,49 @@
+package com.riskview.realty.support;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 회원가입 200건에서 요청 처리 로그(register.request, register.success 등)를 남길 때와 끈 때의 처리량 비교
+ * 로그는 비동기 어펜더로 보내므로 요청 스레드가 콘솔 출력을 기다리지 않아 두 결과의 차이가 작아야 함
+ * 결과는 build/reports/load/registration-logging.txt에 저장
+ * 실행: ./gradlew loadTest
+ */
+@Tag("load")
+class RegistrationLoggingLoadTests {
+
+    private static final int CLIENTS = 200;
+    private static final int USERS = 1000;
+    private static final String PASSWORD = "password1234";
+
+    @Test
+    void loggingCostsLittleThroughputAtTwoHundredConcurrentRegistrations() throws Exception {
+        List<String> lines = new ArrayList<>();
+        List<LoadRunner.Result> results = new ArrayList<>();
+        for (String level : List.of("WARN", "INFO")) {
+            try (RunningApplication app = RunningApplication.start("logging-" + level, "prod",
+                    "--logging.level.com.riskview.realty=" + level,
+                    "--realty.password.bcrypt.cost=4",
+                    "--realty.rate-limit.enabled=false",
+                    "--realty.crypto.queue-capacity=" + CLIENTS)) {
+                // 측정 전에 한 번 가입시켜 JIT, 커넥션 풀 준비
+                LoadRunner.run("warmup", CLIENTS, CLIENTS, i -> app.register("warm" + i, PASSWORD));
+                LoadRunner.Result result = LoadRunner.run("register (app log " + level + ")", CLIENTS, USERS,
+                        i -> app.register("log" + i, PASSWORD));
+                lines.add(result.line());
+                results.add(result);
+                assertThat(result.failures()).isZero();
+            }
+        }
+        LoadRunner.report("registration-logging.txt", "JDK " + Runtime.version() + ", " + CLIENTS + " clients, "
+                + Runtime.getRuntime().availableProcessors() + " cores", lines);
+
+        // 요청마다 로그를 남겨도 처리량이 크게 떨어지지 않음
+        assertThat(results.get(1).throughput()).isGreaterThan(results.get(0).throughput() * 0.7);
+    }
+}
@@ -0,0 +1,40 @@
+package com.riskview.realty.support;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프록시가 넘긴 요청 ID 중 허용된 형식만 로그와 응답 헤더에 그대로 쓰이는지 확인하는 테스트
+ */
+class RequestIdFilterTests {
+
+    private final RequestIdFilter filter = new RequestIdFilter();
+
+    @Test
+    void keepsWellFormedRequestId() throws Exception {
+        assertThat(requestIdFor("abc-123-DEF")).isEqualTo("abc-123-DEF");
+        assertThat(requestIdFor("a".repeat(64))).isEqualTo("a".repeat(64));
+    }
+
+    @Test
+    void replacesMalformedRequestId() throws Exception {
+        // 줄바꿈으로 가짜 로그 줄을 만들거나, 공백, 특수문자, 긴 값을 넣은 경우
+        for (String forged : new String[] { "abc\n2026-01-01 ERROR forged", "abc def", "abc;rm", "${jndi:x}",
+                "a".repeat(65), "" }) {
+            String requestId = requestIdFor(forged);
+            assertThat(requestId).isNotEqualTo(forged).matches("[0-9a-f]{16}");
+        }
+    }
+
+    private String requestIdFor(String header) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(RequestIdFilter.HEADER, header);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getHeader(RequestIdFilter.HEADER);
+    }
+}
@@ -0,0 +1,124 @@
+package com.riskview.realty.support;
+
+import com.riskview.realty.RealtyApplication;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트용으로 실제 포트에서 실행하는 애플리케이션
+ * 지정한 프로필(prod, bench 등)로 띄우되 데이터베이스만 전용 H2(MariaDB 모드)로 바꾸고, 시작 시간 기록
+ * 요청은 리다이렉트를 따라가지 않는 HTTP 클라이언트로 보냄
+ */
+public final class RunningApplication implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+    private final long startupMillis;
+    private final String baseUrl;
+    private final HttpClient client = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private RunningApplication(ConfigurableApplicationContext context, long startupMillis) {
+        this.context = context;
+        this.startupMillis = startupMillis;
+        this.baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    /**
+     * 애플리케이션 시작
+     * @param name 데이터베이스 이름(실행마다 다르게)
+     * @param profiles 활성화할 프로필(빈 문자열이면 기본 설정)
+     * @param properties 추가 설정(--key=value, 프로필 설정보다 우선)
+     */
+    public static RunningApplication start(String name, String profiles, String... properties) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.profiles.active=" + profiles,
+                "--spring.datasource.url=jdbc:h2:mem:" + name + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--server.port=0",
+                "--management.server.port=0",
+                "--realty.documents.storage-dir=" + System.getProperty("java.io.tmpdir") + "/realty-load-documents"));
+        args.addAll(List.of(properties));
+        long begin = System.nanoTime();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(RealtyApplication.class)
+                .run(args.toArray(new String[0]));
+        return new RunningApplication(context, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+    }
+
+    public long startupMillis() {
+        return startupMillis;
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * 폼 전송(application/x-www-form-urlencoded)
+     * @param fields 이름, 값을 번갈아 나열
+     */
+    public HttpResponse<String> postForm(String path, String... fields) throws IOException, InterruptedException {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < fields.length; i += 2) {
+            if (body.length() > 0) {
+                body.append('&');
+            }
+            body.append(URLEncoder.encode(fields[i], StandardCharsets.UTF_8)).append('=')
+                    .append(URLEncoder.encode(fields[i + 1], StandardCharsets.UTF_8));
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * 로그인(성공하면 "/"로 리다이렉트)
+     * @return 성공했으면 true
+     */
+    public boolean login(String userId, String password) throws IOException, InterruptedException {
+        HttpResponse<String> response = postForm("/user/login", "userId", userId, "password", password);
+        return response.statusCode() == 302
+                && response.headers().firstValue("Location").filter(location -> location.endsWith("/")).isPresent();
+    }
+
+    /**
+     * 회원가입(인증 코드는 메일 대신 저장소에 바로 저장)
+     * @return 가입 성공 화면을 받았으면 true
+     */
+    public boolean register(String userId, String password) throws IOException, InterruptedException {
+        String email = userId + "@realty.local";
+        bean(VerificationCodeStore.class).save(email, "ABC123", Duration.ofMinutes(30));
+        HttpResponse<String> response = postForm("/user/register", "userId", userId, "userNickname", userId,
+                "name", userId, "email", email, "password", password, "passwordConfirm", password,
+                "verificationCode", "ABC123");
+        return response.statusCode() == 200 && response.body().contains("회원가입 성공");
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,34 @@
+package com.riskview.realty.support;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MockMvc 요청이 컨트롤러 메서드에 선언된 SQL 예산(@SqlBudget)을 지켰는지 확인하는 도우미
+ * 사용 예: mockMvc.perform(get("/user/modify")).andExpect(withinSqlBudget());
+ */
+public final class SqlBudgetMatchers {
+
+    private SqlBudgetMatchers() {
+    }
+
+    /**
+     * 컨트롤러 메서드에 예산이 선언되어 있고 실행한 SQL 수가 예산 이하인지 확인
+     */
+    public static ResultMatcher withinSqlBudget() {
+        return result -> {
+            Object attribute = result.getRequest().getAttribute(SqlBudgetInterceptor.RESULT_ATTRIBUTE);
+            assertThat(attribute)
+                    .as("SQL 예산 확인 결과가 없음(컨트롤러가 호출되지 않았거나 SQL 통계가 꺼져 있음)")
+                    .isInstanceOf(SqlBudgetInterceptor.Result.class);
+            SqlBudgetInterceptor.Result budget = (SqlBudgetInterceptor.Result) attribute;
+            assertThat(budget.declared())
+                    .as("%s에 @SqlBudget이 선언되지 않음", budget.handler())
+                    .isTrue();
+            assertThat(budget.statements())
+                    .as("%s의 SQL 수가 예산(%d)을 초과함", budget.handler(), budget.budget())
+                    .isLessThanOrEqualTo(budget.budget());
+        };
+    }
+}
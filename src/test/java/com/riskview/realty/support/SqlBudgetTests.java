@@ -0,0 +1,250 @@
+package com.riskview.realty.support;
+
+import com.riskview.realty.controller.AdminController;
+import com.riskview.realty.controller.AnalysisController;
+import com.riskview.realty.controller.BoardController;
+import com.riskview.realty.controller.DocumentController;
+import com.riskview.realty.controller.HomeController;
+import com.riskview.realty.controller.UserController;
+import com.riskview.realty.domain.repository.RolePermissionRepository;
+import com.riskview.realty.domain.repository.UserRepository;
+import com.riskview.realty.model.User;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static com.riskview.realty.support.SqlBudgetMatchers.withinSqlBudget;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 컨트롤러 메서드가 선언한 SQL 예산(@SqlBudget)을 지키는지 확인하는 테스트
+ * 인증코드 저장소에 따라 SQL 수가 달라지므로 memory 저장소(기본)와 jdbc 저장소(JdbcVerificationStore)에서 모두 실행
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SqlBudgetTests {
+
+    private static final String PASSWORD = "password1234";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RolePermissionRepository rolePermissionRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private SqlStatsRegistry sqlStatsRegistry;
+
+    @Autowired
+    private VerificationCodeStore verificationCodeStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        deleteDocuments();
+        userRepository.deleteAll();
+        // 가입 테스트에서 시퀀스로 발급하는 사용자 코드와 겹치지 않는 번호 사용
+        saveUser("budgetuser", "U90000001", "user");
+        saveUser("budgetadmin", "U90000002", "admin");
+    }
+
+    // 다른 테스트가 사용자를 지울 수 있도록 사용자를 참조하는 문서 행 정리
+    @AfterEach
+    void deleteDocuments() {
+        jdbcTemplate.update("DELETE FROM documents");
+        jdbcTemplate.update("DELETE FROM document_blobs");
+    }
+
+    @Test
+    void everyHandlerDeclaresBudget() {
+        Set<Class<?>> controllers = Set.of(UserController.class, AdminController.class, BoardController.class,
+                HomeController.class, DocumentController.class, AnalysisController.class);
+        List<String> missing = handlerMapping.getHandlerMethods().values().stream()
+                .filter(handler -> controllers.contains(handler.getBeanType()))
+                .filter(handler -> !AnnotatedElementUtils.hasAnnotation(handler.getMethod(), SqlBudget.class)
+                        && !AnnotatedElementUtils.hasAnnotation(handler.getBeanType(), SqlBudget.class))
+                .map(handler -> handler.getShortLogMessage())
+                .toList();
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    void publicPagesStayWithinBudget() throws Exception {
+        for (String page : List.of("/board/about", "/board/analysis", "/board/community",
+                "/board/news", "/user/login", "/user/register")) {
+            mockMvc.perform(get(page)).andExpect(withinSqlBudget());
+        }
+        mockMvc.perform(post("/user/send-verification-code").param("email", "budget@realty.local").with(csrf()))
+                .andExpect(withinSqlBudget());
+    }
+
+    @Test
+    void signedInPagesStayWithinBudget() throws Exception {
+        Cookie session = login("budgetuser");
+
+        mockMvc.perform(get("/").cookie(session)).andExpect(withinSqlBudget());
+        mockMvc.perform(get("/user/modify").cookie(session)).andExpect(withinSqlBudget());
+        mockMvc.perform(get("/user/delete_account").cookie(session)).andExpect(withinSqlBudget());
+
+        long version = userRepository.findVersionByUserId("budgetuser").orElseThrow();
+        mockMvc.perform(post("/user/modify").cookie(session).with(csrf())
+                        .param("userId", "budgetuser")
+                        .param("email", "budgetuser@realty.local")
+                        .param("name", "budget")
+                        .param("userNickname", "changed")
+                        .param("currentPassword", PASSWORD)
+                        .param("version", String.valueOf(version)))
+                .andExpect(redirectedUrl("/user/modify"))
+                .andExpect(withinSqlBudget());
+    }
+
+    @Test
+    void registrationStaysWithinBudget() throws Exception {
+        verificationCodeStore.save("budgetnew@realty.local", "ABC123", Duration.ofMinutes(5));
+        mockMvc.perform(post("/user/verify-email-code").with(csrf())
+                        .param("email", "budgetnew@realty.local")
+                        .param("code", "ABC123"))
+                .andExpect(status().isOk())
+                .andExpect(withinSqlBudget());
+
+        // 틀린 코드(시도 횟수만 늘어남)와 맞는 코드(사용 처리 + 저장)
+        for (String code : List.of("ZZZZZZ", "ABC123")) {
+            mockMvc.perform(post("/user/register").with(csrf())
+                            .param("userId", "budgetnew")
+                            .param("userNickname", "budgetnew")
+                            .param("email", "budgetnew@realty.local")
+                            .param("name", "budget")
+                            .param("password", PASSWORD)
+                            .param("passwordConfirm", PASSWORD)
+                            .param("verificationCode", code))
+                    .andExpect(withinSqlBudget());
+        }
+        assertThat(userRepository.findByUserId("budgetnew")).isPresent();
+    }
+
+    @Test
+    void signedInMutationsStayWithinBudget() throws Exception {
+        Cookie session = login("budgetuser");
+
+        mockMvc.perform(multipart("/documents").file(new MockMultipartFile("file", "budget.txt", "text/plain",
+                        "budget".getBytes(StandardCharsets.UTF_8))).cookie(session).with(csrf()))
+                .andExpect(redirectedUrl("/documents"))
+                .andExpect(withinSqlBudget());
+        // 일반 사용자 역할은 삭제 권한(can_delete)이 없으므로 관리자가 삭제(마지막 참조라 내용까지 삭제)
+        Long documentSeq = jdbcTemplate.queryForObject("SELECT document_seq FROM documents", Long.class);
+        mockMvc.perform(post("/documents/" + documentSeq + "/delete").cookie(login("budgetadmin")).with(csrf()))
+                .andExpect(redirectedUrl("/documents"))
+                .andExpect(withinSqlBudget());
+
+        User user = userRepository.findByUserId("budgetuser").orElseThrow();
+        mockMvc.perform(post("/user/delete_account").cookie(session).with(csrf())
+                        .param("userId", "budgetuser")
+                        .param("userCode", user.getUserCode()))
+                .andExpect(redirectedUrl("/"))
+                .andExpect(withinSqlBudget());
+    }
+
+    @Test
+    void adminMutationsStayWithinBudget() throws Exception {
+        Cookie session = login("budgetadmin");
+        long userSeq = userRepository.findByUserId("budgetuser").orElseThrow().getUserSeq();
+
+        mockMvc.perform(post("/admin/users/bulk").cookie(session).with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"operation\":\"DEACTIVATE\",\"userSeqs\":[" + userSeq + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(withinSqlBudget());
+        mockMvc.perform(get("/admin/users/export").param("format", "csv").cookie(session))
+                .andExpect(status().isOk())
+                .andExpect(withinSqlBudget());
+        mockMvc.perform(post("/admin/roles/refresh").cookie(session).with(csrf()))
+                .andExpect(withinSqlBudget());
+    }
+
+    @Test
+    void adminReportsSqlStatsPerEndpoint() throws Exception {
+        Cookie session = login("budgetadmin");
+        mockMvc.perform(get("/admin").cookie(session)).andExpect(withinSqlBudget());
+        mockMvc.perform(get("/admin/manage-users").param("deleted", "false").cookie(session))
+                .andExpect(withinSqlBudget());
+
+        // 세션 조회 SQL은 컨트롤러 예산과 별도로 집계됨
+        assertThat(sqlStatsRegistry.snapshot())
+                .filteredOn(stats -> stats.endpoint().equals("GET /admin"))
+                .singleElement()
+                .satisfies(stats -> assertThat(stats.sessionStatements()).isPositive());
+
+        mockMvc.perform(get("/admin/sql-stats").cookie(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.endpoint == 'GET /admin')]").exists())
+                .andExpect(withinSqlBudget());
+    }
+
+    private Cookie login(String userId) throws Exception {
+        Cookie session = mockMvc.perform(formLogin("/user/login").userParameter("userId").user(userId).password(PASSWORD))
+                .andExpect(redirectedUrl("/"))
+                .andReturn().getResponse().getCookie("SESSION");
+        assertThat(session).isNotNull();
+        return session;
+    }
+
+    private void saveUser(String userId, String userCode, String role) {
+        User user = new User();
+        user.setUserId(userId);
+        user.setUserCode(userCode);
+        user.setUserNickname(userId);
+        user.setEmail(userId + "@realty.local");
+        user.setName(userId);
+        user.setPasswordHash(passwordEncoder.encode(PASSWORD));
+        user.setRole(rolePermissionRepository.getReferenceById(role));
+        userRepository.save(user);
+    }
+
+    /**
+     * jdbc 인증코드 저장소(운영 설정)에서 같은 예산 확인
+     */
+    @TestPropertySource(properties = "realty.verification.store=jdbc")
+    static class JdbcVerificationStore extends SqlBudgetTests {
+    }
+}
@@ -0,0 +1,57 @@
+package com.riskview.realty.support;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드(prod,bench)와 가상 스레드(prod,bench,virtual) 모드에서 회원가입, 로그인의 처리량과 p99 지연 시간 비교
+ * 동시 클라이언트 수는 Tomcat 최대 스레드 수(prod 200)보다 많게 하여 플랫폼 스레드 모드에서 요청이 대기하도록 함
+ * 결과는 build/reports/load/thread-modes.txt에 저장
+ * 실행: ./gradlew virtualThreadTest(JDK 21)
+ */
+@Tag("virtual")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class ThreadModeLoadTests {
+
+    private static final int CLIENTS = 400;
+    private static final int USERS = 1200;
+    private static final String PASSWORD = "password1234";
+
+    @Test
+    void comparesPlatformAndVirtualThreads() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (String mode : List.of("platform", "virtual")) {
+            String profiles = mode.equals("virtual") ? "prod,bench,virtual" : "prod,bench";
+            try (RunningApplication app = RunningApplication.start("threads-" + mode, profiles,
+                    "--realty.password.bcrypt.cost=8",
+                    "--realty.rate-limit.enabled=false",
+                    // 측정 중에는 해싱 대기열이 가득 차서 거절되지 않도록 함
+                    "--realty.crypto.queue-capacity=" + CLIENTS,
+                    "--realty.crypto.max-wait=60s")) {
+                assertThat(Threading.VIRTUAL.isActive(app.bean(Environment.class)))
+                        .isEqualTo(mode.equals("virtual"));
+
+                LoadRunner.Result register = LoadRunner.run(mode + " register", CLIENTS, USERS,
+                        i -> app.register(mode + i, PASSWORD));
+                LoadRunner.Result login = LoadRunner.run(mode + " login", CLIENTS, USERS,
+                        i -> app.login(mode + i, PASSWORD));
+                lines.add(register.line());
+                lines.add(login.line());
+
+                assertThat(register.failures()).isZero();
+                assertThat(login.failures()).isZero();
+            }
+        }
+        LoadRunner.report("thread-modes.txt", "JDK " + Runtime.version() + ", " + CLIENTS + " clients, "
+                + Runtime.getRuntime().availableProcessors() + " cores", lines);
+    }
+}
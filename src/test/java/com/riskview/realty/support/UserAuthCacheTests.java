@@ -0,0 +1,96 @@
+package com.riskview.realty.support;
+
+import com.riskview.realty.domain.UserAuthInfo;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 중에 제거된 사용자 정보가 이전 값으로 다시 캐시되지 않는지, TTL 만료와 LRU 제거, 캐시 메트릭을 확인하는 테스트
+ */
+class UserAuthCacheTests {
+
+    private final UserAuthCache cache = new UserAuthCache(100, Duration.ofSeconds(30));
+
+    @Test
+    void doesNotCacheLoadThatRacedWithInvalidate() {
+        // 조회가 끝나기 전에 다른 요청이 비밀번호를 바꾸고 캐시를 비운 경우
+        Optional<UserAuthInfo> loaded = cache.get("member", userId -> {
+            cache.invalidate(userId);
+            return Optional.of(info("{bcrypt}old"));
+        });
+
+        assertThat(loaded).map(UserAuthInfo::getPasswordHash).contains("{bcrypt}old");
+        assertThat(cache.getIfPresent("member")).isNull();
+
+        cache.get("member", userId -> Optional.of(info("{bcrypt}new")));
+        assertThat(cache.getIfPresent("member")).extracting(UserAuthInfo::getPasswordHash).isEqualTo("{bcrypt}new");
+    }
+
+    @Test
+    void entryExpiresAfterTtl() {
+        MutableClock clock = new MutableClock();
+        UserAuthCache cache = new UserAuthCache(100, Duration.ofSeconds(30), clock);
+        cache.put(info("member", "{bcrypt}hash"));
+
+        clock.advance(Duration.ofSeconds(30));
+        assertThat(cache.getIfPresent("member")).isNotNull();
+
+        clock.advance(Duration.ofMillis(1));
+        assertThat(cache.getIfPresent("member")).isNull();
+        assertThat(cache.getStats()).isEqualTo(new UserAuthCache.Stats(0, 1, 1, 1));
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedAtMaxSize() {
+        UserAuthCache cache = new UserAuthCache(2, Duration.ofSeconds(30), new MutableClock());
+        cache.put(info("first", "{bcrypt}1"));
+        cache.put(info("second", "{bcrypt}2"));
+        // first를 조회하여 second가 가장 오래 사용되지 않은 항목이 됨
+        assertThat(cache.getIfPresent("first")).isNotNull();
+
+        cache.put(info("third", "{bcrypt}3"));
+
+        assertThat(cache.getIfPresent("second")).isNull();
+        assertThat(cache.getIfPresent("first")).isNotNull();
+        assertThat(cache.getIfPresent("third")).isNotNull();
+        assertThat(cache.getStats().size()).isEqualTo(2);
+        assertThat(cache.getStats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void exportsHitMissAndEvictionCounters() {
+        MutableClock clock = new MutableClock();
+        UserAuthCache cache = new UserAuthCache(1, Duration.ofSeconds(30), clock);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.get("first", userId -> Optional.of(info(userId, "{bcrypt}1"))); // miss
+        cache.get("first", userId -> Optional.of(info(userId, "{bcrypt}1"))); // hit
+        cache.get("second", userId -> Optional.of(info(userId, "{bcrypt}2"))); // miss, first 제거(크기 초과)
+        clock.advance(Duration.ofMinutes(1));
+        cache.get("second", userId -> Optional.empty()); // miss, second 제거(만료)
+
+        assertThat(registry.get("cache.gets").tags("cache", "userAuth", "result", "hit").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("cache.gets").tags("cache", "userAuth", "result", "miss").functionCounter().count())
+                .isEqualTo(3);
+        assertThat(registry.get("cache.evictions").tag("cache", "userAuth").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("cache.size").tag("cache", "userAuth").gauge().value()).isZero();
+    }
+
+    private static UserAuthInfo info(String passwordHash) {
+        return info("member", passwordHash);
+    }
+
+    private static UserAuthInfo info(String userId, String passwordHash) {
+        return new UserAuthInfo(1L, userId, "U1", userId + "@realty.local", passwordHash, userId, userId, false,
+                "user");
+    }
+}
@@ -0,0 +1,148 @@
+package com.riskview.realty.support;
+
+import com.riskview.realty.domain.dto.UserDTO;
+import com.riskview.realty.domain.repository.UserRepository;
+import com.riskview.realty.service.UserService;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+
+/**
+ * 가상 스레드에서 회원가입과 로그인을 실행하고 JFR로 캐리어 스레드 고정(pinning)을 기록하는 테스트
+ * 보고서는 build/reports/virtual-thread-pinning.txt에 저장되며,
+ * 라이브러리가 아닌 이 프로젝트 코드에서 고정이 발생하면 실패
+ * 가상 스레드가 없는 JDK 17에서는 실행되지 않으므로 JDK 21에서 실행하는 virtualThreadTest 태스크로 실행
+ * 실행: ./gradlew virtualThreadTest
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=true",
+        "realty.rate-limit.enabled=false"
+})
+@EnabledForJreRange(min = JRE.JAVA_21)
+@Tag("virtual")
+class VirtualThreadPinningTests {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.riskview.realty.";
+    private static final int USERS = 50;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VerificationCodeStore verificationCodeStore;
+
+    @Test
+    void registrationAndLoginDoNotPinInApplicationCode() throws Exception {
+        userRepository.deleteAll();
+        Path dump = Files.createTempFile("pinning", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(PINNED_EVENT).withStackTrace().withThreshold(Duration.ZERO);
+            recording.start();
+            runOnVirtualThreads();
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        Files.deleteIfExists(dump);
+        Map<String, Integer> bySource = new TreeMap<>();
+        List<String> inApplication = new ArrayList<>();
+        for (RecordedEvent event : events) {
+            if (!PINNED_EVENT.equals(event.getEventType().getName())) {
+                continue;
+            }
+            String source = firstNonJdkFrame(event);
+            bySource.merge(source, 1, Integer::sum);
+            if (source.startsWith(APP_PACKAGE)) {
+                inApplication.add(source);
+            }
+        }
+        writeReport(events.size(), bySource);
+
+        assertThat(inApplication).isEmpty();
+    }
+
+    private void runOnVirtualThreads() {
+        VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor("pinning-test-");
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            String userId = "vthread" + i;
+            futures.add(CompletableFuture.runAsync(() -> registerAndLogin(userId), executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    }
+
+    private void registerAndLogin(String userId) {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setUserId(userId);
+        userDTO.setUserNickname(userId);
+        userDTO.setName(userId);
+        userDTO.setEmail(userId + "@realty.local");
+        userDTO.setPassword("password1234");
+        verificationCodeStore.save(userDTO.getEmail(), "ABC123", Duration.ofMinutes(5));
+        userService.registerUser(userDTO, "ABC123");
+        try {
+            mockMvc.perform(formLogin("/user/login").userParameter("userId").user(userId).password("password1234"));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 고정을 일으킨 위치(스택 위에서부터 JDK가 아닌 첫 프레임)
+    private static String firstNonJdkFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "(no stack)";
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName();
+            }
+        }
+        return "(jdk only)";
+    }
+
+    private static void writeReport(int total, Map<String, Integer> bySource) throws Exception {
+        StringBuilder report = new StringBuilder("virtual thread pinned events: ").append(total).append('\n');
+        bySource.forEach((source, count) -> report.append(count).append('\t').append(source).append('\n'));
+        Path path = Path.of("build", "reports", "virtual-thread-pinning.txt");
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, report);
+    }
+}